@@ -33,6 +33,8 @@
 
 package megamek.client;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -58,11 +60,13 @@ import megamek.common.game.InGameObject;
 import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.net.connections.AbstractConnection;
+import megamek.common.net.compression.PacketCompression;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.preference.PreferenceManager;
@@ -453,6 +457,12 @@ public abstract class AbstractClient implements IClient {
             switch (packet.command()) {
                 case SERVER_GREETING:
                     connected = true;
+                    if ((packet.data().length > 0) && (connection != null)) {
+                        connection.setMarshallingType(packet.getIntValue(0));
+                    }
+                    if ((packet.data().length > 1) && (connection != null)) {
+                        connection.setCompression(PacketCompression.fromId(packet.getIntValue(1)));
+                    }
                     send(new Packet(PacketCommand.CLIENT_NAME, name, isBot()));
                     break;
                 case SERVER_CORRECT_NAME:
@@ -462,7 +472,11 @@ public abstract class AbstractClient implements IClient {
                     disconnected();
                     break;
                 case SERVER_VERSION_CHECK:
-                    send(new Packet(PacketCommand.CLIENT_VERSIONS, SuiteConstants.VERSION));
+                    send(new Packet(PacketCommand.CLIENT_VERSIONS,
+                          SuiteConstants.VERSION,
+                          new ArrayList<>(PacketMarshallerFactory.getInstance().getSupportedMarshallingTypes()),
+                          new ArrayList<>(PacketCompression.getSupportedIds()),
+                          PacketCompression.getDictionaryChecksum()));
                     break;
                 case ILLEGAL_CLIENT_VERSION:
                     final Version serverVersion = (Version) packet.getObject(0);
@@ -525,7 +539,7 @@ public abstract class AbstractClient implements IClient {
                     return false;
             }
             return true;
-        } catch (InvalidPacketDataException e) {
+        } catch (InvalidPacketDataException | IOException e) {
             logger.error("Invalid packet data:", e);
             return false;
         }
@@ -47,6 +47,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -118,6 +119,7 @@ import megamek.common.units.Crew;
 import megamek.common.units.DemolitionCharge;
 import megamek.common.units.Entity;
 import megamek.common.units.EntitySelector;
+import megamek.common.units.EntityStateChecksum;
 import megamek.common.units.FighterSquadron;
 import megamek.common.units.IBuilding;
 import megamek.common.units.UnitLocation;
@@ -537,7 +539,41 @@ public class Client extends AbstractClient {
         List<Entity> newEntities = packet.getEntityList(0);
         List<Entity> newOutOfGame = packet.getEntityList(1);
         Forces forces = packet.getForces(2);
+        replaceEntities(newEntities, newOutOfGame, forces);
+    }
+
+    /**
+     * Receives a delta entity update: the complete list of entity IDs, the entities that changed since the last list
+     * and the out-of-game entities and forces. Unchanged entities are kept from the current game. If the result
+     * doesn't match the server's checksum, the complete entity list is requested.
+     */
+    protected void receiveEntitiesDelta(Packet packet) throws InvalidPacketDataException {
+        List<Integer> entityIds = packet.getIntList(0);
+        Map<Integer, Entity> changedEntities = new HashMap<>();
+        for (Entity entity : packet.getEntityList(1)) {
+            changedEntities.put(entity.getId(), entity);
+        }
+
+        List<Entity> newEntities = new ArrayList<>(entityIds.size());
+        boolean complete = true;
+        for (int entityId : entityIds) {
+            Entity entity = changedEntities.containsKey(entityId) ? changedEntities.get(entityId)
+                  : game.getEntity(entityId);
+            if (entity == null) {
+                complete = false;
+            } else {
+                newEntities.add(entity);
+            }
+        }
+        replaceEntities(newEntities, packet.getEntityList(2), packet.getForces(3));
 
+        if (!complete || (EntityStateChecksum.of(newEntities) != packet.getIntValue(4))) {
+            LOGGER.info("Entity delta update does not match the server state, requesting the full entity list");
+            send(new Packet(PacketCommand.ENTITIES_RESYNC_REQUEST));
+        }
+    }
+
+    private void replaceEntities(List<Entity> newEntities, List<Entity> newOutOfGame, @Nullable Forces forces) {
         // Replace the entities in the game.
         if (forces != null) {
             game.setForces(forces);
@@ -1105,6 +1141,9 @@ public class Client extends AbstractClient {
                 case SENDING_ENTITIES:
                     receiveEntities(packet);
                     break;
+                case SENDING_ENTITIES_DELTA:
+                    receiveEntitiesDelta(packet);
+                    break;
                 case SENDING_REPORTS:
                 case SENDING_REPORTS_TACTICAL_GENIUS:
                     phaseReport = receiveReport(packet.getReportList(0));
@@ -34,13 +34,20 @@
 package megamek.client.bot.princess;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.CancellationException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 
 import megamek.client.bot.BotClient;
 import megamek.client.bot.princess.geometry.ConvexBoardArea;
@@ -63,6 +70,7 @@ import megamek.common.units.IAero;
 import megamek.common.units.Targetable;
 import megamek.common.units.Terrains;
 import megamek.common.util.BoardUtilities;
+import megamek.common.util.DaemonWorkerPool;
 import megamek.logging.MMLogger;
 
 /**
@@ -83,9 +91,12 @@ public class PathEnumerator {
     private AtomicBoolean mapHasBridges = null;
     private final Object BRIDGE_LOCK = new Object();
 
+    private final DaemonWorkerPool workers;
+
     public PathEnumerator(Princess owningPrincess, Game game) {
         owner = owningPrincess;
         this.game = game;
+        workers = new DaemonWorkerPool("Princess-path worker (" + owningPrincess.getName() + ")");
     }
 
     private Princess getOwner() {
@@ -159,6 +170,76 @@ public class PathEnumerator {
      * issues
      */
     public synchronized void recalculateMovesFor(final Entity mover) {
+        recalculateWithRetries(mover);
+    }
+
+    /**
+     * Calculates the moves of all the given units. With a parallelism above 1, the units are distributed over that
+     * many worker threads, otherwise they are calculated one after the other on the calling thread. Returns when the
+     * moves of all units have been calculated.
+     * <p>
+     * The workers only read the game; the caller must make sure that the game does not change while this runs, as
+     * Precognition does by pausing.
+     *
+     * @param movers      The units to calculate the moves of
+     * @param parallelism The number of worker threads; 0 or less means one per available processor
+     * @param aborted     Checked before each unit; when true, the remaining units are skipped
+     */
+    public synchronized void recalculateMovesFor(final Collection<Entity> movers, int parallelism,
+          BooleanSupplier aborted) {
+        if (parallelism <= 0) {
+            parallelism = Runtime.getRuntime().availableProcessors();
+        }
+        if ((parallelism == 1) || (movers.size() < 2)) {
+            for (Entity mover : movers) {
+                if (aborted.getAsBoolean()) {
+                    return;
+                }
+                recalculateWithRetries(mover);
+            }
+            return;
+        }
+
+        ExecutorService pool = workers.get(parallelism);
+        List<Future<?>> results = new ArrayList<>(movers.size());
+        try {
+            for (Entity mover : movers) {
+                results.add(pool.submit(() -> {
+                    if (!aborted.getAsBoolean()) {
+                        recalculateWithRetries(mover);
+                    }
+                }));
+            }
+        } catch (RejectedExecutionException e) {
+            // Shut down while submitting; wait for the units already submitted
+            logger.debug("Workers shut down, skipping the remaining units");
+        }
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException e) {
+                logger.error(e.getCause(), "recalculateMovesFor");
+            } catch (CancellationException e) {
+                // Shut down before this unit was started
+                logger.debug("Workers shut down, skipping the remaining units");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.error(e, "Interrupted while recalculating moves");
+                results.forEach(r -> r.cancel(true));
+                return;
+            }
+        }
+    }
+
+    /**
+     * Stops the worker threads of {@link #recalculateMovesFor(Collection, int, BooleanSupplier)}. A running
+     * recalculation skips the units that were not started yet. To be called when the owning bot stops.
+     */
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private void recalculateWithRetries(final Entity mover) {
         int retryCount = 0;
         boolean success = false;
 
@@ -75,6 +75,7 @@ import megamek.common.event.board.GameBoardChangeEvent;
 import megamek.common.event.entity.GameEntityChangeEvent;
 import megamek.common.event.player.GamePlayerChangeEvent;
 import megamek.common.event.player.GamePlayerChatEvent;
+import megamek.common.force.Forces;
 import megamek.common.game.Game;
 import megamek.common.game.GameTurn;
 import megamek.common.net.enums.PacketCommand;
@@ -82,6 +83,7 @@ import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.GameOptions;
 import megamek.common.planetaryConditions.PlanetaryConditions;
+import megamek.common.preference.PreferenceManager;
 import megamek.common.units.Entity;
 import megamek.common.units.IBuilding;
 import megamek.common.units.UnitLocation;
@@ -254,6 +256,9 @@ public class Precognition implements Runnable {
                 case SENDING_ENTITIES:
                     receiveEntities(c);
                     break;
+                case SENDING_ENTITIES_DELTA:
+                    receiveEntitiesDelta(c);
+                    break;
                 case SENDING_REPORTS:
                 case SENDING_REPORTS_TACTICAL_GENIUS:
                     getGame().addReports((List<Report>) c.getObject(0));
@@ -421,23 +426,23 @@ public class Precognition implements Runnable {
                     markUnitAsDirty(entity.getId());
                 }
             }
-            while (!getDirtyUnits().isEmpty()) {
-                // If Precog is done, just exit
-                if (getDone().get()) {
-                    return;
-                }
-
-                Integer entityId = getDirtyUnits().pollFirst();
-
-                if (entityId != null) {
-                    Entity entity = getGame().getEntity(entityId);
-                    if (entity != null) {
-                        LOGGER.debug("ensureToDate = recalculating paths for {}", entity.getDisplayName());
-                        getPathEnumerator().recalculateMovesFor(entity);
-                        LOGGER.debug("ensureToDate = finished recalculating paths for {}", entity.getDisplayName());
-                    }
+            // Collect all dirty units so that their paths can be calculated in parallel
+            List<Entity> dirtyEntities = new ArrayList<>();
+            Integer entityId;
+            while ((entityId = getDirtyUnits().pollFirst()) != null) {
+                Entity entity = getGame().getEntity(entityId);
+                if (entity != null) {
+                    dirtyEntities.add(entity);
                 }
             }
+            // If Precog is done, just exit
+            if (getDone().get() || dirtyEntities.isEmpty()) {
+                return;
+            }
+            LOGGER.debug("ensureToDate = recalculating paths for {} units", dirtyEntities.size());
+            getPathEnumerator().recalculateMovesFor(dirtyEntities,
+                  PreferenceManager.getClientPreferences().getBotPathThreads(), () -> getDone().get());
+            LOGGER.debug("ensureToDate = finished recalculating paths for {} units", dirtyEntities.size());
         } catch (Exception ignored) {
 
         }
@@ -477,6 +482,7 @@ public class Precognition implements Runnable {
 
     void signalDone() {
         getDone().set(true);
+        getPathEnumerator().shutdown();
     }
 
     /**
@@ -768,6 +774,31 @@ public class Precognition implements Runnable {
         }
     }
 
+    /**
+     * Applies a delta entity update, keeping unchanged entities from the current game. A checksum mismatch is left to
+     * the bot's client, which requests the full list that then reaches this game as well.
+     */
+    private void receiveEntitiesDelta(Packet packet) throws InvalidPacketDataException {
+        Map<Integer, Entity> changedEntities = new HashMap<>();
+        for (Entity entity : packet.getEntityList(1)) {
+            changedEntities.put(entity.getId(), entity);
+        }
+        List<Entity> newEntities = new ArrayList<>();
+        for (int entityId : packet.getIntList(0)) {
+            Entity entity = changedEntities.containsKey(entityId) ? changedEntities.get(entityId)
+                  : getGame().getEntity(entityId);
+            if (entity != null) {
+                newEntities.add(entity);
+            }
+        }
+        Forces forces = packet.getForces(3);
+        if (forces != null) {
+            getGame().setForces(forces);
+        }
+        getGame().setEntitiesVector(newEntities);
+        getGame().setOutOfGameEntitiesVector(packet.getEntityList(2));
+    }
+
     /**
      * Loads entity update data from the data in the net command.
      */
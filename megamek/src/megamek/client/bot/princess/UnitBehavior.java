@@ -35,10 +35,10 @@ package megamek.client.bot.princess;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.common.board.Coords;
 import megamek.common.units.Entity;
@@ -65,8 +65,9 @@ public class UnitBehavior {
         NoPathToDestination
     }
 
-    private final Map<Integer, BehaviorType> entityBehaviors = new HashMap<>();
-    private final Map<Integer, Deque<Coords>> entityWaypoints = new HashMap<>();
+    // Read by the path enumeration workers of the PathEnumerator
+    private final Map<Integer, BehaviorType> entityBehaviors = new ConcurrentHashMap<>();
+    private final Map<Integer, Deque<Coords>> entityWaypoints = new ConcurrentHashMap<>();
 
     /**
      * Worker function that calculates a unit's desired behavior
@@ -118,11 +119,13 @@ public class UnitBehavior {
      * Gets (and calculates, if necessary), the behavior type for the given entity.
      */
     public BehaviorType getBehaviorType(Entity entity, Princess owner) {
-        if (!entityBehaviors.containsKey(entity.getId())) {
-            entityBehaviors.put(entity.getId(), calculateUnitBehavior(entity, owner));
+        BehaviorType behaviorType = entityBehaviors.get(entity.getId());
+        if (behaviorType == null) {
+            behaviorType = calculateUnitBehavior(entity, owner);
+            entityBehaviors.put(entity.getId(), behaviorType);
         }
 
-        return entityBehaviors.get(entity.getId());
+        return behaviorType;
     }
 
     public void overrideBehaviorType(Entity entity, BehaviorType behaviorType) {
@@ -81,6 +81,7 @@ public class GUIPreferences extends PreferenceStoreProxy {
     public static final String ADVANCED_KEY_REPEAT_DELAY = "AdvancedKeyRepeatDelay";
     public static final String ADVANCED_KEY_REPEAT_RATE = "AdvancedKeyRepeatRate";
     public static final String ADVANCED_SHOW_FPS = "AdvancedShowFPS";
+    public static final String ADVANCED_PARALLEL_HEX_RENDERING = "AdvancedParallelHexRendering";
     public static final String ADVANCED_NO_SAVE_NAG = "AdvancedNoSaveNag";
     public static final String ADVANCED_SAVE_LOBBY_ON_START = "AdvancedSaveLobbyOnStart";
 
@@ -534,6 +535,7 @@ public class GUIPreferences extends PreferenceStoreProxy {
         store.setDefault(ADVANCED_KEY_REPEAT_DELAY, 0);
         store.setDefault(ADVANCED_KEY_REPEAT_RATE, 20);
         store.setDefault(ADVANCED_SHOW_FPS, false);
+        store.setDefault(ADVANCED_PARALLEL_HEX_RENDERING, true);
         store.setDefault(SHOW_COORDS, true);
 
         setDefault(PLANETARY_CONDITIONS_COLOR_TITLE, Color.WHITE);
@@ -1748,6 +1750,10 @@ public class GUIPreferences extends PreferenceStoreProxy {
         return store.getBoolean(ADVANCED_SHOW_FPS);
     }
 
+    public boolean getParallelHexRendering() {
+        return store.getBoolean(ADVANCED_PARALLEL_HEX_RENDERING);
+    }
+
     public boolean getSoftCenter() {
         return store.getBoolean(SOFT_CENTER);
     }
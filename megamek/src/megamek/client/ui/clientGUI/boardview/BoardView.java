@@ -52,6 +52,7 @@ import java.lang.System;
 import java.util.*;
 import java.util.List;
 import java.util.Queue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -464,6 +465,26 @@ public final class BoardView extends AbstractBoardView
 
     private final List<HexDrawPlugin> hexDrawPlugins = new ArrayList<>();
 
+    private final HexImageRenderPool<ComposedHexImage> hexImageRenderPool = new HexImageRenderPool<>();
+
+    /** Hexes whose images are being composed by the hexImageRenderPool; only used on the event dispatch thread */
+    private final Set<Coords> pendingHexImages = new HashSet<>();
+
+    /** Animated hexes, which are not cached and so are always composed on the event dispatch thread */
+    private final Set<Coords> uncachedHexImages = new HashSet<>();
+
+    /** Counts the removals from the hex image cache, so that images composed in the background can be discarded */
+    private final AtomicInteger hexImageGeneration = new AtomicInteger();
+
+    /**
+     * A composed hex image.
+     *
+     * @param entry     The image
+     * @param cacheable False for animated hexes, which must not be cached
+     */
+    private record ComposedHexImage(HexImageCacheEntry entry, boolean cacheable) {
+    }
+
     /**
      * Construct a new board view for the specified game
      */
@@ -473,7 +494,7 @@ public final class BoardView extends AbstractBoardView
         this.game = game;
         this.clientgui = clientgui;
 
-        hexImageCache = new ImageCache<>();
+        hexImageCache = new ImageCache<>(entry -> ImageCache.estimateBytes(entry.hexImage));
         tileManager = new TilesetManager(game);
         ToolTipManager.sharedInstance().registerComponent(boardPanel);
         setVerticalOffset();
@@ -1281,6 +1302,11 @@ public final class BoardView extends AbstractBoardView
             graphics2D.setFont(fpsFont);
             graphics2D.setColor(Color.YELLOW);
             graphics2D.drawString(s, -boardPanel.getX() + 5, -boardPanel.getY() + 20);
+            ImageCache.Statistics cacheStatistics = ImageCache.getStatistics();
+            String cacheInfo = String.format("Images %d MB, %.1f%% hits, %d evicted",
+                  cacheStatistics.bytes() / (1024 * 1024), cacheStatistics.hitRate() * 100,
+                  cacheStatistics.evictions());
+            graphics2D.drawString(cacheInfo, -boardPanel.getX() + 5, -boardPanel.getY() + 44);
         }
 
         // debugging method that renders the bounding box of a unit's movement envelope.
@@ -2071,6 +2097,7 @@ public final class BoardView extends AbstractBoardView
         int drawHeight = (int) (view.height / scaledY) + 3;
 
         Board board = game.getBoard(boardId);
+        composeMissingHexImages(board, drawX / 2 * 2, drawY, drawWidth + 2, drawHeight, saveBoardImage);
         for (int y = 0; y < drawHeight; y++) {
             // Half of each row is one-half hex farther back (above) the other; draw those first
             for (int s = 0; s <= 1; s++) {
@@ -2108,28 +2135,102 @@ public final class BoardView extends AbstractBoardView
     }
 
     /**
-     * Draws a hex onto the board buffer. This assumes that drawRect is current, and does not check if the hex is
-     * visible.
+     * Starts composing the images of those hexes in the given area that have no current cached image in the
+     * background. When there are enough of them, they are composed in parallel by the {@link HexImageRenderPool} while
+     * drawHex draws placeholders for them; when they are ready, they are cached and the board is repainted. Otherwise,
+     * nothing is done here and drawHex composes them one by one.
      */
-    private void drawHex(Coords coords, Graphics boardGraph, boolean saveBoardImage) {
-        if (!game.getBoard(boardId).contains(coords)) {
+    private void composeMissingHexImages(Board board, int startX, int startY, int width, int height,
+          boolean saveBoardImage) {
+        // Hex draw plugins are not required to be thread-safe; a saved board image must be complete
+        if (saveBoardImage || !GUIP.getParallelHexRendering() || !hexImageRenderPool.isUseful()
+              || !hexDrawPlugins.isEmpty()) {
             return;
         }
-
-        final Hex hex = game.getBoard(boardId).getHex(coords);
-        if (hex == null) {
+        List<Coords> missingHexes = new ArrayList<>();
+        for (int y = startY; y < startY + height; y++) {
+            for (int x = startX; x < startX + width; x++) {
+                Coords coords = new Coords(x, y);
+                if ((board.getHex(coords) != null) && !pendingHexImages.contains(coords)
+                      && !uncachedHexImages.contains(coords)) {
+                    HexImageCacheEntry cacheEntry = hexImageCache.get(coords);
+                    if ((cacheEntry == null) || cacheEntry.needsUpdating) {
+                        missingHexes.add(coords);
+                    }
+                }
+            }
+        }
+        if (missingHexes.size() < HexImageRenderPool.MIN_PARALLEL_HEXES) {
             return;
         }
+        pendingHexImages.addAll(missingHexes);
+        int generation = hexImageGeneration.get();
+        float composedScale = scale;
+        hexImageRenderPool.composeInBackground(missingHexes, coords -> composeHexImage(coords, false),
+              (chunk, composed) -> receiveComposedHexImages(chunk, composed, generation, composedScale));
+    }
 
-        final Point hexLocation = getHexLocation(coords);
-        PlanetaryConditions conditions = game.getPlanetaryConditions();
+    /**
+     * Caches the hex images composed by the {@link HexImageRenderPool} and repaints the board. Images composed for a
+     * view state that has since changed are discarded, and their hexes are composed again on the next repaint.
+     */
+    private void receiveComposedHexImages(List<Coords> chunk, Map<Coords, ComposedHexImage> composed,
+          int generation, float composedScale) {
+        // Hexes that could not be composed are no longer pending either and will be drawn by drawHex
+        chunk.forEach(pendingHexImages::remove);
+        if ((generation == hexImageGeneration.get()) && (composedScale == scale)) {
+            for (Map.Entry<Coords, ComposedHexImage> hexImage : composed.entrySet()) {
+                if (hexImage.getValue().cacheable()) {
+                    hexImageCache.put(hexImage.getKey(), hexImage.getValue().entry());
+                } else {
+                    uncachedHexImages.add(hexImage.getKey());
+                }
+            }
+        }
+        boardPanel.repaint();
+    }
+
+    /**
+     * Draws a hex onto the board buffer. This assumes that drawRect is current, and does not check if the hex is
+     * visible. While the image of the hex is being composed in the background, the outdated image, if any, is drawn
+     * as a placeholder.
+     */
+    private void drawHex(Coords coords, Graphics boardGraph, boolean saveBoardImage) {
+        if (!game.getBoard(boardId).contains(coords) || (game.getBoard(boardId).getHex(coords) == null)) {
+            return;
+        }
 
         // Check the cache to see if we already have the image
         HexImageCacheEntry cacheEntry = hexImageCache.get(coords);
-        if ((cacheEntry != null) && !cacheEntry.needsUpdating) {
+        if (((cacheEntry == null) || cacheEntry.needsUpdating) && (saveBoardImage
+              || !pendingHexImages.contains(coords))) {
+            ComposedHexImage composed = composeHexImage(coords, saveBoardImage);
+            if (composed == null) {
+                return;
+            }
+            cacheEntry = composed.entry();
+            if (composed.cacheable()) {
+                hexImageCache.put(coords, cacheEntry);
+            }
+        }
+        if (cacheEntry != null) {
+            final Point hexLocation = getHexLocation(coords);
             boardGraph.drawImage(cacheEntry.hexImage, hexLocation.x, hexLocation.y, boardPanel);
-            return;
         }
+    }
+
+    /**
+     * Composes the image of a hex from its tiles and overlays. This may be called from the workers of the
+     * {@link HexImageRenderPool}, so it must only read the board view's state; the caller caches the result.
+     *
+     * @return The composed hex image, or null if it cannot be composed right now
+     */
+    private @Nullable ComposedHexImage composeHexImage(Coords coords, boolean saveBoardImage) {
+        final Hex hex = game.getBoard(boardId).getHex(coords);
+        if (hex == null) {
+            return null;
+        }
+        PlanetaryConditions conditions = game.getPlanetaryConditions();
 
         int level = hex.getLevel();
         int depth = hex.depth(false);
@@ -2177,7 +2278,7 @@ public final class BoardView extends AbstractBoardView
         // If the base image isn't ready, we should signal a repaint and stop
         if ((imgWidth < 0) || (imgHeight < 0)) {
             boardPanel.repaint();
-            return;
+            return null;
         }
 
         BufferedImage hexImage = new BufferedImage(imgWidth, imgHeight, BufferedImage.TYPE_INT_ARGB);
@@ -2506,7 +2607,7 @@ public final class BoardView extends AbstractBoardView
         } catch (Exception e) {
             LOGGER.error(e, "Exception, probably can't load file.");
             drawCenteredString("Loading Error", 0, (int) (50 * scale), font_note, graphics2D);
-            return;
+            return null;
         }
 
         // write hex coordinate unless deactivated or scale factor too small
@@ -2682,11 +2783,7 @@ public final class BoardView extends AbstractBoardView
             plugin.draw(graphics2D, hex, game, coords, this);
         }
 
-        cacheEntry = new HexImageCacheEntry(hexImage);
-        if (!dontCache) {
-            hexImageCache.put(coords, cacheEntry);
-        }
-        boardGraph.drawImage(cacheEntry.hexImage, hexLocation.x, hexLocation.y, boardPanel);
+        return new ComposedHexImage(new HexImageCacheEntry(hexImage), !dontCache);
     }
 
     /**
@@ -4607,6 +4704,7 @@ public final class BoardView extends AbstractBoardView
 
     @Override
     public void boardChangedHex(BoardEvent boardEvent) {
+        hexImageGeneration.incrementAndGet();
         hexImageCache.remove(boardEvent.getCoords());
         // Also repaint the surrounding hexes because of shadows, border etc.
         for (int direction : allDirections) {
@@ -5359,7 +5457,9 @@ public final class BoardView extends AbstractBoardView
     }
 
     public void clearHexImageCache() {
+        hexImageGeneration.incrementAndGet();
         hexImageCache.clear();
+        uncachedHexImages.clear();
     }
 
     /**
@@ -5368,8 +5468,10 @@ public final class BoardView extends AbstractBoardView
      * @param setCoords Set of {@link Coords} to remove
      */
     public void clearHexImageCache(Set<Coords> setCoords) {
+        hexImageGeneration.incrementAndGet();
         for (Coords coords : setCoords) {
             hexImageCache.remove(coords);
+            uncachedHexImages.remove(coords);
         }
     }
 
@@ -5476,6 +5578,7 @@ public final class BoardView extends AbstractBoardView
     public void dispose() {
         super.dispose();
         redrawTimerTask.cancel();
+        hexImageRenderPool.shutdown();
         fovHighlightingAndDarkening.die();
         KeyBindParser.removePreferenceChangeListener(this);
         GUIP.removePreferenceChangeListener(this);
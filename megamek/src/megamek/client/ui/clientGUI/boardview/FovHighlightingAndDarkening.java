@@ -37,10 +37,10 @@ import java.awt.Graphics2D;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.client.ui.clientGUI.GUIPreferences;
 import megamek.client.ui.clientGUI.boardview.sprite.StepSprite;
@@ -256,16 +256,16 @@ public class FovHighlightingAndDarkening {
         return hasLoS;
     }
 
-    List<ECMInfo> cachedAllECMInfo = null;
+    volatile List<ECMInfo> cachedAllECMInfo = null;
     Entity cachedSelectedEntity = null;
     StepSprite cachedStepSprite = null;
     Coords cachedSrc = null;
-    boolean cacheGameChanged = true;
+    volatile boolean cacheGameChanged = true;
     int cacheBoardId = -1;
-    Map<Coords, LosEffects> losCache = new HashMap<>();
+    volatile Map<Coords, LosEffects> losCache = new ConcurrentHashMap<>();
 
     private void clearCache() {
-        losCache = new HashMap<>();
+        losCache = new ConcurrentHashMap<>();
     }
 
     GameListener cacheGameListener;
@@ -281,9 +281,26 @@ public class FovHighlightingAndDarkening {
 
     /**
      * Checks for los effects, preferably from cache, if not getLosEffects is invoked, and it's return value is cached.
-     * If environment has changed between calls to this method the cache is cleared.
+     * If environment has changed between calls to this method the cache is cleared. This may be called by several hex
+     * image workers at once; the LOS itself is calculated outside the lock.
      */
     public @Nullable LosEffects getCachedLosEffects(Coords src, Coords dest, int boardId) {
+        Map<Coords, LosEffects> cache = getCurrentLosCache(src, boardId);
+        LosEffects los = cache.get(dest);
+        if (los == null) {
+            los = getLosEffects(src, dest, boardId);
+            if (los == null) {
+                return null;
+            }
+            cache.put(dest, los);
+        }
+        return los;
+    }
+
+    /**
+     * @return The LOS cache for the given viewer position, cleared first if the environment has changed
+     */
+    private synchronized Map<Coords, LosEffects> getCurrentLosCache(Coords src, int boardId) {
         ArrayList<StepSprite> pathSprites = boardView.pathSprites;
         StepSprite lastStepSprite = pathSprites.isEmpty() ? null : pathSprites.getLast();
         // let's check if cache should be cleared
@@ -300,16 +317,7 @@ public class FovHighlightingAndDarkening {
             cacheGameChanged = false;
             cachedAllECMInfo = ComputeECM.computeAllEntitiesECMInfo(boardView.game.getEntitiesVector());
         }
-
-        LosEffects los = losCache.get(dest);
-        if (los == null) {
-            los = getLosEffects(src, dest, boardId);
-            if (los == null) {
-                return null;
-            }
-            losCache.put(dest, los);
-        }
-        return los;
+        return losCache;
     }
 
     /**
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.clientGUI.boardview;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import javax.swing.SwingUtilities;
+
+import megamek.common.board.Coords;
+import megamek.common.util.DaemonWorkerPool;
+import megamek.logging.MMLogger;
+
+/**
+ * Composes hex images for the BoardView on a pool of worker threads. When a repaint finds many visible hexes without a
+ * cached image (after zooming, after a board, tileset or ECM change or when scrolling onto a new part of a large map),
+ * these hex images are composed in the background and in parallel instead of one after the other on the event
+ * dispatch thread.
+ * <p>
+ * The event dispatch thread does not wait for the workers. It draws placeholders for the hexes that are being composed
+ * and receives the composed images in chunks on the event dispatch thread, where it can check that they still match
+ * the view and repaint. As the view may change while the workers read it, a result may be based on an outdated view
+ * state; the receiver must discard such results.
+ *
+ * @param <T> The type of the composed results
+ */
+class HexImageRenderPool<T> {
+    private static final MMLogger LOGGER = MMLogger.create(HexImageRenderPool.class);
+
+    /** When fewer hex images than this are missing, they are composed on the calling thread */
+    static final int MIN_PARALLEL_HEXES = 16;
+
+    /** The work is split into this many chunks per worker to even out the differing cost of hexes */
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final int threads = Runtime.getRuntime().availableProcessors();
+    private final DaemonWorkerPool workerPool = new DaemonWorkerPool("Hex Image Worker");
+
+    /**
+     * @return True when there is more than one processor to compose hex images on
+     */
+    boolean isUseful() {
+        return threads > 1;
+    }
+
+    /**
+     * Starts composing the images of the given hexes in parallel and returns at once. The results are handed to the
+     * receiver on the event dispatch thread, one call per chunk of hexes, together with the hexes of the chunk. A hex
+     * is missing from the results when its image could not be composed, e.g. because the composer failed or the pool
+     * was shut down.
+     *
+     * @param hexes    The coords of the hexes to compose
+     * @param composer Composes the image of a hex; may return null
+     * @param receiver Receives the hexes of a chunk and their composed images on the event dispatch thread
+     */
+    void composeInBackground(List<Coords> hexes, Function<Coords, T> composer,
+          BiConsumer<List<Coords>, Map<Coords, T>> receiver) {
+        int chunkSize = Math.max(1, hexes.size() / (threads * CHUNKS_PER_THREAD));
+        ExecutorService workers = workerPool.get(threads);
+        for (int start = 0; start < hexes.size(); start += chunkSize) {
+            List<Coords> chunk = List.copyOf(hexes.subList(start, Math.min(start + chunkSize, hexes.size())));
+            try {
+                workers.execute(() -> {
+                    Map<Coords, T> result = composeChunk(chunk, composer);
+                    SwingUtilities.invokeLater(() -> receiver.accept(chunk, result));
+                });
+            } catch (RejectedExecutionException ex) {
+                // Shut down; report the chunk as not composed so that the caller does not wait for it
+                SwingUtilities.invokeLater(() -> receiver.accept(chunk, Map.of()));
+            }
+        }
+    }
+
+    private static <T> Map<Coords, T> composeChunk(List<Coords> chunk, Function<Coords, T> composer) {
+        Map<Coords, T> result = new HashMap<>();
+        for (Coords coords : chunk) {
+            try {
+                T entry = composer.apply(coords);
+                if (entry != null) {
+                    result.put(coords, entry);
+                }
+            } catch (RuntimeException ex) {
+                // The view may have changed while composing; the hex is composed again on the next repaint
+                LOGGER.debug("Failed to compose hex image for {}: {}", coords, ex.toString());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Stops the worker threads.
+     */
+    void shutdown() {
+        workerPool.shutdown();
+    }
+}
@@ -40,11 +40,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.TreeMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicInteger;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
 import javax.swing.JProgressBar;
@@ -53,15 +49,13 @@ import javax.swing.SwingWorker;
 import megamek.client.ui.util.UIUtil;
 import megamek.client.ui.widget.RawImagePanel;
 import megamek.common.Configuration;
-import megamek.common.autoResolve.Resolver;
-import megamek.common.autoResolve.acar.SimulationOptions;
+import megamek.common.autoResolve.MonteCarloResolver;
+import megamek.common.autoResolve.SimulationStatistics;
 import megamek.common.autoResolve.converter.SetupForces;
-import megamek.common.autoResolve.event.AutoResolveConcludedEvent;
 import megamek.common.board.Board;
 import megamek.common.internationalization.I18n;
 import megamek.common.planetaryConditions.PlanetaryConditions;
 import megamek.logging.MMLogger;
-import megamek.server.victory.VictoryResult;
 import org.apache.commons.lang3.time.StopWatch;
 
 public class AutoResolveChanceDialog extends AbstractDialog implements PropertyChangeListener {
@@ -73,7 +67,7 @@ public class AutoResolveChanceDialog extends AbstractDialog implements PropertyC
     private final Task task;
 
     private final List<String> progressText;
-    private SimulationScore finalScore;
+    private SimulationStatistics finalScore;
     private final SetupForces setupForces;
     private final int numberOfThreads;
     private final int currentTeam;
@@ -86,64 +80,6 @@ public class AutoResolveChanceDialog extends AbstractDialog implements PropertyC
         splashImages.put(0, Configuration.miscImagesDir() + "/acar_splash_hd.png");
     }
 
-    private static class SimulationScore {
-        private final AtomicInteger victories;
-        private final AtomicInteger losses;
-        private final AtomicInteger draws;
-        private final AtomicInteger noResult;
-        private final AtomicInteger gamesRun;
-        private final int teamOfInterest;
-
-        public SimulationScore(int teamOfInterest) {
-            this.victories = new AtomicInteger(0);
-            this.losses = new AtomicInteger(0);
-            this.draws = new AtomicInteger(0);
-            this.gamesRun = new AtomicInteger(0);
-            this.noResult = new AtomicInteger(0);
-            this.teamOfInterest = teamOfInterest;
-        }
-
-        public void addResult(AutoResolveConcludedEvent event) {
-            this.addResult(event.getVictoryResult());
-        }
-
-        public void addResult(VictoryResult victoryResult) {
-            if (victoryResult.getWinningTeam() == teamOfInterest) {
-                victories.incrementAndGet();
-            } else if (victoryResult.getWinningTeam() != teamOfInterest) {
-                losses.incrementAndGet();
-            } else {
-                draws.incrementAndGet();
-            }
-            gamesRun.incrementAndGet();
-        }
-
-        public void addEmptyResult() {
-            gamesRun.incrementAndGet();
-            noResult.incrementAndGet();
-        }
-
-        public int getVictories() {
-            return victories.get();
-        }
-
-        public int getRuns() {
-            return gamesRun.get();
-        }
-
-        public int getLosses() {
-            return losses.get();
-        }
-
-        public int getDraws() {
-            return draws.get();
-        }
-
-        public int noResults() {
-            return noResult.get();
-        }
-    }
-
     public static int showDialog(JFrame frame, int numberOfSimulations, int numberOfThreads, int currentTeam,
           SetupForces setupForces, Board board, PlanetaryConditions planetaryConditions) {
         var dialog = new AutoResolveChanceDialog(frame, numberOfSimulations, numberOfThreads, currentTeam,
@@ -290,7 +226,7 @@ public class AutoResolveChanceDialog extends AbstractDialog implements PropertyC
                       simulatedVictories.getVictories(),
                       simulatedVictories.getLosses(),
                       simulatedVictories.getDraws(),
-                      simulatedVictories.noResults(),
+                      simulatedVictories.getFailures(),
                       timePerRun,
                       stopWatch.toString());
             }
@@ -320,45 +256,13 @@ public class AutoResolveChanceDialog extends AbstractDialog implements PropertyC
          *
          * @return the calculated victory chance score
          */
-        private SimulationScore calculateNumberOfVictories() {
-            var simulationScore = new SimulationScore(currentTeam);
-            if (dialog.numberOfSimulations <= 0) {
-                return simulationScore;
-            }
-            AtomicInteger runCounter = new AtomicInteger(0);
-
-            var executor = Executors.newFixedThreadPool(numberOfThreads);
-            try {
-                List<Future<AutoResolveConcludedEvent>> futures = new ArrayList<>();
-                for (int i = 0; i < numberOfSimulations; i++) {
-                    futures.add(executor.submit(() -> {
-                        var autoResolveConcludedEvent = Resolver.simulationRunWithoutLog(
-                                    setupForces, SimulationOptions.empty(), new Board(board.getWidth(), board.getHeight()),
-                                    new PlanetaryConditions(planetaryConditions))
-                              .resolveSimulation();
-                        setProgress(Math.min(100 * runCounter.incrementAndGet() / numberOfSimulations, 100));
-                        return autoResolveConcludedEvent;
-                    }));
-                }
-
-                // Wait for all tasks to complete
-                for (Future<AutoResolveConcludedEvent> future : futures) {
-                    try {
-                        var event = future.get();
-                        simulationScore.addResult(event);
-                    } catch (InterruptedException | ExecutionException e) {
-                        simulationScore.addEmptyResult();
-                        logger.error("While processing simulation", e);
-                    }
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            } finally {
-                executor.shutdown();
-            }
-
-
-            return simulationScore;
+        private SimulationStatistics calculateNumberOfVictories() {
+            return new MonteCarloResolver(setupForces, board, planetaryConditions, currentTeam)
+                  .withMaxRuns(numberOfSimulations)
+                  .withThreads(numberOfThreads)
+                  .withProgressListener(statistics ->
+                        setProgress(Math.min(100 * statistics.getRuns() / numberOfSimulations, 100)))
+                  .run();
         }
 
         /**
@@ -112,7 +112,12 @@ import megamek.common.equipment.MiscType;
 import megamek.common.equipment.TankTrailerHitch;
 import megamek.common.equipment.Transporter;
 import megamek.common.event.GamePhaseChangeEvent;
+import megamek.common.event.GameSettingsChangeEvent;
 import megamek.common.event.GameTurnChangeEvent;
+import megamek.common.event.board.GameBoardChangeEvent;
+import megamek.common.event.entity.GameEntityChangeEvent;
+import megamek.common.event.entity.GameEntityNewEvent;
+import megamek.common.event.entity.GameEntityRemoveEvent;
 import megamek.common.game.GameTurn;
 import megamek.common.game.IGame;
 import megamek.common.moves.MovePath;
@@ -185,6 +190,8 @@ public class MovementDisplay extends ActionPhaseDisplay {
     // considering movement data
     private MovePath cmd;
 
+    private final MovementEnvelopeComputer envelopeComputer = new MovementEnvelopeComputer();
+
     // what "gear" is our mek in?
     private int gear;
     private int jumpSubGear;
@@ -1103,6 +1110,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
      */
     private synchronized void endMyTurn() {
         final Entity currentlySelectedEntity = currentEntity();
+        envelopeComputer.cancel();
 
         stopTimer();
 
@@ -1220,6 +1228,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
     @Override
     public void clear() {
         final Entity currentlySelectedEntity = currentEntity();
+        envelopeComputer.cancel();
 
         // Cancel escape pod hex selection if active
         if (isSelectingEscapePodLanding) {
@@ -4704,8 +4713,34 @@ public class MovementDisplay extends ActionPhaseDisplay {
         }
     }
 
+    @Override
+    public void gameEntityNew(GameEntityNewEvent e) {
+        envelopeComputer.invalidate();
+    }
+
+    @Override
+    public void gameEntityRemove(GameEntityRemoveEvent e) {
+        envelopeComputer.invalidate();
+    }
+
+    @Override
+    public void gameEntityChange(GameEntityChangeEvent e) {
+        envelopeComputer.invalidate();
+    }
+
+    @Override
+    public void gameBoardChanged(GameBoardChangeEvent e) {
+        envelopeComputer.invalidate();
+    }
+
+    @Override
+    public void gameSettingsChange(GameSettingsChangeEvent e) {
+        envelopeComputer.invalidate();
+    }
+
     @Override
     public void gamePhaseChange(GamePhaseChangeEvent e) {
+        envelopeComputer.invalidate();
         // In case of a /reset command, ensure the state gets reset
         if (game.getPhase().isLounge()) {
             endMyTurn();
@@ -4777,6 +4812,15 @@ public class MovementDisplay extends ActionPhaseDisplay {
      *                   {@link #GEAR_LAND}. This takes precedence over the currently selected unit.
      */
     private void computeSimpleMovementEnvelope(Entity suggestion) {
+        computeSimpleMovementEnvelope(suggestion, true);
+    }
+
+    /**
+     * Computes the movement envelope as {@link #computeSimpleMovementEnvelope(Entity)} does. When inBackground is
+     * true, it is computed on a background thread and shown when ready; when false, it is computed and shown before
+     * this method returns, which is necessary when the unit state is changed only for the computation.
+     */
+    private void computeSimpleMovementEnvelope(Entity suggestion, boolean inBackground) {
         // do nothing if deactivated in the settings
         if (!GUIP.getMoveEnvelope()) {
             // Issue #5700: Move envelope doesn't clear when turning off move envelopes from the menu or shortcut.
@@ -4798,6 +4842,7 @@ public class MovementDisplay extends ActionPhaseDisplay {
         }
 
         if (entity.isDone()) {
+            envelopeComputer.cancel();
             return;
         }
 
@@ -4816,17 +4861,30 @@ public class MovementDisplay extends ActionPhaseDisplay {
         // Create a pathfinder to find possible moves;
         // if aerodyne, use a custom Aero pathfinder.
         ShortestPathFinder shortestPathFinder = getShortestPathFinder(entity, maxMP, stepType);
-        shortestPathFinder.run(movePath);
-
-        Map<Coords, MovePath> movePathForEachCoordsMap = shortestPathFinder.getAllComputedPaths();
-        Map<Coords, Integer> movementEnvelopeMP = new HashMap<>((int) ((movePathForEachCoordsMap.size() * 1.25) + 1));
-        for (Coords coords : movePathForEachCoordsMap.keySet()) {
-            var candidateMovePath = movePathForEachCoordsMap.get(coords);
-            if (candidateMovePath.isMoveLegal()) {
-                movementEnvelopeMP.put(coords, candidateMovePath.countMp(movementGear == GEAR_JUMP));
-            }
+        final Entity envelopeEntity = entity;
+        final int envelopeGear = movementGear;
+        if (inBackground) {
+            var key = new MovementEnvelopeComputer.EnvelopeKey(entity.getId(), movementGear, jumpSubGear,
+                  envelopeStamp(entity, maxMP));
+            envelopeComputer.compute(key, shortestPathFinder, movePath, movementGear == GEAR_JUMP,
+                  envelope -> clientgui.showMovementEnvelope(envelopeEntity, envelope, envelopeGear));
+        } else {
+            Map<Coords, Integer> movementEnvelopeMP = envelopeComputer.computeNow(shortestPathFinder, movePath,
+                  movementGear == GEAR_JUMP);
+            clientgui.showMovementEnvelope(entity, movementEnvelopeMP, movementGear);
         }
-        clientgui.showMovementEnvelope(entity, movementEnvelopeMP, movementGear);
+    }
+
+    /**
+     * @return A stamp of the unit state that the movement envelope depends on, used to find cached envelopes
+     */
+    private static int envelopeStamp(Entity entity, int maxMP) {
+        int stamp = EntityStateChecksum.of(entity);
+        stamp = 31 * stamp + maxMP;
+        stamp = 31 * stamp + entity.getMovementMode().ordinal();
+        stamp = 31 * stamp + (entity.climbMode() ? 1 : 0);
+        stamp = 31 * stamp + (entity.isAero() ? ((IAero) entity).getCurrentVelocity() : 0);
+        return stamp;
     }
 
     private ShortestPathFinder getShortestPathFinder(Entity en, int maxMP, MoveStepType stepType) {
@@ -4868,9 +4926,10 @@ public class MovementDisplay extends ActionPhaseDisplay {
         int currentVelocity = ae.getCurrentVelocity();
         ae.setCurrentVelocity(cmd.getFinalVelocity());
 
-        // Refresh the new velocity envelope on the map.
+        // Refresh the new velocity envelope on the map. This must not happen in the background as the velocity is only
+        // set for the computation
         try {
-            computeSimpleMovementEnvelope(entity);
+            computeSimpleMovementEnvelope(entity, false);
             updateMove();
         } catch (Exception e) {
             LOGGER.error(e, "An error occurred trying to compute the move envelope for an Aero.");
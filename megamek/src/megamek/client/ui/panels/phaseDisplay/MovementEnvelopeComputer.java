@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.panels.phaseDisplay;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import javax.swing.SwingUtilities;
+
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import megamek.common.pathfinder.ShortestPathFinder;
+import megamek.common.util.DaemonWorkerPool;
+import megamek.logging.MMLogger;
+
+/**
+ * Computes the movement envelope of a unit (the hexes it can reach and the MP needed) for the movement display. The
+ * pathfinding and the legality check of every reachable hex can take a noticeable time for fast or jumping units on
+ * large maps, so they run on a background thread; the envelope is handed to the display on the EDT, first in parts
+ * while the hexes are checked and then in full.
+ * <p>
+ * Only the most recent request is of interest: every new request and {@link #cancel()} stops a running computation
+ * and discards its results. Finished envelopes are cached by unit, gear and unit state so that switching back to a
+ * gear or reselecting a unit shows the envelope immediately. {@link #invalidate()} must be called when the game state
+ * that is not part of the unit state changes (other units, the board, the phase), which drops the cache.
+ * <p>
+ * The requests, the cache and the display callbacks are handled on the EDT; invalidate() may be called from any
+ * thread.
+ */
+class MovementEnvelopeComputer {
+    private static final MMLogger LOGGER = MMLogger.create(MovementEnvelopeComputer.class);
+
+    /** While checking the reachable hexes, the envelope found so far is shown at most this often */
+    private static final long PARTIAL_RESULT_INTERVAL_NANOS = TimeUnit.MILLISECONDS.toNanos(150);
+
+    private static final int MAX_CACHED_ENVELOPES = 32;
+
+    /**
+     * Identifies an envelope in the cache.
+     *
+     * @param entityId    The unit ID
+     * @param gear        The movement gear of the movement display
+     * @param jumpSubGear The jump sub-gear of the movement display
+     * @param unitStamp   A stamp of the unit state that affects its movement, see MovementDisplay
+     */
+    record EnvelopeKey(int entityId, int gear, int jumpSubGear, int unitStamp) {
+    }
+
+    private final AtomicInteger generation = new AtomicInteger();
+    private final AtomicInteger stateVersion = new AtomicInteger();
+    private final Map<EnvelopeKey, Map<Coords, Integer>> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<EnvelopeKey, Map<Coords, Integer>> eldest) {
+            return size() > MAX_CACHED_ENVELOPES;
+        }
+    };
+    private final DaemonWorkerPool workerPool = new DaemonWorkerPool("Movement Envelope Worker");
+
+    /**
+     * Shows the envelope for the given key, from the cache or by running the given pathfinder in the background. The
+     * display is called on the EDT, possibly several times with growing parts of the envelope; it is not called once
+     * another request was made or the computation was cancelled.
+     *
+     * @param key         The cache key of the envelope
+     * @param pathFinder  A new pathfinder for the unit, not yet run
+     * @param startPath   The path to start from
+     * @param countJumpMp True to count the MP of the paths as jump MP
+     * @param display     Shows the envelope
+     */
+    void compute(EnvelopeKey key, ShortestPathFinder pathFinder, MovePath startPath, boolean countJumpMp,
+          Consumer<Map<Coords, Integer>> display) {
+        final int requestGeneration = generation.incrementAndGet();
+        Map<Coords, Integer> cachedEnvelope;
+        synchronized (cache) {
+            cachedEnvelope = cache.get(key);
+        }
+        if (cachedEnvelope != null) {
+            display.accept(cachedEnvelope);
+            return;
+        }
+
+        final int requestStateVersion = stateVersion.get();
+        BooleanSupplier cancelled = () -> generation.get() != requestGeneration;
+        workerPool.get(1).execute(() -> {
+            try {
+                Map<Coords, Integer> envelope = envelope(pathFinder, startPath, countJumpMp, cancelled,
+                      partialEnvelope -> showIfCurrent(partialEnvelope, requestGeneration, display));
+                if (envelope == null) {
+                    return;
+                }
+                SwingUtilities.invokeLater(() -> {
+                    if (stateVersion.get() == requestStateVersion) {
+                        synchronized (cache) {
+                            cache.put(key, envelope);
+                        }
+                    }
+                    if (!cancelled.getAsBoolean()) {
+                        display.accept(envelope);
+                    }
+                });
+            } catch (Exception ex) {
+                LOGGER.error(ex, "Failed to compute the movement envelope");
+            }
+        });
+    }
+
+    /**
+     * Computes the envelope on the calling thread, without using the cache. This is used when the unit state is
+     * changed only temporarily for the computation. Cancels any running computation.
+     *
+     * @param pathFinder  A new pathfinder for the unit, not yet run
+     * @param startPath   The path to start from
+     * @param countJumpMp True to count the MP of the paths as jump MP
+     *
+     * @return The envelope, i.e. the MP needed for each legally reachable hex
+     */
+    Map<Coords, Integer> computeNow(ShortestPathFinder pathFinder, MovePath startPath, boolean countJumpMp) {
+        cancel();
+        return envelope(pathFinder, startPath, countJumpMp, () -> false, partialEnvelope -> {});
+    }
+
+    /**
+     * Stops any running computation; its results will not be shown.
+     */
+    void cancel() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Drops all cached envelopes. To be called when the game state changes in a way that may affect the movement of
+     * any unit. Envelopes that are being computed are still shown but not cached.
+     */
+    void invalidate() {
+        stateVersion.incrementAndGet();
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @return The envelope or null when the computation was cancelled
+     */
+    private static Map<Coords, Integer> envelope(ShortestPathFinder pathFinder, MovePath startPath,
+          boolean countJumpMp, BooleanSupplier cancelled, Consumer<Map<Coords, Integer>> partialResult) {
+        pathFinder.addStopCondition(edge -> cancelled.getAsBoolean());
+        pathFinder.run(startPath);
+
+        Map<Coords, MovePath> movePathForEachCoordsMap = pathFinder.getAllComputedPaths();
+        Map<Coords, Integer> movementEnvelopeMP = new HashMap<>((int) ((movePathForEachCoordsMap.size() * 1.25) + 1));
+        long lastPartialResult = System.nanoTime();
+        for (Map.Entry<Coords, MovePath> entry : movePathForEachCoordsMap.entrySet()) {
+            if (cancelled.getAsBoolean()) {
+                return null;
+            }
+            MovePath candidateMovePath = entry.getValue();
+            if (candidateMovePath.isMoveLegal()) {
+                movementEnvelopeMP.put(entry.getKey(), candidateMovePath.countMp(countJumpMp));
+            }
+            if (System.nanoTime() - lastPartialResult > PARTIAL_RESULT_INTERVAL_NANOS) {
+                partialResult.accept(new HashMap<>(movementEnvelopeMP));
+                lastPartialResult = System.nanoTime();
+            }
+        }
+        return cancelled.getAsBoolean() ? null : movementEnvelopeMP;
+    }
+
+    private void showIfCurrent(Map<Coords, Integer> envelope, int requestGeneration,
+          Consumer<Map<Coords, Integer>> display) {
+        SwingUtilities.invokeLater(() -> {
+            if (generation.get() == requestGeneration) {
+                display.accept(envelope);
+            }
+        });
+    }
+}
@@ -42,7 +42,10 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StreamTokenizer;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Set;
@@ -53,6 +56,7 @@ import megamek.client.ui.util.ImageCache;
 import megamek.common.Configuration;
 import megamek.common.Hex;
 import megamek.common.board.Board;
+import megamek.common.board.Coords;
 import megamek.common.event.GameListener;
 import megamek.common.event.GameListenerAdapter;
 import megamek.common.event.board.BoardEvent;
@@ -91,6 +95,15 @@ public class HexTileset implements BoardListener {
     private ImageCache<Hex, List<Image>> superimposedCache = new ImageCache<>();
     private ImageCache<Hex, List<Image>> orthographicCache = new ImageCache<>();
 
+    /**
+     * The tileset entries matched to each terrain signature seen so far. Matching only depends on the signature, so
+     * all hexes with the same terrain (on any board) share one match; only the image variant is chosen per hex. This
+     * is cleared when the tileset is (re)loaded.
+     */
+    private final Map<TerrainSignature, TileMatch> matches = new HashMap<>();
+    private CandidateIndex superimposedIndex;
+    private CandidateIndex orthographicIndex;
+
     /**
      * Creates new HexTileset
      */
@@ -140,12 +153,15 @@ public class HexTileset implements BoardListener {
      * <p>
      * Any terrain left is used to match a base image for the hex. This time, a match can be any value, and the first,
      * best image is used.
+     * <p>
+     * The matching tileset entries are looked up by the hex's {@link TerrainSignature} and only searched for when that
+     * signature is new. The image variants of the entries are chosen by the hex position.
      */
     public synchronized Object[] assignMatch(Hex hex) {
-        Hex hexCopy = hex.duplicate();
-        List<Image> orthographic = orthographicFor(hexCopy);
-        List<Image> superimposed = superimposedFor(hexCopy);
-        Image base = baseFor(hexCopy);
+        TileMatch match = matches.computeIfAbsent(new TerrainSignature(hex), signature -> findMatch(hex));
+        List<Image> orthographic = imagesFor(match.orthographic(), hex.getCoords());
+        List<Image> superimposed = imagesFor(match.superimposed(), hex.getCoords());
+        Image base = baseImageFor(match.base(), hex.getCoords());
         Object[] pair = new Object[] { base, superimposed, orthographic };
         basesCache.put(hex, base);
         superimposedCache.put(hex, superimposed);
@@ -185,50 +201,32 @@ public class HexTileset implements BoardListener {
     }
 
     /**
-     * Returns a list of orthographic images to be tiled above the hex. As noted above, all matches must be 1.0, and if
-     * such a match is achieved, all terrain elements from the tileset hex are removed from the hex. Thus, you want to
-     * pass a copy of the original to this function.
+     * Finds the tileset entries for the given hex: the orthographic entries, then the superimposed entries and then
+     * the best base entry for the terrain that is left.
      */
-    private List<Image> orthographicFor(Hex hex) {
-        ArrayList<Image> matches = new ArrayList<>();
-
-        // find orthographic image matches
-        for (HexEntry entry : orthographic) {
-            if (orthographicMatch(hex, entry.getHex()) >= 1.0) {
-                Image img = entry.getImage(hex.getCoords().hashCode());
-                if (img != null) {
-                    matches.add(img);
-                } else {
-                    matches.add(ImageUtil.createAcceleratedImage(HEX_W, HEX_H));
-                }
-                // remove involved terrain from consideration
-                for (int terr : entry.getHex().getTerrainTypes()) {
-                    if (entry.getHex().containsTerrain(terr)) {
-                        hex.removeTerrain(terr);
-                    }
-                }
-            }
+    private TileMatch findMatch(Hex hex) {
+        if (superimposedIndex == null) {
+            superimposedIndex = new CandidateIndex(superimposed);
+            orthographicIndex = new CandidateIndex(orthographic);
         }
-        return matches;
+        Hex hexCopy = hex.duplicate();
+        List<HexEntry> orthographicEntries = exactMatchesFor(hexCopy, orthographic, orthographicIndex);
+        List<HexEntry> superimposedEntries = exactMatchesFor(hexCopy, superimposed, superimposedIndex);
+        return new TileMatch(baseFor(hexCopy), superimposedEntries, orthographicEntries);
     }
 
     /**
-     * Returns a list of images to be superimposed on the hex. As noted above, all matches must be 1.0, and if such a
-     * match is achieved, all terrain elements from the tileset hex are removed from the hex. Thus, you want to pass a
-     * copy of the original to this function.
+     * Returns the orthographic or superimposed entries that match the hex. As noted above, all matches must be 1.0, and
+     * if such a match is achieved, all terrain elements from the tileset hex are removed from the hex. Thus, you want
+     * to pass a copy of the original to this function. Only the entries that the index lists as candidates for the hex
+     * are tested, in tileset order.
      */
-    private List<Image> superimposedFor(Hex hex) {
-        ArrayList<Image> matches = new ArrayList<>();
-
-        // find superimposed image matches
-        for (HexEntry entry : superimposed) {
+    private List<HexEntry> exactMatchesFor(Hex hex, List<HexEntry> entries, CandidateIndex index) {
+        List<HexEntry> result = new ArrayList<>();
+        for (int candidate : index.candidates(hex)) {
+            HexEntry entry = entries.get(candidate);
             if (superMatch(hex, entry.getHex()) >= 1.0) {
-                Image img = entry.getImage(hex.getCoords().hashCode());
-                if (img != null) {
-                    matches.add(img);
-                } else {
-                    matches.add(ImageUtil.createAcceleratedImage(HEX_W, HEX_H));
-                }
+                result.add(entry);
                 // remove involved terrain from consideration
                 for (int terr : entry.getHex().getTerrainTypes()) {
                     if (entry.getHex().containsTerrain(terr)) {
@@ -237,14 +235,14 @@ public class HexTileset implements BoardListener {
                 }
             }
         }
-        return matches;
+        return result;
     }
 
     /**
-     * Returns the best matching base image for this hex. This works best if any terrain with a "super" image is
+     * Returns the best matching base entry for this hex. This works best if any terrain with a "super" image is
      * removed.
      */
-    private Image baseFor(Hex hex) {
+    private HexEntry baseFor(Hex hex) {
         HexEntry bestMatch = null;
         double match = -1;
 
@@ -268,8 +266,31 @@ public class HexTileset implements BoardListener {
                 match = thisMatch;
             }
         }
+        return bestMatch;
+    }
 
-        Random random = new Random(hex.getCoords().hashCode());
+    /**
+     * Returns the images of the given orthographic or superimposed entries, choosing the image variant by the given
+     * position.
+     */
+    private static List<Image> imagesFor(List<HexEntry> entries, Coords coords) {
+        List<Image> images = new ArrayList<>(entries.size());
+        for (HexEntry entry : entries) {
+            Image img = entry.getImage(coords.hashCode());
+            if (img != null) {
+                images.add(img);
+            } else {
+                images.add(ImageUtil.createAcceleratedImage(HEX_W, HEX_H));
+            }
+        }
+        return images;
+    }
+
+    /**
+     * Returns the image of the given base entry, choosing the image variant by the given position.
+     */
+    private static Image baseImageFor(HexEntry bestMatch, Coords coords) {
+        Random random = new Random(coords.hashCode());
         Image img = null;
 
         if (bestMatch != null) {
@@ -353,6 +374,9 @@ public class HexTileset implements BoardListener {
         }
         r.close();
         themes.add(TRANSPARENT_THEME);
+        matches.clear();
+        superimposedIndex = null;
+        orthographicIndex = null;
         long endTime = java.lang.System.currentTimeMillis();
 
         String loadInfo = String.format("Loaded %o base images, %o super images and %o orthographic images",
@@ -370,53 +394,9 @@ public class HexTileset implements BoardListener {
     }
 
     /**
-     * Match the two hexes using the "orthographic" super* formula. All matches must be exact, however the match only
-     * depends on the original hex matching all the elements of the comparison, not vice versa.
-     * <p>
-     * EXCEPTION: a themed original matches any unthemed comparison.
-     */
-    private double orthographicMatch(Hex org, Hex com) {
-        // exact elevation
-        if ((com.getLevel() != Terrain.WILDCARD) && (com.getLevel() < Terrain.AT_LEAST)
-              && (org.getLevel() != com.getLevel())) {
-            return 0;
-        }
-
-        // greater than elevation (e.g. >4), the "-100" to allow >-3
-        if ((com.getLevel() != Terrain.WILDCARD) && (com.getLevel() >= Terrain.AT_LEAST - 100)
-              && (org.getLevel() < com.getLevel() - Terrain.AT_LEAST)) {
-            return 0;
-        }
-
-        // A themed original matches any unthemed comparison.
-        if ((com.getTheme() != null) && !com.getTheme().equalsIgnoreCase(org.getTheme())) {
-            return 0.0;
-        }
-
-        // org terrains must match com terrains
-        if (org.terrainsPresent() < com.terrainsPresent()) {
-            return 0.0;
-        }
-
-        // check terrain
-        int[] cTerrainTypes = com.getTerrainTypes();
-        for (int cTerrType : cTerrainTypes) {
-            Terrain cTerr = com.getTerrain(cTerrType);
-            Terrain oTerr = org.getTerrain(cTerrType);
-
-            if (cTerr != null && ((oTerr == null)
-                  || ((cTerr.getLevel() != Terrain.WILDCARD) && (oTerr.getLevel() != cTerr.getLevel()))
-                  || (cTerr.hasExitsSpecified() && (oTerr.getExits() != cTerr.getExits())))) {
-                return 0;
-            }
-        }
-
-        return 1.0;
-    }
-
-    /**
-     * Match the two hexes using the "super" formula. All matches must be exact, however the match only depends on the
-     * original hex matching all the elements of the comparison, not vice versa.
+     * Match the two hexes using the "super" formula, which is also used for orthographic entries. All matches must be
+     * exact, however the match only depends on the original hex matching all the elements of the comparison, not vice
+     * versa.
      * <p>
      * EXCEPTION: a themed original matches any unthemed comparison.
      */
@@ -536,6 +516,78 @@ public class HexTileset implements BoardListener {
         return elevation * terrain * theme;
     }
 
+    /**
+     * The parts of a hex that decide which tileset entries match it: level, theme and the level and exits of each
+     * terrain. Two hexes with the same signature match the same entries.
+     */
+    private record TerrainSignature(int level, String theme, String terrains) {
+
+        TerrainSignature(Hex hex) {
+            this(hex.getLevel(), hex.getTheme(), terrainsOf(hex));
+        }
+
+        private static String terrainsOf(Hex hex) {
+            int[] types = hex.getTerrainTypes();
+            Arrays.sort(types);
+            StringBuilder result = new StringBuilder();
+            for (int type : types) {
+                Terrain terrain = hex.getTerrain(type);
+                result.append(type).append(':').append(terrain.getLevel()).append(':').append(terrain.getExits())
+                      .append(';');
+            }
+            return result.toString();
+        }
+    }
+
+    /** The tileset entries that match a terrain signature. The base entry is null when there are no base entries. */
+    private record TileMatch(HexEntry base, List<HexEntry> superimposed, List<HexEntry> orthographic) {
+    }
+
+    /**
+     * Indexes orthographic or superimposed entries by one of their terrain types. These entries only match hexes that
+     * have all of their terrain types, so an entry need only be tested for hexes that have its indexed type. Entries
+     * without terrain are tested for every hex.
+     */
+    private static class CandidateIndex {
+        private final int[] unconditional;
+        private final Map<Integer, int[]> byTerrain = new HashMap<>();
+
+        CandidateIndex(List<HexEntry> entries) {
+            List<Integer> withoutTerrain = new ArrayList<>();
+            Map<Integer, List<Integer>> withTerrain = new HashMap<>();
+            for (int i = 0; i < entries.size(); i++) {
+                int[] types = entries.get(i).getHex().getTerrainTypes();
+                if (types.length == 0) {
+                    withoutTerrain.add(i);
+                } else {
+                    withTerrain.computeIfAbsent(types[0], type -> new ArrayList<>()).add(i);
+                }
+            }
+            unconditional = withoutTerrain.stream().mapToInt(Integer::intValue).toArray();
+            withTerrain.forEach((type, indices) -> byTerrain.put(type,
+                  indices.stream().mapToInt(Integer::intValue).toArray()));
+        }
+
+        /**
+         * @return The positions of the entries that may match the given hex, in ascending order
+         */
+        int[] candidates(Hex hex) {
+            int[] result = unconditional;
+            for (int type : hex.getTerrainTypes()) {
+                int[] indices = byTerrain.get(type);
+                if (indices != null) {
+                    int[] merged = Arrays.copyOf(result, result.length + indices.length);
+                    System.arraycopy(indices, 0, merged, result.length, indices.length);
+                    result = merged;
+                }
+            }
+            if (result != unconditional) {
+                Arrays.sort(result);
+            }
+            return result;
+        }
+    }
+
     private static class HexEntry {
         private final Hex hex;
         private Vector<Image> images;
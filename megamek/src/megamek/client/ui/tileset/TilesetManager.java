@@ -48,6 +48,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.client.ui.clientGUI.GUIPreferences;
 import megamek.client.ui.clientGUI.boardview.BoardView;
@@ -137,7 +138,7 @@ public class TilesetManager implements IPreferenceChangeListener {
      * This is a cache that stores images for various colors (for Players, and possibly multiple players in the same
      * hex).
      */
-    private final Map<Color, Image> ecmStaticImages = new HashMap<>();
+    private final Map<Color, Image> ecmStaticImages = new ConcurrentHashMap<>();
 
     /** Creates new TilesetManager. */
     public TilesetManager(IGame game) throws IOException {
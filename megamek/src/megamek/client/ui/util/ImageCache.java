@@ -35,69 +35,242 @@
 
 package megamek.client.ui.util;
 
-import java.util.Hashtable;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
 
 import megamek.common.annotations.Nullable;
 
 /**
- * An ImageCache that keeps a Hashtable of mapped keys and values.
+ * A bounded cache for images and other values derived from images, such as the hex images of the board view or the
+ * scaled and combined tileset images. The cache has a budget in bytes; the size of every value is estimated when it is
+ * added (by default from the dimensions of the images it contains, see {@link #estimateBytes(Object)}), and the least
+ * recently used values are evicted when the budget is exceeded. Values that were evicted are simply created again by
+ * their users.
+ * <p>
+ * To keep lookups from different threads from blocking each other, the cache is split into {@link #STRIPES}
+ * segments by key hash, each with its own lock, LRU order and share of the budget. Hits, misses and evictions are
+ * counted for all caches together, see {@link #getStatistics()}.
  *
  * @author Arlith
  */
 public class ImageCache<K, V> {
     /**
-     * Default maximum size
+     * Default maximum number of entries. The size is now limited by the byte budget; this is kept as an additional
+     * upper limit on the entry count.
      */
     public static int MAX_SIZE = 30000;
 
+    /** The default budget of a single cache as a fraction of the maximum heap size */
+    private static final int DEFAULT_BUDGET_DIVISOR = 32;
+
+    /** The assumed size of a value that contains no image or an image whose size is not known yet */
+    private static final long UNKNOWN_SIZE = 16 * 1024;
+
+    private static final int STRIPES = 16;
 
     /**
-     * The cache of Key/Value pairs.
+     * Totals of all image caches.
+     *
+     * @param hits      The number of lookups that found a value
+     * @param misses    The number of lookups that found nothing
+     * @param evictions The number of values evicted to stay within the budget
+     * @param bytes     The estimated size of all currently cached values
      */
-    private final Hashtable<K, V> cache;
+    public record Statistics(long hits, long misses, long evictions, long bytes) {
+
+        /** @return The fraction of lookups that found a value, 0 when there were none */
+        public double hitRate() {
+            long lookups = hits + misses;
+            return (lookups == 0) ? 0 : (double) hits / lookups;
+        }
+    }
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final AtomicLong totalBytes = new AtomicLong();
+
+    private record Entry<V>(V value, long bytes) {
+    }
+
+    /** One segment of the cache: an access-ordered map with its own lock and budget */
+    private final class Stripe {
+        private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+        private long bytes;
+
+        synchronized @Nullable V get(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value();
+        }
+
+        synchronized void put(K key, V value) {
+            Entry<V> entry = new Entry<>(value, weigher.applyAsLong(value));
+            Entry<V> previous = entries.put(key, entry);
+            adjust(entry.bytes() - ((previous == null) ? 0 : previous.bytes()));
+            Iterator<Entry<V>> eldest = entries.values().iterator();
+            while (((bytes > maxBytesPerStripe) || (entries.size() > maxEntriesPerStripe)) && (entries.size() > 1)) {
+                Entry<V> evicted = eldest.next();
+                eldest.remove();
+                adjust(-evicted.bytes());
+                evictions.increment();
+            }
+        }
+
+        synchronized void remove(K key) {
+            Entry<V> previous = entries.remove(key);
+            if (previous != null) {
+                adjust(-previous.bytes());
+            }
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+
+        synchronized void clear() {
+            entries.clear();
+            adjust(-bytes);
+        }
+
+        private void adjust(long delta) {
+            bytes += delta;
+            totalBytes.addAndGet(delta);
+        }
+    }
+
+    private final List<Stripe> stripes;
+    private final long maxBytesPerStripe;
+    private final int maxEntriesPerStripe;
+    private final ToLongFunction<V> weigher;
 
     /**
-     * Create a cache with the default maximum size.
+     * Create a cache with the default budget, sizing values with {@link #estimateBytes(Object)}.
      */
     public ImageCache() {
-        cache = new Hashtable<>(MAX_SIZE * 5 / 4, .75f);
+        this(Runtime.getRuntime().maxMemory() / DEFAULT_BUDGET_DIVISOR, ImageCache::estimateBytes);
+    }
+
+    /**
+     * Create a cache with the default budget and the given way to size values.
+     *
+     * @param weigher Returns the estimated size of a value in bytes
+     */
+    public ImageCache(ToLongFunction<V> weigher) {
+        this(Runtime.getRuntime().maxMemory() / DEFAULT_BUDGET_DIVISOR, weigher);
     }
 
+    /**
+     * Create a cache with the given budget.
+     *
+     * @param maxBytes The budget of this cache in bytes
+     * @param weigher  Returns the estimated size of a value in bytes
+     */
+    public ImageCache(long maxBytes, ToLongFunction<V> weigher) {
+        this.weigher = weigher;
+        maxBytesPerStripe = Math.max(1, maxBytes / STRIPES);
+        maxEntriesPerStripe = Math.max(1, MAX_SIZE / STRIPES);
+        stripes = new ArrayList<>(STRIPES);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes.add(new Stripe());
+        }
+    }
 
     @Deprecated(since = "0.51.0", forRemoval = true)
     public ImageCache(int max) {
-        cache = new Hashtable<>(max * 5 / 4, .75f);
+        this();
     }
 
     /**
-     * Adds a new key/value pair into the cache.
+     * Adds a new key/value pair into the cache. This may evict the least recently used values.
      *
      */
-    public synchronized @Nullable V put(@Nullable K key, @Nullable V value) {
+    public @Nullable V put(@Nullable K key, @Nullable V value) {
         if ((key == null) || (value == null)) {
             return null;
         }
 
-        cache.put(key, value);
+        stripe(key).put(key, value);
         return value;
     }
 
-    public synchronized @Nullable V get(K key) {
-        return cache.getOrDefault(key, null);
+    public @Nullable V get(K key) {
+        if (key == null) {
+            return null;
+        }
+        return stripe(key).get(key);
     }
 
-    public synchronized void remove(K key) {
+    public void remove(K key) {
         if (key == null) {
             return;
         }
-        cache.remove(key);
+        stripe(key).remove(key);
     }
 
     public int size() {
-        return cache.size();
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
     }
 
     public void clear() {
-        cache.clear();
+        for (Stripe stripe : stripes) {
+            stripe.clear();
+        }
+    }
+
+    private Stripe stripe(K key) {
+        int hash = key.hashCode();
+        return stripes.get((hash ^ (hash >>> 16)) & (STRIPES - 1));
+    }
+
+    /**
+     * Estimates the memory used by a cached value: 4 bytes per pixel of an image, the sum for a collection of images.
+     * Images whose size is not known yet and other values count as {@link #UNKNOWN_SIZE}.
+     *
+     * @param value The cached value
+     *
+     * @return The estimated size in bytes
+     */
+    public static long estimateBytes(@Nullable Object value) {
+        if (value instanceof BufferedImage image) {
+            return (long) image.getWidth() * image.getHeight() * bytesPerPixel(image);
+        } else if (value instanceof Image image) {
+            int width = image.getWidth(null);
+            int height = image.getHeight(null);
+            return ((width > 0) && (height > 0)) ? (long) width * height * 4 : UNKNOWN_SIZE;
+        } else if (value instanceof Collection<?> collection) {
+            long bytes = 0;
+            for (Object element : collection) {
+                bytes += estimateBytes(element);
+            }
+            return bytes;
+        }
+        return UNKNOWN_SIZE;
+    }
+
+    private static int bytesPerPixel(BufferedImage image) {
+        int bits = image.getColorModel().getPixelSize();
+        return Math.max(1, (bits + 7) / 8);
+    }
+
+    /** @return The totals of all image caches */
+    public static Statistics getStatistics() {
+        return new Statistics(hits.sum(), misses.sum(), evictions.sum(), totalBytes.get());
     }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.game.Game;
+import megamek.common.options.OptionsConstants;
+
+/**
+ * Caches the terrain-dependent LOS between two positions on a board, see {@link Board#getLosCache()}. The bot's fire
+ * control, the server's double-blind filter and the client's LOS display ask for the same (hex, height) to (hex,
+ * height) LOS many times; this cache answers repeated questions without tracing the hex line again.
+ * <p>
+ * An entry is keyed by everything from the {@link LosEffects.AttackInfo} that the LOS calculation uses (positions,
+ * heights, water and altitude state) and by the LOS game options. It remembers every hex on the line together with
+ * its {@link Hex#getModificationCount() modification count}. An entry is only used when all these hexes are still the
+ * same objects with the same count; this catches both hexes replaced through setHex()/setHexes() and hexes changed in
+ * place, so no entry has to be invalidated explicitly when single hexes change. Replacing the whole board clears the
+ * cache through the board's events.
+ * <p>
+ * The cached LosEffects are copied before they are returned, as callers modify them. This class is thread-safe.
+ */
+public class BoardLosCache {
+
+    /** The cache is cleared when it grows beyond this number of entries */
+    private static final int MAX_ENTRIES = 20000;
+
+    private record LosKey(Coords attackPos, Coords targetPos, int attackAbsHeight, int targetAbsHeight,
+          int attackHeight, int targetHeight, int minimumWaterDepth, int flags) {
+    }
+
+    private record Entry(LosEffects los, int minimumWaterDepth, Coords[] coords, Hex[] hexes,
+          int[] modificationCounts) {
+
+        boolean isCurrent(Board board) {
+            for (int i = 0; i < hexes.length; i++) {
+                Hex hex = board.getHex(coords[i]);
+                if ((hex != hexes[i]) || ((hex != null) && (hex.getModificationCount() != modificationCounts[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Board board;
+    private final Map<LosKey, Entry> entries = new ConcurrentHashMap<>();
+
+    public BoardLosCache(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * Returns the LOS for the given attack info, from the cache if possible. Like
+     * {@link LosEffects#calculateLos(Game, LosEffects.AttackInfo)}, this updates the minimum water depth of the attack
+     * info.
+     */
+    LosEffects getLos(Game game, LosEffects.AttackInfo ai) {
+        LosKey key = createKey(game, ai);
+        Entry entry = entries.get(key);
+        if ((entry != null) && entry.isCurrent(board)) {
+            ai.minimumWaterDepth = entry.minimumWaterDepth;
+            return entry.los.copy();
+        }
+
+        Coords[] coords = lineCoords(ai);
+        Hex[] hexes = new Hex[coords.length];
+        int[] modificationCounts = new int[coords.length];
+        for (int i = 0; i < coords.length; i++) {
+            hexes[i] = board.getHex(coords[i]);
+            modificationCounts[i] = (hexes[i] == null) ? 0 : hexes[i].getModificationCount();
+        }
+        LosEffects los = LosEffects.calculateUncachedLos(game, ai);
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.clear();
+        }
+        entries.put(key, new Entry(los.copy(), ai.minimumWaterDepth, coords, hexes, modificationCounts));
+        return los;
+    }
+
+    /**
+     * Removes all cached LOS.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * @return All coords whose hexes the LOS calculation may look at: the hexes on the line in both directions, with
+     *       and without split hexes
+     */
+    private static Coords[] lineCoords(LosEffects.AttackInfo ai) {
+        Set<Coords> coords = new LinkedHashSet<>(Coords.intervening(ai.attackPos, ai.targetPos, true));
+        coords.addAll(Coords.intervening(ai.attackPos, ai.targetPos));
+        coords.addAll(Coords.intervening(ai.targetPos, ai.attackPos, true));
+        return coords.toArray(new Coords[0]);
+    }
+
+    private static LosKey createKey(Game game, LosEffects.AttackInfo ai) {
+        int flags = flags(ai.attUnderWater, ai.attInWater, ai.attOnLand, ai.attLowAlt, ai.targetUnderWater,
+              ai.targetInWater, ai.targetOnLand, ai.targetLowAlt, ai.underWaterCombat, ai.lowAltitude,
+              ai.targetEntity, ai.targetInfantry, ai.targetIsMek, ai.attackerIsMek, ai.attOffBoard,
+              game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS1),
+              game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DEAD_ZONES),
+              game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER));
+        return new LosKey(ai.attackPos, ai.targetPos, ai.attackAbsHeight, ai.targetAbsHeight, ai.attackHeight,
+              ai.targetHeight, ai.minimumWaterDepth, flags);
+    }
+
+    private static int flags(boolean... values) {
+        int result = 0;
+        for (boolean value : values) {
+            result = (result << 1) | (value ? 1 : 0);
+        }
+        return result;
+    }
+}
@@ -75,6 +75,19 @@ public class BulldozerMovePath extends MovePath {
         super(game, entity);
     }
 
+    /**
+     * Creates a copy of the given path, see {@link #clone()}.
+     */
+    protected BulldozerMovePath(BulldozerMovePath source) {
+        super(source);
+        coordLevelingCosts = new HashMap<>(source.coordLevelingCosts);
+        additionalCosts = new HashMap<>(source.additionalCosts);
+        coordsToLevel = new ArrayList<>(source.coordsToLevel);
+        maxPointBlankDamage = source.maxPointBlankDamage;
+        destination = (source.destination == null) ? null
+              : new Coords(source.destination.getX(), source.destination.getY());
+    }
+
     /**
      * Any additional costs of this move paths, such as stepping into water or other factors that would increase the
      * number of turns to complete it without increasing the actual MP used.
@@ -193,14 +206,7 @@ public class BulldozerMovePath extends MovePath {
      */
     @Override
     public BulldozerMovePath clone() {
-        final BulldozerMovePath copy = new BulldozerMovePath(getGame(), getEntity());
-        copyFields(copy);
-        copy.coordLevelingCosts = new HashMap<>(coordLevelingCosts);
-        copy.additionalCosts = new HashMap<>(additionalCosts);
-        copy.coordsToLevel = new ArrayList<>(coordsToLevel);
-        copy.maxPointBlankDamage = maxPointBlankDamage;
-        copy.destination = (destination == null) ? null : new Coords(destination.getX(), destination.getY());
-        return copy;
+        return new BulldozerMovePath(this);
     }
 
     /**
@@ -34,19 +34,23 @@
 
 package megamek.common;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.io.Serial;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.stream.Collectors;
 
 import megamek.common.annotations.Nullable;
+import megamek.common.board.BoardTerrainIndex;
 import megamek.common.board.Coords;
 import megamek.common.enums.BasementType;
 import megamek.common.rolls.PilotingRollData;
@@ -68,10 +72,35 @@ public class Hex implements Serializable {
     private static final long serialVersionUID = 82483704768044698L;
     private Coords coords;
     private int level;
-    private final Map<Integer, Terrain> terrains = new HashMap<>(1);
+
+    /**
+     * The terrains present in this hex are stored without boxing: a bitmask of the present terrain types (bit n stands
+     * for terrain type n; types 64 and up use the second mask) and the terrains themselves, ordered by type. The
+     * position of a terrain in terrainList is the number of lower terrain types present, see {@link #indexOf(int)}.
+     */
+    private long terrainTypesLow;
+    private long terrainTypesHigh;
+    private Terrain[] terrainList = NO_TERRAINS;
+
+    /**
+     * The terrain storage of save games from before the compact storage; only read when such a save is loaded and
+     * transferred to the compact storage in {@link #readResolve()}.
+     */
+    @Deprecated
+    private Map<Integer, Terrain> terrains;
+
     private String theme;
     private final String originalTheme;
     private int fireTurn;
+
+    /** Counts the changes to the level and terrains of this hex; see {@link #getModificationCount()} */
+    private transient int modificationCount;
+
+    /** The terrain index of the board this hex is on, if that board has one; it is told about terrain changes */
+    private transient BoardTerrainIndex terrainIndex;
+
+    private static final Terrain[] NO_TERRAINS = new Terrain[0];
+    private static final int MAX_TERRAIN_TYPES = 2 * Long.SIZE;
     //endregion Variable Declarations
 
     //region Constructors
@@ -102,7 +131,7 @@ public class Hex implements Serializable {
         coords = c;
         for (final Terrain t : terrains) {
             if (t != null) {
-                this.terrains.put(t.getType(), t);
+                addTerrain(t);
             }
         }
 
@@ -140,6 +169,7 @@ public class Hex implements Serializable {
 
     public void setLevel(int level) {
         this.level = level;
+        modificationCount++;
     }
 
     /**
@@ -160,10 +190,9 @@ public class Hex implements Serializable {
      * @return An array that contains an id for each terrain present in this hex.
      */
     public int[] getTerrainTypes() {
-        int[] result = new int[terrains.size()];
-        int i = 0;
-        for (Integer key : terrains.keySet()) {
-            result[i++] = key;
+        int[] result = new int[terrainList.length];
+        for (int i = 0; i < terrainList.length; i++) {
+            result[i] = terrainList[i].getType();
         }
         return result;
     }
@@ -172,7 +201,11 @@ public class Hex implements Serializable {
      * @return A HashSet that contains an id for each terrain present in this hex.
      */
     public Set<Integer> getTerrainTypesSet() {
-        return new HashSet<>(terrains.keySet());
+        Set<Integer> result = new HashSet<>();
+        for (Terrain terrain : terrainList) {
+            result.add(terrain.getType());
+        }
+        return result;
     }
 
     /**
@@ -186,9 +219,8 @@ public class Hex implements Serializable {
      * Clears the "exits" flag for all terrains in the hex where it is not manually specified.
      */
     public void clearExits() {
-        for (Integer i : terrains.keySet()) {
-            Terrain t = terrains.get(i);
-            if ((t != null) && !t.hasExitsSpecified()) {
+        for (Terrain t : terrainList) {
+            if (!t.hasExitsSpecified()) {
                 t.setExits(0);
             }
         }
@@ -221,16 +253,15 @@ public class Hex implements Serializable {
      * @see Hex#setExits(Hex, int)
      */
     public void setExits(Hex other, int direction, boolean roadsAutoExit) {
-        for (Integer i : terrains.keySet()) {
-            Terrain cTerr = getTerrain(i);
+        for (Terrain cTerr : terrainList) {
             Terrain oTerr;
 
-            if ((cTerr == null) || cTerr.hasExitsSpecified()) {
+            if (cTerr.hasExitsSpecified()) {
                 continue;
             }
 
             if (other != null) {
-                oTerr = other.getTerrain(i);
+                oTerr = other.getTerrain(cTerr.getType());
             } else {
                 oTerr = null;
             }
@@ -306,8 +337,8 @@ public class Hex implements Serializable {
      */
     public boolean containsExit(int direction) {
         boolean rv = false;
-        for (Integer terrType : terrains.keySet()) {
-            rv |= containsTerrainExit(terrType, direction);
+        for (Terrain terrain : terrainList) {
+            rv |= containsTerrainExit(terrain.getType(), direction);
         }
         return rv;
     }
@@ -317,8 +348,8 @@ public class Hex implements Serializable {
      */
     public boolean hasExitableTerrain() {
         boolean rv = false;
-        for (Integer terrType : terrains.keySet()) {
-            rv |= Terrains.exitableTerrain(terrType);
+        for (Terrain terrain : terrainList) {
+            rv |= Terrains.exitableTerrain(terrain.getType());
         }
         return rv;
     }
@@ -367,8 +398,8 @@ public class Hex implements Serializable {
     public int maxTerrainFeatureElevation(boolean inAtmosphere) {
         int maxFeature = 0;
         int featureElev;
-        for (Integer terrainType : terrains.keySet()) {
-            featureElev = terrains.get(terrainType).getTerrainElevation(inAtmosphere);
+        for (Terrain terrain : terrainList) {
+            featureElev = terrain.getTerrainElevation(inAtmosphere);
             if (featureElev > maxFeature) {
                 maxFeature = featureElev;
             }
@@ -416,8 +447,8 @@ public class Hex implements Serializable {
      * @return true if this hex has a terrain with a non-zero terrain factor
      */
     public boolean hasTerrainFactor() {
-        for (int type : terrains.keySet()) {
-            if (terrains.get(type).getTerrainFactor() > 0) {
+        for (Terrain terrain : terrainList) {
+            if (terrain.getTerrainFactor() > 0) {
                 return true;
             }
         }
@@ -434,7 +465,13 @@ public class Hex implements Serializable {
      * @see Hex#containsAnyTerrainOf(int...)
      */
     public boolean containsTerrain(int type) {
-        return getTerrain(type) != null;
+        if ((type < 0) || (type >= MAX_TERRAIN_TYPES)) {
+            return false;
+        } else if (type < Long.SIZE) {
+            return (terrainTypesLow & (1L << type)) != 0;
+        } else {
+            return (terrainTypesHigh & (1L << (type - Long.SIZE))) != 0;
+        }
     }
 
     /**
@@ -483,9 +520,12 @@ public class Hex implements Serializable {
      * @see Hex#containsAllTerrainsOf(int...)
      */
     public boolean containsAnyTerrainOf(Set<Integer> types) {
-        Set<Integer> keys = new HashSet<>(terrains.keySet());
-        keys.retainAll(types);
-        return !keys.isEmpty();
+        for (Terrain terrain : terrainList) {
+            if (types.contains(terrain.getType())) {
+                return true;
+            }
+        }
+        return false;
     }
 
     /**
@@ -582,7 +622,20 @@ public class Hex implements Serializable {
      * @return the terrain of the specified type, or <code>null</code> if the terrain is not present in the hex
      */
     public @Nullable Terrain getTerrain(int type) {
-        return terrains.get(type);
+        return containsTerrain(type) ? terrainList[indexOf(type)] : null;
+    }
+
+    /**
+     * @return The position in terrainList that a terrain of the given type has or would have. The type must be
+     *       between 0 and MAX_TERRAIN_TYPES - 1.
+     */
+    private int indexOf(int type) {
+        if (type < Long.SIZE) {
+            return Long.bitCount(terrainTypesLow & ((1L << type) - 1));
+        } else {
+            return Long.bitCount(terrainTypesLow)
+                  + Long.bitCount(terrainTypesHigh & ((1L << (type - Long.SIZE)) - 1));
+        }
     }
 
     /**
@@ -594,12 +647,12 @@ public class Hex implements Serializable {
      */
     public @Nullable Terrain getAnyTerrainOf(int type, int... types) {
         if (containsTerrain(type)) {
-            return terrains.get(type);
+            return getTerrain(type);
         }
 
         for (int moreTypes : types) {
             if (containsTerrain(moreTypes)) {
-                return terrains.get(moreTypes);
+                return getTerrain(moreTypes);
             }
         }
 
@@ -610,28 +663,94 @@ public class Hex implements Serializable {
      * @param terrain the terrain to add to this hex
      */
     public void addTerrain(Terrain terrain) {
-        terrains.put(terrain.getType(), terrain);
+        int type = terrain.getType();
+        if ((type < 0) || (type >= MAX_TERRAIN_TYPES)) {
+            throw new IllegalArgumentException("Invalid terrain type " + type);
+        }
+        int index = indexOf(type);
+        modificationCount++;
+        if (containsTerrain(type)) {
+            terrainList[index] = terrain;
+            return;
+        }
+        Terrain[] newList = new Terrain[terrainList.length + 1];
+        System.arraycopy(terrainList, 0, newList, 0, index);
+        newList[index] = terrain;
+        System.arraycopy(terrainList, index, newList, index + 1, terrainList.length - index);
+        terrainList = newList;
+        setTypePresent(type, true);
     }
 
     /**
      * @param type the terrain type to remove
      */
     public void removeTerrain(int type) {
-        terrains.remove(type);
+        if (!containsTerrain(type)) {
+            return;
+        }
+        modificationCount++;
+        int index = indexOf(type);
+        Terrain[] newList = new Terrain[terrainList.length - 1];
+        System.arraycopy(terrainList, 0, newList, 0, index);
+        System.arraycopy(terrainList, index + 1, newList, index, newList.length - index);
+        terrainList = (newList.length == 0) ? NO_TERRAINS : newList;
+        setTypePresent(type, false);
+    }
+
+    private void setTypePresent(int type, boolean present) {
+        if (type < Long.SIZE) {
+            terrainTypesLow = present ? (terrainTypesLow | (1L << type)) : (terrainTypesLow & ~(1L << type));
+        } else {
+            long bit = 1L << (type - Long.SIZE);
+            terrainTypesHigh = present ? (terrainTypesHigh | bit) : (terrainTypesHigh & ~bit);
+        }
+        notifyTerrainIndex();
+    }
+
+    private void notifyTerrainIndex() {
+        if (terrainIndex != null) {
+            terrainIndex.terrainChanged(this);
+        }
+    }
+
+    /**
+     * Sets the terrain index that is to be told when terrain types are added to or removed from this hex. This is
+     * called by the board that this hex is placed on.
+     *
+     * @param terrainIndex The terrain index of the board
+     */
+    public void setTerrainIndex(BoardTerrainIndex terrainIndex) {
+        this.terrainIndex = terrainIndex;
     }
 
     /**
      * Removes all Terrains from the hex.
      */
     public void removeAllTerrains() {
-        terrains.clear();
+        terrainList = NO_TERRAINS;
+        terrainTypesLow = 0;
+        terrainTypesHigh = 0;
+        modificationCount++;
+        notifyTerrainIndex();
+    }
+
+    /**
+     * Returns a number that changes whenever the level of this hex changes or terrain is added or removed. Hexes are
+     * often changed in place on the server; caches of terrain-dependent results, such as the board's LOS cache, use
+     * this to notice such changes. Note that changes made directly to a Terrain of this hex (e.g. its exits) are not
+     * counted.
+     *
+     * @return The modification count of this hex
+     */
+    public int getModificationCount() {
+        return modificationCount;
     }
 
     /**
      * @return the number of terrain attributes present
      */
     public int terrainsPresent() {
-        return terrains.size();
+        return terrainList.length;
     }
 
     /**
@@ -640,9 +759,9 @@ public class Hex implements Serializable {
      * @return new hex which is equal to this
      */
     public Hex duplicate() {
-        Terrain[] terrainCopy = new Terrain[Terrains.SIZE];
-        for (Integer i : terrains.keySet()) {
-            terrainCopy[i] = new Terrain(terrains.get(i));
+        Terrain[] terrainCopy = new Terrain[terrainList.length];
+        for (int i = 0; i < terrainList.length; i++) {
+            terrainCopy[i] = new Terrain(terrainList[i]);
         }
         return new Hex(level, terrainCopy, theme, coords);
     }
@@ -652,7 +771,9 @@ public class Hex implements Serializable {
      */
     public void applyTerrainPilotingModifiers(EntityMovementMode moveMode, PilotingRollData roll,
           boolean enteringRubble) {
-        terrains.values().forEach(t -> t.applyPilotingModifier(moveMode, roll, enteringRubble));
+        for (Terrain terrain : terrainList) {
+            terrain.applyPilotingModifier(moveMode, roll, enteringRubble);
+        }
     }
 
     /**
@@ -660,7 +781,7 @@ public class Hex implements Serializable {
      */
     public int movementCost(Entity entity) {
         int rv = 0;
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             rv += terrain.movementCost(entity);
         }
         return rv;
@@ -671,7 +792,7 @@ public class Hex implements Serializable {
      */
     public int getIgnitionModifier() {
         int mod = 0;
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             if (terrain != null) {
                 mod += terrain.ignitionModifier();
             }
@@ -706,9 +827,9 @@ public class Hex implements Serializable {
      * Returns the "Base Terrain" for the hex, or 0 if it is clear
      */
     public int getBaseTerrainType() {
-        for (int terrain : terrains.keySet()) {
-            if (Terrains.isBaseTerrain(terrain)) {
-                return terrain;
+        for (Terrain terrain : terrainList) {
+            if (Terrains.isBaseTerrain(terrain.getType())) {
+                return terrain.getType();
             }
         }
         return 0;
@@ -732,7 +853,7 @@ public class Hex implements Serializable {
      */
     public int getBogDownModifier(EntityMovementMode moveMode, boolean largeVee) {
         int mod = TargetRoll.AUTOMATIC_SUCCESS;
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             if ((terrain != null) && (mod < terrain.getBogDownModifier(moveMode, largeVee))) {
                 mod = terrain.getBogDownModifier(moveMode, largeVee);
             }
@@ -744,7 +865,7 @@ public class Hex implements Serializable {
      * get any modifiers to an unstuck roll in this hex.
      */
     public void getUnstuckModifier(int elev, PilotingRollData rollTarget) {
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             terrain.getUnstuckModifier(elev, rollTarget);
         }
     }
@@ -801,7 +922,7 @@ public class Hex implements Serializable {
         List<String> newErrors = new ArrayList<>();
 
         // Check individual terrains for validity
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             if (terrain == null) {
                 newErrors.add("Hex contains a null terrain.");
             } else {
@@ -882,7 +1003,7 @@ public class Hex implements Serializable {
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder("Level: ").append(getLevel()).append("  Features: ");
-        for (final Terrain terrain : terrains.values()) {
+        for (final Terrain terrain : terrainList) {
             if (terrain != null) {
                 switch (terrain.getType()) {
                     case Terrains.WOODS:
@@ -988,4 +1109,79 @@ public class Hex implements Serializable {
         }
         return new Hex(hexLevel, terrainString, theme, new Coords(0, 0));
     }
+
+    /**
+     * Writes this hex in a compact binary form that {@link #readCompact(DataInput)} restores. This is used by the
+     * compact packet marshaller to send boards without the overhead of native serialization and is not a file format;
+     * it may change between versions.
+     *
+     * @param out The output to write to
+     */
+    public void writeCompact(DataOutput out) throws IOException {
+        out.writeInt(coords.getX());
+        out.writeInt(coords.getY());
+        out.writeInt(level);
+        writeNullableString(out, originalTheme);
+        writeNullableString(out, theme);
+        out.writeInt(fireTurn);
+        out.writeByte(terrainList.length);
+        for (Terrain terrain : terrainList) {
+            out.writeByte(terrain.getType());
+            out.writeInt(terrain.getLevel());
+            out.writeBoolean(terrain.hasExitsSpecified());
+            out.writeInt(terrain.getExits());
+            out.writeInt(terrain.getTerrainFactor());
+        }
+    }
+
+    /**
+     * Reads a hex written by {@link #writeCompact(DataOutput)}.
+     *
+     * @param in The input to read from
+     *
+     * @return The hex
+     */
+    public static Hex readCompact(DataInput in) throws IOException {
+        Coords coords = new Coords(in.readInt(), in.readInt());
+        int level = in.readInt();
+        String originalTheme = readNullableString(in);
+        String theme = readNullableString(in);
+        int fireTurn = in.readInt();
+        Terrain[] terrains = new Terrain[in.readUnsignedByte()];
+        for (int i = 0; i < terrains.length; i++) {
+            terrains[i] = new Terrain(in.readUnsignedByte(), in.readInt(), in.readBoolean(), in.readInt());
+            terrains[i].setTerrainFactor(in.readInt());
+        }
+        Hex hex = new Hex(level, terrains, originalTheme, coords);
+        hex.theme = theme;
+        hex.fireTurn = fireTurn;
+        return hex;
+    }
+
+    private static void writeNullableString(DataOutput out, @Nullable String string) throws IOException {
+        out.writeBoolean(string != null);
+        if (string != null) {
+            out.writeUTF(string);
+        }
+    }
+
+    private static @Nullable String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Transfers the terrains of hexes from older save games to the compact terrain storage.
+     */
+    @Serial
+    private Object readResolve() {
+        if (terrainList == null) {
+            terrainList = NO_TERRAINS;
+        }
+        if (terrains != null) {
+            Map<Integer, Terrain> legacyTerrains = terrains;
+            terrains = null;
+            legacyTerrains.values().stream().filter(Objects::nonNull).forEach(this::addTerrain);
+        }
+        return this;
+    }
 }
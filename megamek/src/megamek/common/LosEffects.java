@@ -219,6 +219,46 @@ public class LosEffects {
         minimumWaterDepth = inVal;
     }
 
+    /**
+     * @return A copy of these LosEffects that can be changed independently
+     */
+    LosEffects copy() {
+        LosEffects copy = new LosEffects();
+        copy.blocked = blocked;
+        copy.deadZone = deadZone;
+        copy.infProtected = infProtected;
+        copy.hasLoS = hasLoS;
+        copy.targetIsOversized = targetIsOversized;
+        copy.plantedFields = plantedFields;
+        copy.heavyIndustrial = heavyIndustrial;
+        copy.lightWoods = lightWoods;
+        copy.heavyWoods = heavyWoods;
+        copy.ultraWoods = ultraWoods;
+        copy.lightSmoke = lightSmoke;
+        copy.heavySmoke = heavySmoke;
+        copy.screen = screen;
+        copy.softBuildings = softBuildings;
+        copy.hardBuildings = hardBuildings;
+        copy.buildingLevelsOrHexes = buildingLevelsOrHexes;
+        copy.blockedByHill = blockedByHill;
+        copy.blockedByWater = blockedByWater;
+        copy.targetCover = targetCover;
+        copy.attackerCover = attackerCover;
+        copy.thruBldg = thruBldg;
+        copy.targetLoc = targetLoc;
+        copy.damagableCoverTypePrimary = damagableCoverTypePrimary;
+        copy.damagableCoverTypeSecondary = damagableCoverTypeSecondary;
+        copy.coverBuildingPrimary = coverBuildingPrimary;
+        copy.coverBuildingSecondary = coverBuildingSecondary;
+        copy.coverDropshipPrimary = coverDropshipPrimary;
+        copy.coverDropshipSecondary = coverDropshipSecondary;
+        copy.coverLocPrimary = coverLocPrimary;
+        copy.coverLocSecondary = coverLocSecondary;
+        copy.minimumWaterDepth = minimumWaterDepth;
+        copy.arcedShot = arcedShot;
+        return copy;
+    }
+
     public void add(LosEffects other) {
         // We need to check if we should update damageable cover
         // We need to update cover if it's present, but we don't want to
@@ -790,6 +830,19 @@ public class LosEffects {
     }
 
     public static LosEffects calculateLos(Game game, AttackInfo ai) {
+        Board board = game.getBoard(ai.boardId);
+        BoardLosCache losCache = (board == null) ? null : board.getLosCache();
+        if ((losCache == null) || (ai.attackPos == null) || (ai.targetPos == null)
+              || game.hasGroundedDropship(ai.boardId)) {
+            return calculateUncachedLos(game, ai);
+        }
+        return losCache.getLos(game, ai);
+    }
+
+    /**
+     * Calculates the LOS for the given attack info without using the board's LOS cache.
+     */
+    static LosEffects calculateUncachedLos(Game game, AttackInfo ai) {
         boolean useDiagramLos = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS1);
         boolean useDeadZones = game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DEAD_ZONES);
         boolean usePartialCover = game.getOptions()
@@ -1370,7 +1423,7 @@ public class LosEffects {
 
         // check for grounded dropships - treat like a building 10 elevations tall
         if (bldgEl < 10) {
-            for (Entity inHex : game.getEntitiesVector(coords)) {
+            for (Entity inHex : game.getEntitiesVector(coords, ai.boardId)) {
                 if (ai.attackerId == inHex.getId() || ai.targetId == inHex.getId()) {
                     continue;
                 }
@@ -1859,7 +1912,7 @@ public class LosEffects {
                 }
                 // check for grounded dropships - treat like a building 10 elevations tall
                 if (bldgEl < 10) {
-                    for (Entity inHex : game.getEntitiesVector(c)) {
+                    for (Entity inHex : game.getEntitiesVector(c, ai.boardId)) {
                         if (ai.attackerId == inHex.getId() || ai.targetId == inHex.getId()) {
                             continue;
                         }
@@ -35,6 +35,7 @@
 package megamek.common;
 
 import java.util.Random;
+import java.util.SplittableRandom;
 
 import megamek.common.rolls.MMRoll;
 import megamek.common.rolls.Roll;
@@ -73,6 +74,14 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Gives a generator that produces a reproducible random sequence for the given seed, e.g. for one worker of a batch
+     * of simulations. The generator is not thread-safe and must only be used by one thread.
+     */
+    public static MMRandom generateSeeded(long seed) {
+        return new SeededRandom(seed);
+    }
+
     /**
      * Simulates six-sided die rolls.
      *
@@ -152,6 +161,27 @@ public abstract class MMRandom {
         }
     }
 
+    /**
+     * Uses java.util.SplittableRandom with a given seed; for use by a single thread
+     */
+    static class SeededRandom extends MMRandom {
+        private final SplittableRandom random;
+
+        SeededRandom(long seed) {
+            random = new SplittableRandom(seed);
+        }
+
+        @Override
+        public int randomInt(int maxValue) {
+            return random.nextInt(maxValue);
+        }
+
+        @Override
+        public float randomFloat() {
+            return random.nextFloat();
+        }
+    }
+
     /**
      * Uses java.security.SecureRandom
      */
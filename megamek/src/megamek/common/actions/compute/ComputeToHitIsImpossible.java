@@ -614,6 +614,27 @@ class ComputeToHitIsImpossible {
             return Messages.getString("WeaponAttackAction.TagOnlyInOffboard");
         }
 
+        return unitAndWeaponImpossibleReason(game, attacker, entityTarget, attackerId, target, targetType, toHit,
+              distance, spotter, weaponType, weapon, weaponId, ammoType, ammo, isFlakAttack, isArtilleryDirect,
+              isArtilleryFLAK, isArtilleryIndirect, isAttackerInfantry, isBearingsOnlyMissile, isCruiseMissile,
+              isHoming, isInferno, isIndirect, isStrafing, isTAG, targetInBuilding, usesAmmo, evenIfAlreadyFired);
+    }
+
+    /**
+     * Second half of {@link #toHitIsImpossible}: the unit-specific and weapon-specific reasons. This is kept in its own
+     * method because the checks as a single method are larger than the JIT will compile (HotSpot's 8000 bytecode
+     * byte limit for huge methods), which left the whole check running interpreted.
+     *
+     * @return the reason the attack is impossible, or null if it can continue
+     */
+    private static String unitAndWeaponImpossibleReason(Game game, Entity attacker, Entity entityTarget, int attackerId,
+          Targetable target, int targetType, ToHitData toHit, int distance, Entity spotter, WeaponType weaponType,
+          WeaponMounted weapon, int weaponId, AmmoType ammoType, AmmoMounted ammo, boolean isFlakAttack,
+          boolean isArtilleryDirect, boolean isArtilleryFLAK, boolean isArtilleryIndirect, boolean isAttackerInfantry,
+          boolean isBearingsOnlyMissile, boolean isCruiseMissile, boolean isHoming, boolean isInferno,
+          boolean isIndirect, boolean isStrafing, boolean isTAG, boolean targetInBuilding, boolean usesAmmo,
+          boolean evenIfAlreadyFired) {
+
         // Unit-specific Reasons
 
         // Airborne units cannot tag and attack
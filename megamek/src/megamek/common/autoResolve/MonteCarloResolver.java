@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.autoResolve;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import megamek.common.MMRandom;
+import megamek.common.annotations.Nullable;
+import megamek.common.autoResolve.acar.SimulationOptions;
+import megamek.common.autoResolve.converter.SetupForces;
+import megamek.common.board.Board;
+import megamek.common.compute.Compute;
+import megamek.common.planetaryConditions.PlanetaryConditions;
+import megamek.logging.MMLogger;
+
+/**
+ * Runs a batch of independent auto resolve simulations of the same scenario in parallel and aggregates their results
+ * in {@link SimulationStatistics} as they come in. This is a headless API for callers that need a victory chance
+ * rather than a single battle, such as the lobby's victory chance estimate or campaign tools.
+ * <p>
+ * Each simulation rolls its dice from its own random stream (see {@link Compute#setThreadRNG(MMRandom)}), seeded from
+ * the batch seed and the number of the run. The outcome of each run therefore does not depend on which worker thread
+ * runs it or on the other runs. The batch stops early once the confidence interval of the win probability is narrow
+ * enough, if a tolerance is set.
+ *
+ * <pre>
+ * SimulationStatistics statistics = new MonteCarloResolver(setupForces, board, planetaryConditions, team)
+ *       .withMaxRuns(5000)
+ *       .withTolerance(0.01)
+ *       .run();
+ * </pre>
+ */
+public class MonteCarloResolver {
+    private static final MMLogger LOGGER = MMLogger.create(MonteCarloResolver.class);
+
+    private final SetupForces setupForces;
+    private final Board board;
+    private final PlanetaryConditions planetaryConditions;
+    private final int teamOfInterest;
+
+    private int maxRuns = 1000;
+    private int minRuns = 100;
+    private double tolerance = 0;
+    private int threads = 0;
+    private long seed = System.nanoTime();
+    private Consumer<SimulationStatistics> progressListener = statistics -> { };
+
+    /**
+     * @param setupForces         the {@link SetupForces} object that converts MegaMek forces to ACAR forces
+     * @param board               the {@link Board}; each simulation runs on a board of the same size
+     * @param planetaryConditions the {@link PlanetaryConditions}; each simulation uses a copy
+     * @param teamOfInterest      the team whose victory chance is estimated
+     */
+    public MonteCarloResolver(SetupForces setupForces, Board board, PlanetaryConditions planetaryConditions,
+          int teamOfInterest) {
+        this.setupForces = setupForces;
+        this.board = board;
+        this.planetaryConditions = planetaryConditions;
+        this.teamOfInterest = teamOfInterest;
+    }
+
+    /**
+     * @param maxRuns The number of simulations to run at most; default 1000
+     */
+    public MonteCarloResolver withMaxRuns(int maxRuns) {
+        this.maxRuns = maxRuns;
+        return this;
+    }
+
+    /**
+     * @param minRuns The number of simulations to run at least before stopping early; default 100
+     */
+    public MonteCarloResolver withMinRuns(int minRuns) {
+        this.minRuns = minRuns;
+        return this;
+    }
+
+    /**
+     * @param tolerance The batch stops once half the width of the 95% confidence interval of the win probability is
+     *                  at most this value; 0 (the default) always runs the maximum number of simulations
+     */
+    public MonteCarloResolver withTolerance(double tolerance) {
+        this.tolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * @param threads The number of worker threads; 0 or less (the default) means one per available processor
+     */
+    public MonteCarloResolver withThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+
+    /**
+     * @param seed The seed from which the random streams of the simulations are derived
+     */
+    public MonteCarloResolver withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * @param progressListener Called after every finished simulation, from the worker thread that ran it
+     */
+    public MonteCarloResolver withProgressListener(@Nullable Consumer<SimulationStatistics> progressListener) {
+        this.progressListener = (progressListener == null) ? statistics -> { } : progressListener;
+        return this;
+    }
+
+    /**
+     * Runs the simulations and returns when they are done, either because the maximum number of runs was reached or
+     * because the win probability converged.
+     *
+     * @return The aggregated results
+     */
+    public SimulationStatistics run() {
+        SimulationStatistics statistics = new SimulationStatistics(teamOfInterest);
+        if (maxRuns <= 0) {
+            return statistics;
+        }
+        int workerCount = Math.min(maxRuns, (threads > 0) ? threads : Runtime.getRuntime().availableProcessors());
+        AtomicInteger startedRuns = new AtomicInteger();
+        AtomicBoolean converged = new AtomicBoolean();
+
+        ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+        try {
+            List<Future<?>> workers = new ArrayList<>(workerCount);
+            for (int i = 0; i < workerCount; i++) {
+                workers.add(executor.submit(() -> runWorker(statistics, startedRuns, converged)));
+            }
+            for (Future<?> worker : workers) {
+                try {
+                    worker.get();
+                } catch (ExecutionException e) {
+                    LOGGER.error(e.getCause(), "Auto resolve worker failed");
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            converged.set(true);
+            LOGGER.error(e, "Interrupted while running auto resolve simulations");
+        } finally {
+            executor.shutdownNow();
+        }
+        LOGGER.debug("Auto resolve batch finished: {}", statistics);
+        return statistics;
+    }
+
+    private void runWorker(SimulationStatistics statistics, AtomicInteger startedRuns, AtomicBoolean converged) {
+        try {
+            int run;
+            while (!converged.get() && ((run = startedRuns.getAndIncrement()) < maxRuns)
+                  && !Thread.currentThread().isInterrupted()) {
+                Compute.setThreadRNG(MMRandom.generateSeeded(runSeed(run)));
+                try {
+                    statistics.addResult(Resolver.simulationRunWithoutLog(setupForces, SimulationOptions.empty(),
+                          new Board(board.getWidth(), board.getHeight()),
+                          new PlanetaryConditions(planetaryConditions)).resolveSimulation());
+                } catch (Exception e) {
+                    LOGGER.error(e, "While processing simulation");
+                    statistics.addFailure();
+                }
+                if ((tolerance > 0) && (statistics.getResults() >= minRuns)
+                      && (statistics.getConfidenceHalfWidth() <= tolerance)) {
+                    converged.set(true);
+                }
+                progressListener.accept(statistics);
+            }
+        } finally {
+            Compute.setThreadRNG(null);
+        }
+    }
+
+    /**
+     * @return The seed of the random stream of the given run, derived from the batch seed
+     */
+    private long runSeed(int run) {
+        return new SplittableRandom(seed + run * 0x9E3779B97F4A7C15L).nextLong();
+    }
+}
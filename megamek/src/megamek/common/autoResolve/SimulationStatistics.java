@@ -0,0 +1,263 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.autoResolve;
+
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import megamek.common.autoResolve.event.AutoResolveConcludedEvent;
+import megamek.common.units.Entity;
+import megamek.server.victory.VictoryResult;
+
+/**
+ * Aggregates the results of a batch of auto resolve simulations for one team: victories, losses and draws, the win
+ * probability with its confidence interval and, per team, the distribution of the number of units lost per
+ * simulation. Results may be added from several threads; all methods are thread-safe.
+ *
+ * @see MonteCarloResolver
+ */
+public class SimulationStatistics {
+
+    /** The z value of the 95% confidence interval */
+    public static final double Z_95 = 1.96;
+
+    private final int teamOfInterest;
+    private final double z;
+    private int victories;
+    private int losses;
+    private int draws;
+    private int failures;
+    /** Per team: number of units lost in a simulation to the number of simulations with that loss */
+    private final Map<Integer, SortedMap<Integer, Integer>> casualties = new HashMap<>();
+
+    /**
+     * Creates statistics with a 95% confidence interval.
+     *
+     * @param teamOfInterest The team whose victories are counted
+     */
+    public SimulationStatistics(int teamOfInterest) {
+        this(teamOfInterest, Z_95);
+    }
+
+    /**
+     * @param teamOfInterest The team whose victories are counted
+     * @param z              The z value (standard normal quantile) of the confidence interval
+     */
+    public SimulationStatistics(int teamOfInterest, double z) {
+        this.teamOfInterest = teamOfInterest;
+        this.z = z;
+    }
+
+    /**
+     * Adds the result of one simulation.
+     */
+    public void addResult(AutoResolveConcludedEvent event) {
+        Map<Integer, Integer> lostUnits = new HashMap<>();
+        countLostUnits(event.getGraveyardEntities(), lostUnits);
+        countLostUnits(event.getDevastatedEntities(), lostUnits);
+        countTeams(event.getEntities(), lostUnits);
+        countTeams(event.getRetreatedEntities(), lostUnits);
+        synchronized (this) {
+            addResult(event.getVictoryResult());
+            for (Map.Entry<Integer, Integer> entry : lostUnits.entrySet()) {
+                casualties.computeIfAbsent(entry.getKey(), team -> new TreeMap<>())
+                      .merge(entry.getValue(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /**
+     * Adds the outcome of one simulation without casualties.
+     */
+    public synchronized void addResult(VictoryResult victoryResult) {
+        if (victoryResult.getWinningTeam() == teamOfInterest) {
+            victories++;
+        } else if (victoryResult.isDraw()) {
+            draws++;
+        } else {
+            losses++;
+        }
+    }
+
+    /**
+     * Counts a simulation that failed to produce a result.
+     */
+    public synchronized void addFailure() {
+        failures++;
+    }
+
+    public int getTeamOfInterest() {
+        return teamOfInterest;
+    }
+
+    public synchronized int getVictories() {
+        return victories;
+    }
+
+    public synchronized int getLosses() {
+        return losses;
+    }
+
+    public synchronized int getDraws() {
+        return draws;
+    }
+
+    public synchronized int getFailures() {
+        return failures;
+    }
+
+    /**
+     * @return The number of simulations that produced a result
+     */
+    public synchronized int getResults() {
+        return victories + losses + draws;
+    }
+
+    /**
+     * @return The number of simulations run, including failed ones
+     */
+    public synchronized int getRuns() {
+        return victories + losses + draws + failures;
+    }
+
+    /**
+     * @return The share of results that are victories for the team of interest, 0 when there are no results
+     */
+    public synchronized double getWinProbability() {
+        int results = getResults();
+        return (results == 0) ? 0 : (double) victories / results;
+    }
+
+    /**
+     * @return The lower bound of the (Wilson score) confidence interval of the win probability
+     */
+    public synchronized double getWinProbabilityLowerBound() {
+        return Math.max(0, wilsonCenter() - wilsonHalfWidth());
+    }
+
+    /**
+     * @return The upper bound of the (Wilson score) confidence interval of the win probability
+     */
+    public synchronized double getWinProbabilityUpperBound() {
+        return Math.min(1, wilsonCenter() + wilsonHalfWidth());
+    }
+
+    /**
+     * @return Half the width of the confidence interval of the win probability; 1 (i.e. nothing known) when there are
+     *       no results
+     */
+    public synchronized double getConfidenceHalfWidth() {
+        return (getResults() == 0) ? 1 : wilsonHalfWidth();
+    }
+
+    /**
+     * @param team The team
+     *
+     * @return The number of units the team lost in a simulation, mapped to the number of simulations where it lost
+     *       that many; unit losses are destroyed, salvageable, ejected and captured units
+     */
+    public synchronized SortedMap<Integer, Integer> getCasualtyDistribution(int team) {
+        return Collections.unmodifiableSortedMap(new TreeMap<>(casualties.getOrDefault(team, new TreeMap<>())));
+    }
+
+    /**
+     * @param team The team
+     *
+     * @return The average number of units the team lost per simulation with a result
+     */
+    public synchronized double getMeanCasualties(int team) {
+        SortedMap<Integer, Integer> distribution = casualties.get(team);
+        if (distribution == null) {
+            return 0;
+        }
+        long lostUnits = 0;
+        long simulations = 0;
+        for (Map.Entry<Integer, Integer> entry : distribution.entrySet()) {
+            lostUnits += (long) entry.getKey() * entry.getValue();
+            simulations += entry.getValue();
+        }
+        return (double) lostUnits / simulations;
+    }
+
+    private double wilsonCenter() {
+        int results = getResults();
+        if (results == 0) {
+            return 0.5;
+        }
+        double p = (double) victories / results;
+        double zSquared = z * z;
+        return (p + zSquared / (2.0 * results)) / (1 + zSquared / results);
+    }
+
+    private double wilsonHalfWidth() {
+        int results = getResults();
+        if (results == 0) {
+            return 0.5;
+        }
+        double p = (double) victories / results;
+        double zSquared = z * z;
+        return z * Math.sqrt(p * (1 - p) / results + zSquared / (4.0 * results * results))
+              / (1 + zSquared / results);
+    }
+
+    private static void countLostUnits(Enumeration<Entity> entities, Map<Integer, Integer> lostUnits) {
+        while (entities.hasMoreElements()) {
+            Entity entity = entities.nextElement();
+            if (entity.getOwner() != null) {
+                lostUnits.merge(entity.getOwner().getTeam(), 1, Integer::sum);
+            }
+        }
+    }
+
+    /** Makes sure that teams that lost nothing appear with 0 losses */
+    private static void countTeams(Enumeration<Entity> entities, Map<Integer, Integer> lostUnits) {
+        while (entities.hasMoreElements()) {
+            Entity entity = entities.nextElement();
+            if (entity.getOwner() != null) {
+                lostUnits.putIfAbsent(entity.getOwner().getTeam(), 0);
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%d runs (%d failed): %d victories, %d losses, %d draws; win probability %.3f [%.3f, %.3f]",
+              getRuns(), failures, victories, losses, draws, getWinProbability(), getWinProbabilityLowerBound(),
+              getWinProbabilityUpperBound());
+    }
+}
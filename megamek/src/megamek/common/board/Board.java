@@ -47,6 +47,7 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import megamek.client.ui.clientGUI.GUIPreferences;
+import megamek.common.BoardLosCache;
 import megamek.common.Configuration;
 import megamek.common.Hex;
 import megamek.common.IdealHex;
@@ -157,6 +158,12 @@ public class Board implements Serializable {
 
     protected transient Vector<BoardListener> boardListeners = new Vector<>();
 
+    /** The LOS cache of this board; created on first use, see {@link #getLosCache()} */
+    private transient volatile BoardLosCache losCache;
+
+    /** The index of hexes by terrain type; created on first use, see {@link #getHexesWithTerrain(int)} */
+    private transient volatile BoardTerrainIndex terrainIndex;
+
     /**
      * Record the infernos placed on the board.
      */
@@ -507,6 +514,12 @@ public class Board implements Serializable {
         // Add woods/jungle elevation where none was saved
         initializeFoliageElev(x, y);
 
+        BoardTerrainIndex index = terrainIndex;
+        if (index != null) {
+            hex.setTerrainIndex(index);
+            index.terrainChanged(hex);
+        }
+
         if (event) {
             processBoardEvent(new BoardEvent(this, new Coords(x, y), BoardEvent.BOARD_CHANGED_HEX));
         }
@@ -1684,6 +1697,13 @@ public class Board implements Serializable {
      * stored in the player class
      */
     public void processBoardEvent(BoardEvent event) {
+        if (event.getType() != BoardEvent.BOARD_CHANGED_HEX) {
+            if (losCache != null) {
+                losCache.clear();
+            }
+            // The hexes may have been replaced without going through initializeHex()
+            terrainIndex = null;
+        }
         if (boardListeners == null) {
             return;
         }
@@ -1702,6 +1722,47 @@ public class Board implements Serializable {
         }
     }
 
+    /**
+     * Returns the coords of all hexes of this board that contain any of the given terrain types, ordered by column and
+     * then by row. This uses an index that is kept current when hexes are set or their terrain changes, so it is much
+     * faster than checking every hex of the board; only the first call for a terrain type goes through all hexes.
+     *
+     * @param terrainTypes The terrain types, such as Terrains.FIRE
+     *
+     * @return The coords of the hexes containing any of the terrain types; the list is a copy
+     */
+    public List<Coords> getHexesWithTerrain(int... terrainTypes) {
+        BoardTerrainIndex result = terrainIndex;
+        if (result == null) {
+            synchronized (this) {
+                if (terrainIndex == null) {
+                    terrainIndex = new BoardTerrainIndex(this);
+                }
+                result = terrainIndex;
+            }
+        }
+        return result.hexesWithAny(terrainTypes);
+    }
+
+    /**
+     * Returns the LOS cache of this board. It is used by LosEffects for all LOS calculations on this board. Changes to
+     * single hexes are detected by the cache itself; it is cleared when the whole board changes.
+     *
+     * @return The LOS cache of this board
+     */
+    public BoardLosCache getLosCache() {
+        BoardLosCache result = losCache;
+        if (result == null) {
+            synchronized (this) {
+                if (losCache == null) {
+                    losCache = new BoardLosCache(this);
+                }
+                result = losCache;
+            }
+        }
+        return result;
+    }
+
     /**
      * @return an <code>Hashtable</code> of <code>InfernoTrackers</code> on the board.
      */
@@ -2255,5 +2316,9 @@ public class Board implements Serializable {
         while (iter.hasMoreElements()) {
             bldgByCoords.put(iter.nextElement(), bldg);
         }
+        // Cached LOS may refer to the buildings that were present before
+        if (losCache != null) {
+            losCache.clear();
+        }
     }
 }
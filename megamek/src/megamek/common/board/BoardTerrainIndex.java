@@ -0,0 +1,124 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.board;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.common.Hex;
+
+/**
+ * Keeps track of the hexes of a board that contain certain terrain types, see {@link Board#getHexesWithTerrain(int)}.
+ * The end phase processors (fire, quicksand, screens and the like) only care for a few hexes of a board; this index
+ * lets them visit these hexes without looking at every hex of the board each round.
+ * <p>
+ * A terrain type is indexed with a full scan of the board when it is first asked for. After that, the index is kept
+ * current: the board reports hexes it sets or initializes, and hexes report terrain types being added or removed in
+ * place. Replacing all hexes of the board discards the index. This class is thread-safe.
+ */
+public class BoardTerrainIndex {
+
+    /** The order in which the end phase processors have always visited the hexes: by column, then by row */
+    private static final Comparator<Coords> BOARD_ORDER = Comparator.comparingInt(Coords::getX)
+          .thenComparingInt(Coords::getY);
+
+    private final Board board;
+    private final Map<Integer, Set<Coords>> hexesByTerrain = new HashMap<>();
+
+    BoardTerrainIndex(Board board) {
+        this.board = board;
+    }
+
+    /**
+     * @param terrainTypes The terrain types, such as Terrains.FIRE
+     *
+     * @return The coords of all hexes of the board containing any of the given terrain types, by column and then by
+     *       row. The list is a copy; the hexes may be changed while going through it.
+     */
+    synchronized List<Coords> hexesWithAny(int... terrainTypes) {
+        Set<Coords> result = new HashSet<>();
+        for (int terrainType : terrainTypes) {
+            Set<Coords> hexes = hexesByTerrain.get(terrainType);
+            if (hexes == null) {
+                hexes = scan(terrainType);
+                hexesByTerrain.put(terrainType, hexes);
+            }
+            result.addAll(hexes);
+        }
+        List<Coords> sortedResult = new ArrayList<>(result);
+        sortedResult.sort(BOARD_ORDER);
+        return sortedResult;
+    }
+
+    /**
+     * Updates the index for the given hex after terrain was added to or removed from it. Hexes that are no longer part
+     * of the board are ignored.
+     *
+     * @param hex The changed hex
+     */
+    public synchronized void terrainChanged(Hex hex) {
+        Coords coords = hex.getCoords();
+        if ((coords == null) || (board.getHex(coords) != hex)) {
+            return;
+        }
+        for (Map.Entry<Integer, Set<Coords>> entry : hexesByTerrain.entrySet()) {
+            if (hex.containsTerrain(entry.getKey())) {
+                entry.getValue().add(coords);
+            } else {
+                entry.getValue().remove(coords);
+            }
+        }
+    }
+
+    private Set<Coords> scan(int terrainType) {
+        Set<Coords> result = new HashSet<>();
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                Hex hex = board.getHex(x, y);
+                if (hex != null) {
+                    hex.setTerrainIndex(this);
+                    if (hex.containsTerrain(terrainType)) {
+                        result.add(new Coords(x, y));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+}
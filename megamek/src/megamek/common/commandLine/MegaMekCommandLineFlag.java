@@ -60,6 +60,7 @@ public enum MegaMekCommandLineFlag {
     VALIDATE(Messages.getString("MegaMek.Help.UnitValidator")),
     OUL(Messages.getString("MegaMek.Help.OfficialUnitList")),
     ASC(Messages.getString("MegaMek.Help.UnitAlphastrikeConversion")),
+    ACAR(Messages.getString("MegaMek.Help.AutoResolve")),
     EDIT_RAT_GEN(Messages.getString("MegaMek.Help.RatgenEdit")),
     DATA_DIR(Messages.getFormattedString("MegaMek.Help.DataDir", Configuration.dataDir())),
     GIF(Messages.getString("MegaMek.Help.Gif"));
@@ -35,22 +35,32 @@ package megamek.common.commandLine;
 
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileWriter;
+import java.io.InputStream;
 import java.io.Writer;
 import java.util.Vector;
+import java.util.zip.GZIPInputStream;
 
 import megamek.MMConstants;
 import megamek.client.ui.Messages;
 import megamek.client.ui.entityreadout.EntityReadout;
 import megamek.common.Configuration;
+import megamek.common.Player;
+import megamek.common.Team;
 import megamek.common.TechConstants;
 import megamek.common.alphaStrike.AlphaStrikeElement;
 import megamek.common.alphaStrike.conversion.ASConverter;
+import megamek.common.autoResolve.MonteCarloResolver;
+import megamek.common.autoResolve.SimulationStatistics;
+import megamek.common.autoResolve.converter.MMSetupForces;
 import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
 import megamek.common.loaders.MekFileParser;
 import megamek.common.loaders.MekSummary;
 import megamek.common.loaders.MekSummaryCache;
 import megamek.common.units.Entity;
+import megamek.common.util.SerializationHelper;
 import megamek.common.util.YamlEncDec;
 import megamek.common.verifier.TestEntity;
 import megamek.logging.MMLogger;
@@ -163,6 +173,9 @@ public class MegaMekCommandLineParser extends AbstractCommandLineParser {
                     case ASC:
                         processUnitAlphaStrikeConverter();
                         break;
+                    case ACAR:
+                        processAutoResolve();
+                        break;
                     case DEDICATED:
                         dedicatedServer = true;
                         break;
@@ -317,6 +330,63 @@ public class MegaMekCommandLineParser extends AbstractCommandLineParser {
         System.exit(0);
     }
 
+    private void processAutoResolve() throws ParseException {
+        if (getTokenType() != TOK_LITERAL) {
+            throw new ParseException("saved game file name expected");
+        }
+        File saveFile = new File(getTokenValue());
+        nextToken();
+        int runs = 1000;
+        int threads = 0;
+        try {
+            if (getTokenType() == TOK_LITERAL) {
+                runs = Integer.parseInt(getTokenValue());
+                nextToken();
+            }
+            if (getTokenType() == TOK_LITERAL) {
+                threads = Integer.parseInt(getTokenValue());
+                nextToken();
+            }
+        } catch (NumberFormatException ex) {
+            throw new ParseException("number of runs and threads expected");
+        }
+
+        Game game;
+        try (InputStream is = new FileInputStream(saveFile);
+              InputStream in = saveFile.getName().toLowerCase().endsWith(".gz") ? new GZIPInputStream(is) : is) {
+            game = (Game) SerializationHelper.getLoadSaveGameXStream().fromXML(in);
+        } catch (Exception ex) {
+            logger.error(ex, "Unable to load file: {}", saveFile);
+            System.exit(1);
+            return;
+        }
+        for (Entity entity : game.getEntitiesVector()) {
+            entity.setGame(game);
+        }
+        for (Player player : game.getPlayersList()) {
+            player.setGame(game);
+        }
+        if (game.getPlayersList().isEmpty()) {
+            logger.error(String.format("The saved game %s has no players", saveFile));
+            System.exit(1);
+        }
+
+        int team = game.getPlayersList().get(0).getTeam();
+        SimulationStatistics statistics = new MonteCarloResolver(new MMSetupForces(game), game.getBoard(),
+              game.getPlanetaryConditions(), team)
+              .withMaxRuns(runs)
+              .withThreads(threads)
+              .withTolerance(0.01)
+              .run();
+        System.out.printf("Team %d: %s%n", team, statistics);
+        for (Team gameTeam : game.getTeams()) {
+            System.out.printf("Team %d units lost per battle: mean %.2f, distribution %s%n", gameTeam.getId(),
+                  statistics.getMeanCasualties(gameTeam.getId()),
+                  statistics.getCasualtyDistribution(gameTeam.getId()));
+        }
+        System.exit(0);
+    }
+
     private void processUnitAlphaStrikeConverter() {
         String filename;
         if (getTokenType() == TOK_LITERAL) {
@@ -151,6 +151,9 @@ public class Compute {
 
     private static MMRandom random = MMRandom.generate(MMRandom.R_DEFAULT);
 
+    /** Per-thread replacements for the shared RNG, see {@link #setThreadRNG(MMRandom)} */
+    private static final ThreadLocal<MMRandom> threadRandom = new ThreadLocal<>();
+
     private static final int[][] clusterHitsTable = new int[][] {
           { 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1, 1 },
           { 2, 1, 1, 1, 1, 1, 1, 2, 2, 2, 2, 2 },
@@ -209,7 +212,7 @@ public class Compute {
      * Wrapper to random#d6(n)
      */
     public static Roll rollD6(int dice) {
-        Roll roll = random.d6(dice);
+        Roll roll = getRandom().d6(dice);
         if (Server.getServerInstance() != null) {
             if (Server.getServerInstance().getGame().getOptions()
                   .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
@@ -223,7 +226,7 @@ public class Compute {
      * Wrapper to random#d6(n)
      */
     public static Roll rollD6(int dice, int keep) {
-        Roll roll = random.d6(dice, keep);
+        Roll roll = getRandom().d6(dice, keep);
         if (Server.getServerInstance() != null) {
             if (Server.getServerInstance().getGame().getOptions()
                   .booleanOption(OptionsConstants.BASE_RNG_LOG)) {
@@ -336,7 +339,7 @@ public class Compute {
      * 1, or 2.
      */
     public static int randomInt(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue);
+        Roll roll = new MMRoll(getRandom(), maxValue);
         return roll.getIntValue();
     }
 
@@ -345,7 +348,7 @@ public class Compute {
      * 1, 2 or 3.
      */
     public static int randomIntInclusive(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue + 1);
+        Roll roll = new MMRoll(getRandom(), maxValue + 1);
         return roll.getIntValue();
     }
 
@@ -355,7 +358,7 @@ public class Compute {
      * or 3.
      */
     public static int randomRealIntInclusive(int maxValue) {
-        Roll roll = new MMRoll(random, maxValue);
+        Roll roll = new MMRoll(getRandom(), maxValue);
         return roll.getIntValue() + 1;
     }
 
@@ -363,7 +366,7 @@ public class Compute {
      * Wrapper to random#randomFloat()
      */
     public static float randomFloat() {
-        return random.randomFloat();
+        return getRandom().randomFloat();
     }
 
     /**
@@ -400,6 +403,26 @@ public class Compute {
         Compute.random = Objects.requireNonNull(random);
     }
 
+    /**
+     * Sets an RNG that is used instead of the shared one for all random numbers generated on the current thread. This
+     * allows batch simulations to give each worker thread its own random stream so that the workers do not contend
+     * for the shared RNG.
+     *
+     * @param random The RNG for the current thread or null to return the thread to the shared RNG
+     */
+    public static void setThreadRNG(@Nullable MMRandom random) {
+        if (random == null) {
+            threadRandom.remove();
+        } else {
+            threadRandom.set(random);
+        }
+    }
+
+    private static MMRandom getRandom() {
+        MMRandom result = threadRandom.get();
+        return (result == null) ? random : result;
+    }
+
     /**
      * Returns the odds that a certain number or above will be rolled on 2d6.
      */
@@ -2139,6 +2139,7 @@ public class AmmoType extends EquipmentType {
     private static final EnumMap<AmmoTypeEnum, Vector<AmmoType>> m_vaMunitions = new EnumMap<>(AmmoTypeEnum.class);
 
     public static Vector<AmmoType> getMunitionsFor(AmmoTypeEnum ammoType) {
+        EquipmentType.initializeTypes();
         return m_vaMunitions.get(ammoType);
     }
 
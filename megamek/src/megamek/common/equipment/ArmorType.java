@@ -66,9 +66,8 @@ public class ArmorType extends MiscType {
     public static final int STEALTH_ARMOR_HEAT = 10;
 
     public static ArmorType of(int type, boolean clan) {
-        if (armorTypeLookupClan.isEmpty() && armorTypeLookupIS.isEmpty()) {
-            initializeTypes();
-        }
+        // Creates all equipment types once, waiting if another thread is creating them
+        EquipmentType.initializeTypes();
 
         ArmorType armor = clan ? armorTypeLookupClan.get(type) : armorTypeLookupIS.get(type);
         // Some mixed tech unit files use the unit tech base instead of the armor tech base.
@@ -92,14 +91,17 @@ public class ArmorType extends MiscType {
     }
 
     public static List<ArmorType> allArmorTypes() {
+        EquipmentType.initializeTypes();
         return Collections.unmodifiableList(allTypes);
     }
 
     public static List<String> allArmorNames() {
+        EquipmentType.initializeTypes();
         return allTypes.stream().map(ArmorType::getName).distinct().collect(Collectors.toList());
     }
 
     public static Map<Integer, String> getAllArmorCodeName() {
+        EquipmentType.initializeTypes();
         Map<Integer, String> result = new HashMap<>();
 
         for (ArmorType armorType : allTypes) {
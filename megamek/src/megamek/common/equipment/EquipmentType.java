@@ -37,6 +37,8 @@ import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileWriter;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import megamek.common.RangeType;
@@ -201,7 +203,12 @@ public class EquipmentType implements ITechnology {
 
     // static list of equipment
     protected static Vector<EquipmentType> allTypes;
-    protected static Hashtable<String, EquipmentType> lookupHash;
+    protected static Map<String, EquipmentType> lookupHash;
+
+    /** Set when all types are created; before that, {@link #initializeTypes()} must be called */
+    private static volatile boolean typesInitialized = false;
+    /** Set once a background thread was started to create the types; not guarded by the class monitor */
+    private static final AtomicBoolean backgroundInitializerStarted = new AtomicBoolean();
 
     /**
      * Keeps track of page numbers for rules references.
@@ -749,7 +756,7 @@ public class EquipmentType implements ITechnology {
      * @return The EquipmentType with the given internal name or lookup name
      */
     public static @Nullable EquipmentType get(String key) {
-        if (null == EquipmentType.lookupHash) {
+        if (!typesInitialized) {
             EquipmentType.initializeTypes();
         }
         return EquipmentType.lookupHash.get(key.toLowerCase());
@@ -771,29 +778,57 @@ public class EquipmentType implements ITechnology {
         return namesVector.elements();
     }
 
+    /**
+     * Creates all equipment types unless this was done before. This is thread-safe: while one thread creates the
+     * types, other threads calling this (or any lookup) wait until it has finished. Lookups made by the creating thread
+     * itself see the types created so far.
+     */
     public static void initializeTypes() {
-        if (null == EquipmentType.allTypes) {
-            EquipmentType.allTypes = new Vector<>();
-            EquipmentType.lookupHash = new Hashtable<>();
-
-            WeaponType.initializeTypes();
-            AmmoType.initializeTypes();
-            MiscType.initializeTypes();
-            BombType.initializeTypes();
-            SmallWeaponAmmoType.initializeTypes();
-            ArmorType.initializeTypes();
-            PowerGeneratorType.initializeTypes();
-            for (EquipmentType et : allTypes) {
-                if (et.getTechAdvancement().getStaticTechLevel() == null) {
-                    et.getTechAdvancement()
-                          .setStaticTechLevel(et.getTechAdvancement().guessStaticTechLevel(et.getRulesRefs()));
+        if (typesInitialized) {
+            return;
+        }
+        synchronized (EquipmentType.class) {
+            // allTypes is already set when this is called again by the thread that is creating the types
+            if (null == EquipmentType.allTypes) {
+                long startTime = System.nanoTime();
+                EquipmentType.allTypes = new Vector<>();
+                EquipmentType.lookupHash = new ConcurrentHashMap<>();
+
+                WeaponType.initializeTypes();
+                AmmoType.initializeTypes();
+                MiscType.initializeTypes();
+                BombType.initializeTypes();
+                SmallWeaponAmmoType.initializeTypes();
+                ArmorType.initializeTypes();
+                PowerGeneratorType.initializeTypes();
+                for (EquipmentType et : allTypes) {
+                    if (et.getTechAdvancement().getStaticTechLevel() == null) {
+                        et.getTechAdvancement()
+                              .setStaticTechLevel(et.getTechAdvancement().guessStaticTechLevel(et.getRulesRefs()));
+                    }
                 }
+                typesInitialized = true;
+                logger.debug("Created {} equipment types in {} ms", allTypes.size(),
+                      (System.nanoTime() - startTime) / 1_000_000);
             }
         }
     }
 
+    /**
+     * Starts creating all equipment types on a background thread and returns immediately. Any lookup made before the
+     * types are ready waits for them. This allows startup work that doesn't need equipment, such as reading the unit
+     * cache, to go on meanwhile. This never waits for the types, even while another thread is creating them.
+     */
+    public static void initializeTypesInBackground() {
+        if (!typesInitialized && backgroundInitializerStarted.compareAndSet(false, true)) {
+            Thread backgroundInitializer = new Thread(EquipmentType::initializeTypes, "Equipment Type Loader");
+            backgroundInitializer.setDaemon(true);
+            backgroundInitializer.start();
+        }
+    }
+
     public static Enumeration<EquipmentType> getAllTypes() {
-        if (null == EquipmentType.allTypes) {
+        if (!typesInitialized) {
             EquipmentType.initializeTypes();
         }
         return EquipmentType.allTypes.elements();
@@ -803,7 +838,7 @@ public class EquipmentType implements ITechnology {
      * @return All equipment types as a List. The list is a copy and can safely be modified.
      */
     public static List<EquipmentType> allTypes() {
-        if (EquipmentType.allTypes == null) {
+        if (!typesInitialized) {
             EquipmentType.initializeTypes();
         }
         return new ArrayList<>(EquipmentType.allTypes);
@@ -289,10 +289,7 @@ public class BombType extends AmmoType {
 
     /** @return All BombType equipment types as a List. The list is a copy and can safely be modified. */
     public static List<BombType> allBombTypes() {
-        if (EquipmentType.allTypes == null) {
-            EquipmentType.initializeTypes();
-        }
-        return EquipmentType.allTypes.stream()
+        return EquipmentType.allTypes().stream()
               .filter(eType -> eType instanceof BombType)
               .map(eType -> (BombType) eType)
               .collect(toList());
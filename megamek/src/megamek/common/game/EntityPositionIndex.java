@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.game;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import megamek.common.board.Coords;
+
+/**
+ * The lookup of the game's units by position. It maps each occupied hex (board ID and coords) to the IDs of the units
+ * in it and, in reverse, each unit ID to the hexes it occupies. With the reverse map, a unit's old positions never have
+ * to be searched for or passed in when it moves; updating or removing a unit only touches the hexes it occupied and
+ * occupies now, regardless of how many hexes are occupied in total.
+ * <p>
+ * The index only knows what it is told; the game must update it whenever a unit's position, secondary positions or
+ * board change. This class is not thread-safe; the game accesses it only from its synchronized methods.
+ */
+class EntityPositionIndex {
+
+    /**
+     * A hex of a board. Unlike BoardLocation, this keeps the coords of units that have no valid board ID (yet), as the
+     * lookup by coords alone must find them.
+     */
+    private record Location(int boardId, Coords coords) {
+    }
+
+    /** Board ID to the IDs of the units in each occupied hex of that board */
+    private final Map<Integer, Map<Coords, Set<Integer>>> entitiesByBoard = new HashMap<>();
+
+    /** Unit ID to the hexes it occupies */
+    private final Map<Integer, Set<Location>> locationsByEntity = new HashMap<>();
+
+    /**
+     * Sets the hexes occupied by the given unit, replacing those previously stored for it. An empty collection of
+     * positions removes the unit from the index.
+     *
+     * @param entityId  The unit ID
+     * @param boardId   The board ID of the unit
+     * @param positions All coords the unit occupies
+     */
+    void update(int entityId, int boardId, Collection<Coords> positions) {
+        Set<Location> newLocations = new HashSet<>();
+        for (Coords coords : positions) {
+            newLocations.add(new Location(boardId, coords));
+        }
+        Set<Location> oldLocations = locationsByEntity.get(entityId);
+        if (newLocations.equals(oldLocations)) {
+            return;
+        }
+        remove(entityId);
+        if (!newLocations.isEmpty()) {
+            locationsByEntity.put(entityId, newLocations);
+            for (Coords coords : positions) {
+                entitiesByBoard.computeIfAbsent(boardId, id -> new HashMap<>())
+                      .computeIfAbsent(coords, c -> new HashSet<>())
+                      .add(entityId);
+            }
+        }
+    }
+
+    /**
+     * Removes the given unit from all hexes it occupies.
+     *
+     * @param entityId The unit ID
+     */
+    void remove(int entityId) {
+        Set<Location> oldLocations = locationsByEntity.remove(entityId);
+        if (oldLocations == null) {
+            return;
+        }
+        for (Location location : oldLocations) {
+            Map<Coords, Set<Integer>> boardEntities = entitiesByBoard.get(location.boardId());
+            if (boardEntities == null) {
+                continue;
+            }
+            Set<Integer> hexEntities = boardEntities.get(location.coords());
+            if (hexEntities != null) {
+                hexEntities.remove(entityId);
+                if (hexEntities.isEmpty()) {
+                    boardEntities.remove(location.coords());
+                }
+            }
+        }
+    }
+
+    /**
+     * @param coords  The coords of the hex
+     * @param boardId The board ID of the hex
+     *
+     * @return The IDs of the units in the given hex; the returned list is a copy
+     */
+    List<Integer> entitiesAt(Coords coords, int boardId) {
+        Map<Coords, Set<Integer>> boardEntities = entitiesByBoard.get(boardId);
+        if (boardEntities == null) {
+            return new ArrayList<>();
+        }
+        Set<Integer> hexEntities = boardEntities.get(coords);
+        return (hexEntities == null) ? new ArrayList<>() : new ArrayList<>(hexEntities);
+    }
+
+    /**
+     * @param coords The coords of the hex
+     *
+     * @return The IDs of the units at the given coords on any board; the returned list is a copy
+     */
+    List<Integer> entitiesAt(Coords coords) {
+        List<Integer> result = new ArrayList<>();
+        for (Map<Coords, Set<Integer>> boardEntities : entitiesByBoard.values()) {
+            Set<Integer> hexEntities = boardEntities.get(coords);
+            if (hexEntities != null) {
+                result.addAll(hexEntities);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @param entityId The unit ID
+     *
+     * @return The coords the index has stored for the given unit; the returned set is a copy
+     */
+    HashSet<Coords> positionsOf(int entityId) {
+        HashSet<Coords> result = new HashSet<>();
+        Set<Location> locations = locationsByEntity.get(entityId);
+        if (locations != null) {
+            for (Location location : locations) {
+                result.add(location.coords());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return The IDs of all units in the index; the returned set is a copy
+     */
+    Set<Integer> entityIds() {
+        return new HashSet<>(locationsByEntity.keySet());
+    }
+
+    boolean isEmpty() {
+        return locationsByEntity.isEmpty();
+    }
+
+    void clear() {
+        entitiesByBoard.clear();
+        locationsByEntity.clear();
+    }
+}
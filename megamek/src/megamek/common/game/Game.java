@@ -138,7 +138,16 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      */
     private Vector<Entity> vOutOfGame = new Vector<>();
 
-    private final Map<Coords, HashSet<Integer>> entityPosLookup = new HashMap<>();
+    /**
+     * The lookup of units by position. It is not saved with the game; it is rebuilt from the units when first needed.
+     */
+    private transient EntityPositionIndex entityPositionIndex;
+
+    /**
+     * The IDs of the DropShips among the units, see {@link #hasGroundedDropship(int)}. It is not saved with the game;
+     * it is rebuilt when first needed after units were added or removed.
+     */
+    private transient Set<Integer> dropshipIds;
 
     /**
      * how's the weather?
@@ -1406,7 +1415,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
             entity.setId(id);
         }
         inGameObjects.put(id, entity);
-        updateEntityPositionLookup(entity, null);
+        dropshipIds = null;
+        updateEntityPositionLookup(entity);
 
         if (id > lastEntityId) {
             lastEntityId = id;
@@ -1449,10 +1459,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         } else {
             entity.setGame(this);
             inGameObjects.put(id, entity);
-            // Get the collection of positions
-            HashSet<Coords> oldPositions = oldEntity.getOccupiedCoords();
-            // Update position lookup table
-            updateEntityPositionLookup(entity, oldPositions);
+            dropshipIds = null;
+            updateEntityPositionLookup(entity);
 
             // Not sure if this really required
             if (id > lastEntityId) {
@@ -1497,7 +1505,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         }
 
         inGameObjects.remove(id);
-        removeEntityPositionLookup(toRemove);
+        dropshipIds = null;
+        entityPositionIndex().remove(toRemove.getId());
 
         toRemove.setRemovalCondition(condition);
 
@@ -1523,7 +1532,8 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         super.reset();
         uuid = UUID.randomUUID();
 
-        entityPosLookup.clear();
+        entityPositionIndex().clear();
+        dropshipIds = null;
         vOutOfGame.removeAllElements();
         turnVector.clear();
 
@@ -1559,6 +1569,7 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      */
     private void reindexEntities(List<Entity> entities) {
         inGameObjects.clear();
+        dropshipIds = null;
         lastEntityId = 0;
 
         // Add these entities to the game.
@@ -1658,53 +1669,55 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      */
     public synchronized List<Entity> getEntitiesVector(Coords c, boolean ignore) {
         // checkPositionCacheConsistency();
-        // Make sure the look-up is initialized
-        if (entityPosLookup.isEmpty() && !inGameTWEntities().isEmpty()) {
-            resetEntityPositionLookup();
+        return entitiesFromLookup(entityPositionIndex().entitiesAt(c), c, ignore);
+    }
+
+    public List<Entity> getEntitiesVector(BoardLocation location, boolean ignoreTargetable) {
+        return getEntitiesVector(location.coords(), location.boardId(), ignoreTargetable);
+    }
+
+    public List<Entity> getEntitiesVector(BoardLocation location) {
+        return getEntitiesVector(location.coords(), location.boardId(), true);
+    }
+
+    public synchronized List<Entity> getEntitiesVector(Coords coord, int boardId, boolean ignoreTargetable) {
+        if (boardId < 0) {
+            return Collections.emptyList();
         }
+        return entitiesFromLookup(entityPositionIndex().entitiesAt(coord, boardId), coord, ignoreTargetable);
+    }
+
+    /**
+     * @return The entities of the given IDs found in the position lookup at the given coords, optionally only those
+     *       that can be targeted
+     */
+    private List<Entity> entitiesFromLookup(List<Integer> entityIds, Coords c, boolean ignore) {
         // For sanity check
         GamePhase phase = getPhase();
 
-        Set<Integer> posEntities = entityPosLookup.get(c);
         List<Entity> vector = new ArrayList<>();
-        if (posEntities != null) {
-            for (Integer eId : posEntities) {
-                Entity e = getEntity(eId);
-
-                // if the entity with the given ID doesn't exist, we will update the lookup table and move on
-                if (e == null) {
-                    posEntities.remove(eId);
-                    continue;
-                }
+        for (Integer eId : entityIds) {
+            Entity e = getEntity(eId);
 
-                if (e.isTargetable() || ignore) {
-                    vector.add(e);
+            // if the entity with the given ID doesn't exist, we will update the lookup table and move on
+            if (e == null) {
+                entityPositionIndex().remove(eId);
+                continue;
+            }
 
-                    // Sanity check: report out-of-place entities if it's not the deployment phase
-                    HashSet<Coords> positions = e.getOccupiedCoords();
-                    if (!phase.isDeployment() && !positions.contains(c)) {
-                        logger.error("{} is not in {}!", e.getDisplayName(), c);
-                    }
+            if (e.isTargetable() || ignore) {
+                vector.add(e);
+
+                // Sanity check: report out-of-place entities if it's not the deployment phase
+                HashSet<Coords> positions = e.getOccupiedCoords();
+                if (!phase.isDeployment() && !positions.contains(c)) {
+                    logger.error("{} is not in {}!", e.getDisplayName(), c);
                 }
             }
         }
         return Collections.unmodifiableList(vector);
     }
 
-    public List<Entity> getEntitiesVector(BoardLocation location, boolean ignoreTargetable) {
-        return getEntitiesVector(location.coords(), location.boardId(), ignoreTargetable);
-    }
-
-    public List<Entity> getEntitiesVector(BoardLocation location) {
-        return getEntitiesVector(location.coords(), location.boardId(), true);
-    }
-
-    public List<Entity> getEntitiesVector(Coords coord, int boardId, boolean ignoreTargetable) {
-        return getEntitiesVector(coord, ignoreTargetable).stream()
-              .filter(entity -> entity.isOnBoard(boardId))
-              .toList();
-    }
-
     public List<Entity> getEntitiesVector(Coords coord, int boardId) {
         return getEntitiesVector(coord, boardId, false);
     }
@@ -3603,10 +3616,9 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
     }
 
     /**
-     * Only needed for Entity's that have secondaryPositions. This method is used to make sure setPosition() doesn't get
-     * an inaccurate list of positions for an entity that changed from between using secondaryPositions and not, such as
-     * a Dropship taking off. Iterates through all cached coords to get where the provided entity is. Inefficient, and
-     * usually unnecessary.
+     * Returns the coords the position lookup has stored for the given entity. These are the positions it had when the
+     * lookup was last updated, which may differ from its current {@link Entity#getOccupiedCoords()} while it is being
+     * moved, e.g. for a Dropship taking off.
      *
      * @param entity Entity we want to get the cached old positions of
      *
@@ -3615,74 +3627,81 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
      * @see Dropship#setPosition(Coords)
      */
     public synchronized HashSet<Coords> getEntityPositions(Entity entity) {
-        HashSet<Coords> retVal = new HashSet<>();
-        if (entityPosLookup.isEmpty()) {
-            return retVal;
-        }
+        return entityPositionIndex().positionsOf(entity.getId());
+    }
 
-        for (Coords coords : entityPosLookup.keySet()) {
-            if (entityPosLookup.get(coords).contains(entity.getId())) {
-                retVal.add(coords);
-            }
-        }
-        return retVal;
+    /**
+     * Updates the position lookup for the given entity to its current position, secondary positions and board. The
+     * lookup remembers where each entity was stored, so the previous positions need not be known.
+     *
+     * @param e The entity that was moved
+     */
+    public synchronized void updateEntityPositionLookup(Entity e) {
+        entityPositionIndex().update(e.getId(), e.getBoardId(), e.getOccupiedCoords());
     }
 
     /**
-     * Updates the map that maps a position to the list of Entity's in that position.
+     * Returns true when a DropShip is landed on the given board. Grounded DropShips block LOS like tall buildings.
+     * Only the DropShips among the units are looked at, so this is cheap even in large games. Their landed state and
+     * position are read when called, so no notification is needed when they land, lift off or move.
+     *
+     * @param boardId The board ID
+     *
+     * @return True when a deployed, grounded DropShip is on the given board
      */
-    public synchronized void updateEntityPositionLookup(Entity e, HashSet<Coords> oldPositions) {
-        HashSet<Coords> newPositions = e.getOccupiedCoords();
-        // Check to see that the position has actually changed
-        if (newPositions.equals(oldPositions)) {
-            return;
+    public synchronized boolean hasGroundedDropship(int boardId) {
+        for (Entity dropship : getGroundedDropships()) {
+            if (dropship.getBoardId() == boardId) {
+                return true;
+            }
         }
+        return false;
+    }
 
-        // Remove the old cached location(s)
-        if (oldPositions != null) {
-            for (Coords pos : oldPositions) {
-                HashSet<Integer> posEntities = entityPosLookup.get(pos);
-                if (posEntities != null) {
-                    posEntities.remove(e.getId());
+    /**
+     * @return The DropShips that are currently deployed on a board and neither airborne nor spaceborne
+     */
+    public synchronized List<Entity> getGroundedDropships() {
+        if (dropshipIds == null) {
+            dropshipIds = new HashSet<>();
+            for (InGameObject object : inGameObjects.values()) {
+                if (object instanceof Dropship) {
+                    dropshipIds.add(object.getId());
                 }
             }
         }
-
-        // Add Entity for each position
-        for (Coords pos : newPositions) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities == null) {
-                posEntities = new HashSet<>();
-                posEntities.add(e.getId());
-                entityPosLookup.put(pos, posEntities);
-            } else {
-                posEntities.add(e.getId());
+        List<Entity> result = new ArrayList<>(dropshipIds.size());
+        for (int id : dropshipIds) {
+            if ((inGameObjects.get(id) instanceof Entity dropship) && (dropship.getPosition() != null)
+                  && !dropship.isAirborne() && !dropship.isSpaceborne()) {
+                result.add(dropship);
             }
         }
+        return result;
     }
 
-    private void removeEntityPositionLookup(Entity e) {
-        // Remove Entity from cache
-        for (Coords pos : e.getOccupiedCoords()) {
-            HashSet<Integer> posEntities = entityPosLookup.get(pos);
-            if (posEntities != null) {
-                posEntities.remove(e.getId());
-            }
+    /**
+     * @return The position lookup; it is built from the current entities when first needed, e.g. after loading a game
+     */
+    private EntityPositionIndex entityPositionIndex() {
+        if (entityPositionIndex == null) {
+            resetEntityPositionLookup();
         }
+        return entityPositionIndex;
     }
 
     private void resetEntityPositionLookup() {
-        entityPosLookup.clear();
-        for (Entity e : inGameTWEntities()) {
-            updateEntityPositionLookup(e, null);
+        entityPositionIndex = new EntityPositionIndex();
+        for (Entity entity : inGameTWEntities()) {
+            entityPositionIndex.update(entity.getId(), entity.getBoardId(), entity.getOccupiedCoords());
         }
     }
 
     private int countEntitiesInCache(List<Integer> entitiesInCache) {
         int count = 0;
-        for (Coords c : entityPosLookup.keySet()) {
-            count += entityPosLookup.get(c).size();
-            entitiesInCache.addAll(entityPosLookup.get(c));
+        for (int entityId : entityPositionIndex().entityIds()) {
+            entitiesInCache.add(entityId);
+            count++;
         }
         return count;
     }
@@ -3726,20 +3745,20 @@ public final class Game extends AbstractGame implements Serializable, PlanetaryC
         for (Entity entity : inGameTWEntities()) {
             HashSet<Coords> positions = entity.getOccupiedCoords();
             for (Coords coords : positions) {
-                HashSet<Integer> entityIDs = entityPosLookup.get(coords);
-                if ((entityIDs != null) && !entityIDs.contains(entity.getId())) {
+                List<Integer> entityIDs = entityPositionIndex().entitiesAt(coords, entity.getBoardId());
+                if (!entityIDs.contains(entity.getId())) {
                     logger.warn("Entity {} is in {} however the position cache does not have it in that position!",
                           entity.getId(),
                           entity.getPosition());
                 }
             }
         }
-        for (Coords c : entityPosLookup.keySet()) {
-            for (Integer eId : entityPosLookup.get(c)) {
-                Entity e = getEntity(eId);
-                if (e == null) {
-                    continue;
-                }
+        for (Integer eId : entityPositionIndex().entityIds()) {
+            Entity e = getEntity(eId);
+            if (e == null) {
+                continue;
+            }
+            for (Coords c : entityPositionIndex().positionsOf(eId)) {
                 HashSet<Coords> positions = e.getOccupiedCoords();
                 if (!positions.contains(c)) {
                     logger.warn("Entity Position Cache thinks Entity {} is in {}  but the Entity thinks it's in {}",
@@ -0,0 +1,97 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.game;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+
+import megamek.common.units.Entity;
+import megamek.common.weapons.handlers.AttackHandler;
+import megamek.common.weapons.handlers.WeaponHandler;
+
+/**
+ * A frozen copy of a {@link Game}, taken by a {@link GameSnapshotter}. A snapshot does not change when the live game
+ * changes, so it can be read on any thread while the game goes on, e.g. to write a save game in the background.
+ * <p>
+ * A snapshot holds the serialized form of the game only. A copy of the game is created each time it is requested
+ * through {@link #getGame()}, so a snapshot never keeps copied entities or boards alive.
+ * <p>
+ * As after any deserialization, the copied entities are not attached to the copied game (their game is null). This
+ * class is thread-safe.
+ */
+public final class GameSnapshot {
+
+    private final byte[] gameBytes;
+
+    GameSnapshot(byte[] gameBytes) {
+        this.gameBytes = gameBytes;
+    }
+
+    /**
+     * Returns a new copy of the game as it was when this snapshot was taken. Each call creates a new copy. Its entities
+     * and weapon attacks are restored after deserialization as when loading a game, so that the copy writes the same
+     * save game as the live game.
+     *
+     * @return The copy of the game
+     *
+     * @throws IOException when the copy cannot be created
+     */
+    public Game getGame() throws IOException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(gameBytes))) {
+            Game game = (Game) in.readObject();
+            for (Entity entity : game.getEntitiesVector()) {
+                entity.restore();
+            }
+            for (Entity entity : game.getOutOfGameEntitiesVector()) {
+                entity.restore();
+            }
+            for (AttackHandler handler : game.getAttacksVector()) {
+                if (handler instanceof WeaponHandler weaponHandler) {
+                    weaponHandler.restore();
+                }
+            }
+            return game;
+        } catch (ClassNotFoundException ex) {
+            throw new IOException("Unable to copy the game", ex);
+        }
+    }
+
+    /**
+     * @return The size in bytes of this snapshot's serialized form
+     */
+    public int getSize() {
+        return gameBytes.length;
+    }
+}
@@ -86,7 +86,7 @@ public class MekFileParser {
     private static final MMLogger LOGGER = MMLogger.create(MekFileParser.class);
 
     private Entity m_entity = null;
-    private static Vector<String> canonUnitNames = null;
+    private static volatile Vector<String> canonUnitNames = null;
     public static final String FILENAME_OFFICIAL_UNITS = "OfficialUnitList.txt"; // TODO : Remove inline filename
 
     public MekFileParser(File f) throws EntityLoadingException {
@@ -203,7 +203,10 @@ public class MekFileParser {
         if (lowerName.endsWith(".mtf")) {
             loader = new MtfFile(is);
         } else if (lowerName.endsWith(".blk")) {
-            BuildingBlock bb = new BuildingBlock(is);
+            BuildingBlock bb;
+            try (is) {
+                bb = new BuildingBlock(is.readAllBytes());
+            }
             if (bb.exists("UnitType")) {
                 String sType = bb.getDataAsString("UnitType")[0];
                 loader = switch (sType) {
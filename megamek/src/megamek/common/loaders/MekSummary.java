@@ -72,6 +72,9 @@ import megamek.logging.MMLogger;
 public class MekSummary implements Serializable, ASCardDisplayable {
     private static final MMLogger logger = MMLogger.create(MekSummary.class);
 
+    /** The source stamp of a unit whose file state is unknown */
+    public static final long NO_SOURCE_STAMP = 0;
+
     private String name;
     private String chassis;
     private String clanChassisName;
@@ -94,6 +97,8 @@ public class MekSummary implements Serializable, ASCardDisplayable {
     private String techBase;
     private boolean failedToLoadEquipment;
     private String entryName; // for files in zips
+    /** Made from the modification time and length of the file or the CRC and size of the zip entry */
+    private long sourceStamp = NO_SOURCE_STAMP;
     private int year;
     private int type;
     private int[] altTypes = new int[] { TechConstants.T_IS_TW_NON_BOX, TechConstants.T_IS_ADVANCED,
@@ -335,6 +340,14 @@ public class MekSummary implements Serializable, ASCardDisplayable {
         return entryName;
     }
 
+    /**
+     * @return A stamp of the state of the unit's file when it was read, used to detect changed files; see
+     *       {@link MekSummaryCache}
+     */
+    public long getSourceStamp() {
+        return sourceStamp;
+    }
+
     public int getYear() {
         return year;
     }
@@ -902,6 +915,10 @@ public class MekSummary implements Serializable, ASCardDisplayable {
         this.entryName = sEntryName;
     }
 
+    public void setSourceStamp(long sourceStamp) {
+        this.sourceStamp = sourceStamp;
+    }
+
     public void setYear(int nYear) {
         this.year = nYear;
     }
@@ -38,6 +38,11 @@ package megamek.common.loaders;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
@@ -111,6 +116,10 @@ public class MekSummaryCache {
 
     private StringBuffer loadReport = new StringBuffer();
     private volatile Thread loader;
+    /** The index of the cache file while it is being loaded; see {@link #findInCacheFile(String)} */
+    private volatile UnitCacheFile.Index cacheFileIndex;
+    /** True once the running load has read the cache file index or found that there is none to use */
+    private volatile boolean cacheFileChecked;
 
     private LoadOperation queuedLoadOperation;
     private boolean queuedIgnoreUnofficial;
@@ -196,6 +205,7 @@ public class MekSummaryCache {
     private void startLoadLocked(LoadOperation loadOperation, boolean ignoreUnofficial) {
         initializing = true;
         initialized = false;
+        cacheFileChecked = false;
         disposeInstance = false;
         queuedLoadOperation = null;
         resetLoadStats();
@@ -291,6 +301,12 @@ public class MekSummaryCache {
 
     @Nullable
     public MekSummary getMek(String sRef) {
+        if (!initialized) {
+            MekSummary cachedUnit = findInCacheFile(sRef);
+            if (cachedUnit != null) {
+                return cachedUnit;
+            }
+        }
         block();
 
         if (nameMap.containsKey(sRef)) {
@@ -300,6 +316,47 @@ public class MekSummaryCache {
         return fileNameMap.get(sRef);
     }
 
+    /**
+     * Looks up a unit by name in the cache file while the cache is still loading, so that callers that need only a
+     * few units, such as the scenario loader, do not wait for all units to be loaded and checked. Only a unit whose
+     * source has not changed since the cache file was written is returned, as loading would not read it again. Waits
+     * until the loader has read the index of the cache file, which takes only a fraction of the loading time.
+     *
+     * @return The unit or null when it is not found this way
+     */
+    private @Nullable MekSummary findInCacheFile(String name) {
+        synchronized (lock) {
+            while (initializing && !cacheFileChecked) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                    return null;
+                }
+            }
+        }
+        UnitCacheFile.Index index = cacheFileIndex;
+        if (index == null) {
+            return null;
+        }
+        try {
+            MekSummary unit = index.find(name);
+            if ((unit == null) || !unit.getSourceFile().exists()) {
+                return null;
+            }
+            File source = unit.getSourceFile();
+            if (unit.getEntryName() == null) {
+                return isUnchanged(unit.getSourceStamp(), fileStamp(source), source.lastModified(), index.written())
+                      ? unit : null;
+            }
+            // The stamp of a zip entry needs the zip file to be opened; an unmodified zip holds unchanged entries
+            return (source.lastModified() < index.written()) ? unit : null;
+        } catch (IOException ex) {
+            logger.debug("Unable to look up {} in the unit cache file: {}", name, ex.getMessage());
+            return null;
+        }
+    }
+
     public Map<String, String> getFailedFiles() {
         block();
         return failedFiles;
@@ -312,10 +369,11 @@ public class MekSummaryCache {
     public void loadMekData(boolean ignoreUnofficial) {
         resetLoadStats();
         Vector<MekSummary> vMeks = new Vector<>();
-        Set<String> sKnownFiles = new HashSet<>();
+        Map<String, Long> sKnownFiles = new HashMap<>();
         long lLastCheck = 0;
 
-        EquipmentType.initializeTypes(); // load master equipment lists
+        // load master equipment lists; only needed here if unit files must be parsed
+        EquipmentType.initializeTypesInBackground();
 
         loadReport.append("\n");
         loadReport.append("Reading unit files:\n");
@@ -327,38 +385,30 @@ public class MekSummaryCache {
                 if (unit_cache_path.exists()) {
                     loadReport.append("  Reading from unit cache file...\n");
                     lLastCheck = unit_cache_path.lastModified();
-                    InputStream inputStream = new BufferedInputStream(new FileInputStream(unit_cache_path));
-                    ObjectInputStream fin = new ObjectInputStream(inputStream);
-                    Integer newUnits = (Integer) fin.readObject();
-                    for (int i = 0; i < newUnits; i++) {
-                        if (shouldStopLoading()) {
-                            done();
-                            fin.close();
-                            inputStream.close();
-                            return;
-                        }
-                        MekSummary ms = (MekSummary) fin.readObject();
-                        // Verify that this file still exists and is older than
-                        // the cache.
-                        File fSource = ms.getSourceFile();
-                        if (fSource.exists()) {
-                            vMeks.addElement(ms);
-                            if (null == ms.getEntryName()) {
-                                sKnownFiles.add(fSource.toString());
-                            } else {
-                                sKnownFiles.add(ms.getEntryName());
-                            }
-                            cacheCount++;
-                        }
+                    UnitCacheFile.Index index = UnitCacheFile.readIndex(unit_cache_path);
+                    cacheFileIndex = index;
+                    cacheFileChecked();
+                    UnitCacheFile.Contents contents = index.readAll(this::shouldStopLoading);
+                    if (contents == null) {
+                        done();
+                        return;
+                    }
+                    vMeks.addAll(contents.units());
+                    for (int i = 0; i < contents.units().size(); i++) {
+                        sKnownFiles.put(contents.knownFiles().get(i), contents.units().get(i).getSourceStamp());
                     }
-                    fin.close();
-                    inputStream.close();
+                    cacheCount += contents.units().size();
                 }
+            } catch (InvalidClassException | StreamCorruptedException ex) {
+                // Written by an older format or another version; it is rebuilt below
+                loadReport.append("  Unit cache is outdated: ").append(ex.getMessage()).append("\n");
+                logger.info("Unit cache is outdated and will be rebuilt: {}", ex.getMessage());
             } catch (Exception ex) {
                 loadReport.append("  Unable to load unit cache: ").append(ex.getMessage()).append("\n");
                 logger.error(loadReport.toString(), ex);
             }
         }
+        cacheFileChecked();
 
         checkForChanges(ignoreUnofficial, vMeks, sKnownFiles, lLastCheck);
         if (shouldStopLoading()) {
@@ -383,44 +433,75 @@ public class MekSummaryCache {
         done();
     }
 
-    private void checkForChanges(boolean ignoreUnofficial, Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck) {
-        // load any changes since the last check time
-        boolean bNeedsUpdate = loadMeksFromDirectory(vMeks, sKnownFiles,
-              lLastCheck, Configuration.unitsDir(), ignoreUnofficial);
+    /**
+     * Lets the lookups waiting in {@link #findInCacheFile(String)} continue.
+     */
+    private void cacheFileChecked() {
+        synchronized (lock) {
+            cacheFileChecked = true;
+            lock.notifyAll();
+        }
+    }
 
-        // Official units are in the internal dir, not in the user dirs or story arcs
-        // dir
-        if (!ignoreUnofficial) {
-            // load units from the MM internal user data dir
-            File userDataUnits = new File(Configuration.userDataDir(), Configuration.unitsDir().toString());
-            if (userDataUnits.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits, false);
-            }
+    private void checkForChanges(boolean ignoreUnofficial, Vector<MekSummary> vMeks,
+          Map<String, Long> sKnownFiles, long lLastCheck) {
+        // find the unit files that changed since they were last read
+        List<UnitSource> sources = new ArrayList<>();
+        List<ZipFile> zipFiles = new ArrayList<>();
+        boolean bNeedsUpdate;
+        try {
+            findChangedFiles(sources, zipFiles, sKnownFiles, lLastCheck, Configuration.unitsDir(), ignoreUnofficial);
+
+            // Official units are in the internal dir, not in the user dirs or story arcs
+            // dir
+            if (!ignoreUnofficial) {
+                // load units from the MM internal user data dir
+                File userDataUnits = new File(Configuration.userDataDir(), Configuration.unitsDir().toString());
+                if (userDataUnits.isDirectory()) {
+                    findChangedFiles(sources, zipFiles, sKnownFiles, lLastCheck, userDataUnits, false);
+                }
 
-            // load units from the external user data dir
-            String userDir = PreferenceManager.getClientPreferences().getUserDir();
-            File userDataUnits2 = new File(userDir, "");
-            if (!userDir.isBlank() && userDataUnits2.isDirectory()) {
-                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, userDataUnits2, false);
-            }
+                // load units from the external user data dir
+                String userDir = PreferenceManager.getClientPreferences().getUserDir();
+                File userDataUnits2 = new File(userDir, "");
+                if (!userDir.isBlank() && userDataUnits2.isDirectory()) {
+                    findChangedFiles(sources, zipFiles, sKnownFiles, lLastCheck, userDataUnits2, false);
+                }
 
-            // load units from story arcs
-            File storyArcsDir = Configuration.storyArcsDir();
-            if (storyArcsDir.exists() && storyArcsDir.isDirectory()) {
-                File[] storyArcsFiles = storyArcsDir.listFiles();
-                if (storyArcsFiles != null) {
-                    for (File file : storyArcsFiles) {
-                        if (file.isDirectory()) {
-                            File storyArcUnitsDir = new File(file.getPath() + "/data/mekfiles");
-                            if (storyArcUnitsDir.exists() && storyArcUnitsDir.isDirectory()) {
-                                bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, storyArcUnitsDir,
-                                      false);
+                // load units from story arcs
+                File storyArcsDir = Configuration.storyArcsDir();
+                if (storyArcsDir.exists() && storyArcsDir.isDirectory()) {
+                    File[] storyArcsFiles = storyArcsDir.listFiles();
+                    if (storyArcsFiles != null) {
+                        for (File file : storyArcsFiles) {
+                            if (file.isDirectory()) {
+                                File storyArcUnitsDir = new File(file.getPath() + "/data/mekfiles");
+                                if (storyArcUnitsDir.exists() && storyArcUnitsDir.isDirectory()) {
+                                    findChangedFiles(sources, zipFiles, sKnownFiles, lLastCheck, storyArcUnitsDir,
+                                          false);
+                                }
                             }
                         }
                     }
                 }
             }
+            if (shouldStopLoading()) {
+                return;
+            }
+
+            List<ParsedUnit> parsedUnits = parseAll(sources);
+            if (parsedUnits == null) {
+                return;
+            }
+            bNeedsUpdate = addParsedUnits(vMeks, sKnownFiles, parsedUnits);
+        } finally {
+            for (ZipFile zipFile : zipFiles) {
+                try {
+                    zipFile.close();
+                } catch (Exception ex) {
+                    logger.error("", ex);
+                }
+            }
         }
 
         // save updated cache back to disk
@@ -498,6 +579,7 @@ public class MekSummaryCache {
             if ((loader != null) && (Thread.currentThread() != loader)) {
                 return;
             }
+            cacheFileIndex = null;
 
             if (disposeInstance) {
                 initializing = false;
@@ -538,14 +620,8 @@ public class MekSummaryCache {
         }
 
         loadReport.append("Saving unit cache.\n");
-        try (FileOutputStream fos = new FileOutputStream(
-              new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile());
-              BufferedOutputStream bos = new BufferedOutputStream(fos);
-              ObjectOutputStream oos = new ObjectOutputStream(bos)) {
-            oos.writeObject(data.size());
-            for (MekSummary element : data) {
-                oos.writeObject(element);
-            }
+        try {
+            UnitCacheFile.write(new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile(), data);
         } catch (Exception ex) {
             loadReport.append(" Unable to save mek cache\n");
             logger.error("", ex);
@@ -563,7 +639,7 @@ public class MekSummaryCache {
         File unitCachePath = new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile();
         long lastCheck = unitCachePath.exists() ? unitCachePath.lastModified() : 0L;
         Vector<MekSummary> units = new Vector<>();
-        Set<String> knownFiles = new HashSet<>();
+        Map<String, Long> knownFiles = new HashMap<>();
         // Loop through current contents and make sure the file is still there.
         // Note which files are represented so we can skip them if they haven't changed
         for (MekSummary mekSummary : data) {
@@ -574,11 +650,7 @@ public class MekSummaryCache {
             File source = mekSummary.getSourceFile();
             if (source.exists()) {
                 units.add(mekSummary);
-                if (null == mekSummary.getEntryName()) {
-                    knownFiles.add(source.toString());
-                } else {
-                    knownFiles.add(mekSummary.getEntryName());
-                }
+                knownFiles.put(sourceKey(mekSummary), mekSummary.getSourceStamp());
             }
         }
 
@@ -612,7 +684,7 @@ public class MekSummaryCache {
 
         loadReport.append("Rebuilding unit cache:\n");
         Vector<MekSummary> units = new Vector<>();
-        Set<String> knownFiles = new HashSet<>();
+        Map<String, Long> knownFiles = new HashMap<>();
 
         checkForChanges(ignoreUnofficial, units, knownFiles, 0L);
         if (shouldStopLoading()) {
@@ -969,111 +1041,74 @@ public class MekSummaryCache {
     }
 
     /**
-     * Loading a complete {@link Entity} object for each summary is a bear and should be changed, but it lets me use the
-     * existing parsers
+     * Finds the unit files in a directory and its subdirectories (including the entries of zip files) that were not
+     * read before or have changed since. A file counts as changed when its source stamp differs from the one stored
+     * with its unit; for units without a stored stamp, when it was modified after the last cache update.
      *
-     * @param vMeks       List to add units to as they are loaded
-     * @param sKnownFiles Files that have been processed so far and can be skipped
+     * @param sources     List to add the changed unit files to, in directory order
+     * @param zipFiles    List to add the opened zip files to; the caller must close them
+     * @param sKnownFiles The files and zip entries of the known units, with their source stamps
      * @param lLastCheck  The timestamp of the last time the cache was updated
-     * @param fDir        The directory to load units from
-     *
-     * @return Whether the list of units has changed, requiring rewriting the cache
+     * @param fDir        The directory to look in
      */
-    private boolean loadMeksFromDirectory(Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck, File fDir,
-          boolean ignoreUnofficial) {
-        boolean bNeedsUpdate = false;
+    private void findChangedFiles(List<UnitSource> sources, List<ZipFile> zipFiles, Map<String, Long> sKnownFiles,
+          long lLastCheck, File fDir, boolean ignoreUnofficial) {
         loadReport.append("  Looking in ").append(fDir.getPath())
               .append("...\n");
-        int thisDirectoriesFileCount = 0;
         String[] sa = fDir.list();
+        if (sa == null) {
+            return;
+        }
 
-        if (sa != null) {
-            for (String element : sa) {
-                if (shouldStopLoading()) {
-                    done();
-                    return false;
-                }
-                File f = new MegaMekFile(fDir, element).getFile();
-                if (f.equals(new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile())) {
-                    continue;
-                }
-                if (f.isDirectory()) {
-                    if (f.getName().equalsIgnoreCase("unsupported") || f.getName().equalsIgnoreCase(".mml_tmp")) {
-                        // Meks in "unsupported" are ignored because
-                        // they have features not implemented in MM yet.
-                        //
-                        // Meks in ".mml_tmp" are created by MML to back up unsaved work,
-                        // and should only be loaded by the MML unit recovery process.
-                        continue;
-                    } else if (f.getName().equalsIgnoreCase("unofficial") && ignoreUnofficial) {
-                        // Meks in this directory are ignored because
-                        // they are unofficial, and we don't want those right
-                        // now.
-                        continue;
-                    } else if (f.getName().equalsIgnoreCase("_svn")
-                          || f.getName().equalsIgnoreCase(".svn")) {
-                        // This is a Subversion work directory. Let's ignore it.
-                        continue;
-                    }
-                    // recursion is fun
-                    bNeedsUpdate |= loadMeksFromDirectory(vMeks, sKnownFiles, lLastCheck, f, ignoreUnofficial);
-                    continue;
-                }
-                String lowerCaseName = f.getName().toLowerCase();
-                if (SUPPORTED_FILE_EXTENSIONS.stream().noneMatch(lowerCaseName::endsWith)) {
+        File unitCacheFile = new MegaMekFile(getUnitCacheDir(), FILENAME_UNITS_CACHE).getFile();
+        for (String element : sa) {
+            if (shouldStopLoading()) {
+                return;
+            }
+            File f = new MegaMekFile(fDir, element).getFile();
+            if (f.equals(unitCacheFile)) {
+                continue;
+            }
+            if (f.isDirectory()) {
+                if (f.getName().equalsIgnoreCase("unsupported") || f.getName().equalsIgnoreCase(".mml_tmp")) {
+                    // Meks in "unsupported" are ignored because
+                    // they have features not implemented in MM yet.
+                    //
+                    // Meks in ".mml_tmp" are created by MML to back up unsaved work,
+                    // and should only be loaded by the MML unit recovery process.
                     continue;
-                }
-                if (lowerCaseName.endsWith(".zip")) {
-                    bNeedsUpdate |= loadMeksFromZipFile(vMeks, sKnownFiles, lLastCheck, f);
+                } else if (f.getName().equalsIgnoreCase("unofficial") && ignoreUnofficial) {
+                    // Meks in this directory are ignored because
+                    // they are unofficial, and we don't want those right
+                    // now.
                     continue;
-                }
-                if ((f.lastModified() < lLastCheck) && sKnownFiles.contains(f.toString())) {
+                } else if (f.getName().equalsIgnoreCase("_svn")
+                      || f.getName().equalsIgnoreCase(".svn")) {
+                    // This is a Subversion work directory. Let's ignore it.
                     continue;
                 }
-                try {
-                    MekFileParser mfp = new MekFileParser(f);
-                    Entity e = mfp.getEntity();
-                    MekSummary ms = getSummary(e, f, null);
-                    // if this is unit's MekSummary is already known,
-                    // remove it first, so we don't get duplicates
-                    if (sKnownFiles.contains(f.toString())) {
-                        vMeks.removeElement(ms);
-                    }
-                    vMeks.addElement(ms);
-                    sKnownFiles.add(f.toString());
-                    bNeedsUpdate = true;
-                    thisDirectoriesFileCount++;
-                    fileCount++;
-                    Iterator<String> failedEquipment = e.getFailedEquipment();
-                    if (failedEquipment.hasNext()) {
-                        loadReport.append("    Loading from ").append(f).append("\n");
-                        while (failedEquipment.hasNext()) {
-                            loadReport.append("      Failed to load equipment: ")
-                                  .append(failedEquipment.next()).append("\n");
-                        }
-                    }
-                } catch (Exception ex) {
-                    loadReport.append("    Loading from ").append(f).append("\n");
-                    loadReport.append("***   Unable to load file: ");
-                    StringWriter stringWriter = new StringWriter();
-                    PrintWriter printWriter = new PrintWriter(stringWriter);
-                    ex.printStackTrace(printWriter);
-                    loadReport.append(stringWriter.getBuffer()).append("\n");
-                    failedFiles.put(f.toString(), ex.getMessage());
-                }
+                // recursion is fun
+                findChangedFiles(sources, zipFiles, sKnownFiles, lLastCheck, f, ignoreUnofficial);
+                continue;
+            }
+            String lowerCaseName = f.getName().toLowerCase();
+            if (SUPPORTED_FILE_EXTENSIONS.stream().noneMatch(lowerCaseName::endsWith)) {
+                continue;
+            }
+            if (lowerCaseName.endsWith(".zip")) {
+                findChangedZipEntries(sources, zipFiles, sKnownFiles, lLastCheck, f);
+                continue;
+            }
+            long stamp = fileStamp(f);
+            if (!isUnchanged(sKnownFiles.get(f.toString()), stamp, f.lastModified(), lLastCheck)) {
+                sources.add(new UnitSource(f, null, null, stamp));
             }
         }
-
-        loadReport.append("  ...loaded ").append(thisDirectoriesFileCount).append(" files.\n");
-        return bNeedsUpdate;
     }
 
-    private boolean loadMeksFromZipFile(Vector<MekSummary> vMeks,
-          Set<String> sKnownFiles, long lLastCheck, File fZipFile) {
-        boolean bNeedsUpdate = false;
+    private void findChangedZipEntries(List<UnitSource> sources, List<ZipFile> zipFiles,
+          Map<String, Long> sKnownFiles, long lLastCheck, File fZipFile) {
         ZipFile zFile;
-        int thisZipFileCount = 0;
         try {
             zFile = new ZipFile(fZipFile);
         } catch (Exception ex) {
@@ -1083,22 +1118,17 @@ public class MekSummaryCache {
             PrintWriter printWriter = new PrintWriter(stringWriter);
             ex.printStackTrace(printWriter);
             loadReport.append(stringWriter.getBuffer()).append("\n");
-            return false;
+            return;
         }
+        zipFiles.add(zFile);
         loadReport.append("  Looking in zip file ").append(fZipFile.getPath())
               .append("...\n");
 
-        for (Enumeration<?> i = zFile.entries(); i.hasMoreElements(); ) {
+        for (Enumeration<? extends ZipEntry> i = zFile.entries(); i.hasMoreElements(); ) {
             if (shouldStopLoading()) {
-                done();
-                try {
-                    zFile.close();
-                    return false;
-                } catch (Exception ex) {
-                    logger.error("", ex);
-                }
+                return;
             }
-            ZipEntry zEntry = (ZipEntry) i.nextElement();
+            ZipEntry zEntry = i.nextElement();
 
             if (zEntry.isDirectory()) {
                 if (zEntry.getName().equalsIgnoreCase("unsupported")) {
@@ -1111,54 +1141,216 @@ public class MekSummaryCache {
             if (SUPPORTED_FILE_EXTENSIONS.stream().noneMatch(lowerCaseName::endsWith)) {
                 continue;
             }
-            if ((Math.max(fZipFile.lastModified(), zEntry.getTime()) < lLastCheck)
-                  && sKnownFiles.contains(zEntry.getName())) {
-                continue;
+            long stamp = zipEntryStamp(zEntry);
+            if (!isUnchanged(sKnownFiles.get(zEntry.getName()), stamp,
+                  Math.max(fZipFile.lastModified(), zEntry.getTime()), lLastCheck)) {
+                sources.add(new UnitSource(fZipFile, zFile, zEntry, stamp));
             }
+        }
+    }
+
+    /**
+     * @param knownStamp   The source stamp stored with the known unit of a file, or null if the file is new
+     * @param stamp        The current source stamp of the file
+     * @param lastModified The time the file was last modified
+     * @param lastCheck    The timestamp of the last time the cache was updated
+     *
+     * @return True when the file need not be read again
+     */
+    private static boolean isUnchanged(@Nullable Long knownStamp, long stamp, long lastModified, long lastCheck) {
+        if (knownStamp == null) {
+            return false;
+        } else if ((knownStamp != MekSummary.NO_SOURCE_STAMP) && (stamp != MekSummary.NO_SOURCE_STAMP)) {
+            return knownStamp == stamp;
+        } else {
+            return lastModified < lastCheck;
+        }
+    }
+
+    /**
+     * @return The source stamp of a unit file, made from its modification time and length
+     */
+    private static long fileStamp(File file) {
+        long stamp = (31 * file.lastModified()) + file.length();
+        return (stamp == MekSummary.NO_SOURCE_STAMP) ? 1 : stamp;
+    }
+
+    /**
+     * @return The source stamp of a zip file entry, made from its CRC and size
+     */
+    private static long zipEntryStamp(ZipEntry entry) {
+        if ((entry.getCrc() == -1) || (entry.getSize() == -1)) {
+            return MekSummary.NO_SOURCE_STAMP;
+        }
+        long stamp = (entry.getCrc() << 32) ^ entry.getSize();
+        return (stamp == MekSummary.NO_SOURCE_STAMP) ? 1 : stamp;
+    }
+
+    /**
+     * @return The key of the given unit in the known files: the path of its file or its zip entry name
+     */
+    private static String sourceKey(MekSummary mekSummary) {
+        return (mekSummary.getEntryName() == null) ? mekSummary.getSourceFile().toString()
+              : mekSummary.getEntryName();
+    }
+
+    /**
+     * Parses the given unit files and creates their summaries. Loading a complete {@link Entity} object for each
+     * summary is a bear and should be changed, but it lets me use the existing parsers. The files are parsed by a
+     * work-stealing pool with the number of threads given by the UnitLoaderThreads client preference.
+     *
+     * @return The parsed units in the order of the given sources, or null if loading was stopped
+     */
+    private @Nullable List<ParsedUnit> parseAll(List<UnitSource> sources) {
+        int threads = PreferenceManager.getClientPreferences().getUnitLoaderThreads();
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        threads = Math.min(threads, sources.size());
 
+        if (!sources.isEmpty()) {
+            // create the equipment types before the workers all wait for them
+            EquipmentType.initializeTypes();
+        }
+
+        Thread owner = Thread.currentThread();
+        BooleanSupplier stopRequested = () -> disposeInstance || owner.isInterrupted() || (loader != owner);
+        ParsedUnit[] parsedUnits = new ParsedUnit[sources.size()];
+        long startTime = System.nanoTime();
+        if (threads <= 1) {
+            for (int i = 0; i < sources.size(); i++) {
+                if (stopRequested.getAsBoolean()) {
+                    return null;
+                }
+                parsedUnits[i] = parse(sources.get(i));
+            }
+        } else {
+            ForkJoinPool pool = new ForkJoinPool(threads, forkJoinPool -> {
+                ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+                thread.setName("Unit Loader " + thread.getPoolIndex());
+                return thread;
+            }, null, false);
             try {
-                MekFileParser mfp = new MekFileParser(
-                      zFile.getInputStream(zEntry), zEntry.getName());
-                Entity e = mfp.getEntity();
-                MekSummary ms = getSummary(e, fZipFile, zEntry.getName());
-                vMeks.addElement(ms);
-                sKnownFiles.add(zEntry.getName());
+                pool.submit(() -> IntStream.range(0, sources.size()).parallel().forEach(i -> {
+                    if (!stopRequested.getAsBoolean()) {
+                        parsedUnits[i] = parse(sources.get(i));
+                    }
+                })).get();
+            } catch (InterruptedException ex) {
+                owner.interrupt();
+                return null;
+            } catch (ExecutionException ex) {
+                logger.error(ex.getCause(), "Failed to parse unit files");
+                return null;
+            } finally {
+                pool.shutdownNow();
+            }
+            if (stopRequested.getAsBoolean()) {
+                return null;
+            }
+        }
+        if (!sources.isEmpty()) {
+            loadReport.append("  Parsed ").append(sources.size()).append(" unit files in ")
+                  .append((System.nanoTime() - startTime) / 1_000_000).append(" ms using ")
+                  .append(Math.max(threads, 1)).append(" threads.\n");
+        }
+        return Arrays.asList(parsedUnits);
+    }
+
+    /**
+     * Parses a unit file and creates its summary. This is called by several threads at once and must not change the
+     * state of this cache.
+     */
+    private ParsedUnit parse(UnitSource source) {
+        try {
+            MekFileParser mfp;
+            if (source.zipEntry() == null) {
+                mfp = new MekFileParser(source.file());
+            } else {
+                mfp = new MekFileParser(source.zipFile().getInputStream(source.zipEntry()),
+                      source.zipEntry().getName());
+            }
+            Entity e = mfp.getEntity();
+            MekSummary ms = getSummary(e, source.file(),
+                  (source.zipEntry() == null) ? null : source.zipEntry().getName());
+            ms.setSourceStamp(source.stamp());
+            List<String> failedEquipment = new ArrayList<>();
+            e.getFailedEquipment().forEachRemaining(failedEquipment::add);
+            return new ParsedUnit(source, ms, failedEquipment, null);
+        } catch (Exception ex) {
+            return new ParsedUnit(source, null, List.of(), ex);
+        }
+    }
+
+    /**
+     * Adds the parsed units to the unit list in the order they were found, replacing the units previously read from
+     * the same files, and records the files that failed to load.
+     *
+     * @return Whether the list of units has changed, requiring rewriting the cache
+     */
+    private boolean addParsedUnits(Vector<MekSummary> vMeks, Map<String, Long> sKnownFiles,
+          List<ParsedUnit> parsedUnits) {
+        boolean bNeedsUpdate = false;
+        Set<String> replacedFiles = new HashSet<>();
+        for (ParsedUnit parsedUnit : parsedUnits) {
+            if ((parsedUnit.summary() != null) && sKnownFiles.containsKey(parsedUnit.source().key())) {
+                replacedFiles.add(parsedUnit.source().key());
+            }
+        }
+        if (!replacedFiles.isEmpty()) {
+            vMeks.removeIf(mekSummary -> replacedFiles.contains(sourceKey(mekSummary)));
+        }
+
+        for (ParsedUnit parsedUnit : parsedUnits) {
+            UnitSource source = parsedUnit.source();
+            String location = (source.zipEntry() == null) ? "    Loading from " + source.file()
+                  : "    Loading from zip file >> " + source.zipEntry().getName();
+            if (parsedUnit.summary() != null) {
+                vMeks.addElement(parsedUnit.summary());
+                sKnownFiles.put(source.key(), source.stamp());
                 bNeedsUpdate = true;
-                thisZipFileCount++;
-                zipCount++;
-                Iterator<String> failedEquipment = e.getFailedEquipment();
-                if (failedEquipment.hasNext()) {
-                    loadReport.append("    Loading from zip file")
-                          .append(" >> ").append(zEntry.getName()).append("\n");
-                    while (failedEquipment.hasNext()) {
-                        loadReport.append("      Failed to load equipment: ")
-                              .append(failedEquipment.next()).append("\n");
+                if (source.zipEntry() == null) {
+                    fileCount++;
+                } else {
+                    zipCount++;
+                }
+                if (!parsedUnit.failedEquipment().isEmpty()) {
+                    loadReport.append(location).append("\n");
+                    for (String failedEquipment : parsedUnit.failedEquipment()) {
+                        loadReport.append("      Failed to load equipment: ").append(failedEquipment).append("\n");
                     }
                 }
-            } catch (Exception ex) {
-                loadReport.append("    Loading from zip file").append(" >> ")
-                      .append(zEntry.getName()).append("\n");
-                loadReport.append("      Unable to load file: ");
+            } else {
+                Exception ex = parsedUnit.error();
+                loadReport.append(location).append("\n");
+                loadReport.append("***   Unable to load file: ");
                 StringWriter stringWriter = new StringWriter();
                 PrintWriter printWriter = new PrintWriter(stringWriter);
                 ex.printStackTrace(printWriter);
                 loadReport.append(stringWriter.getBuffer()).append("\n");
-                if (!(ex.getMessage() == null)) {
-                    failedFiles.put(zEntry.getName(), ex.getMessage());
-                }
+                failedFiles.put(source.key(), (ex.getMessage() == null) ? ex.toString() : ex.getMessage());
             }
         }
+        loadReport.append("  ...loaded ").append(fileCount + zipCount).append(" files.\n");
+        return bNeedsUpdate;
+    }
 
-        try {
-            zFile.close();
-        } catch (Exception ex) {
-            logger.error("", ex);
-        }
+    /**
+     * A unit file or zip file entry to parse. For zip entries, the file is the zip file.
+     */
+    private record UnitSource(File file, ZipFile zipFile, ZipEntry zipEntry, long stamp) {
 
-        loadReport.append("  ...loaded ").append(thisZipFileCount)
-              .append(" files.\n");
+        /** @return The key of this source in the known files */
+        String key() {
+            return (zipEntry == null) ? file.toString() : zipEntry.getName();
+        }
+    }
 
-        return bNeedsUpdate;
+    /**
+     * The result of parsing a unit file: the summary and the equipment that failed to load, or the error.
+     */
+    private record ParsedUnit(UnitSource source, MekSummary summary, List<String> failedEquipment,
+          Exception error) {
     }
 
     private void addLookupNames() {
@@ -0,0 +1,478 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamField;
+import java.io.OutputStream;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import megamek.MMConstants;
+import megamek.common.annotations.Nullable;
+
+/**
+ * Reads and writes the unit cache file (units.cache) of the {@link MekSummaryCache}. The file has the following
+ * layout:
+ * <ul>
+ *     <li>a header: magic number, format version, a hash of the MegaMek version and a class table with the name and
+ *     a structure hash of every class whose objects are stored in the data section</li>
+ *     <li>a string table holding every distinct source file path and zip entry name once</li>
+ *     <li>a fixed-width index with one record per unit: source file, entry name and unit name (as string table
+ *     indices) and the position and length of the unit's data</li>
+ *     <li>the data section with each MekSummary serialized on its own, using class names instead of full class
+ *     descriptors</li>
+ * </ul>
+ * As every unit is stored independently, reading can first drop the units whose source file is gone (checking each
+ * source path only once instead of once per unit) and then deserialize the remaining units in parallel. The index
+ * also allows reading a single unit by its name (chassis and model) without deserializing the others. A file with a
+ * different format or MegaMek version, one in which a stored class has a different structure than in the running
+ * version, or one that cannot be read, is rejected with an IOException; the caller then rebuilds the cache from the
+ * unit files.
+ */
+final class UnitCacheFile {
+
+    /** "MMUC" */
+    private static final int MAGIC = 0x4D4D5543;
+    private static final int FORMAT_VERSION = 3;
+    private static final int NO_ENTRY = -1;
+
+    /**
+     * The units read from a cache file along with the source files and zip entry names they were read from.
+     *
+     * @param units      The units whose source file still exists, in file order
+     * @param knownFiles The source file paths (for units read from files) and entry names (for units read from zip
+     *                   files) of these units
+     */
+    record Contents(List<MekSummary> units, List<String> knownFiles) {
+    }
+
+    /**
+     * Writes the given units to the given cache file. The file is written to a temporary file first and then moved
+     * in place so that a failed or interrupted write leaves no partial cache behind.
+     *
+     * @param file  The cache file
+     * @param units The units to write
+     *
+     * @throws IOException When the file cannot be written
+     */
+    static void write(File file, List<MekSummary> units) throws IOException {
+        Map<String, Integer> stringIndex = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        int[] sourceIndices = new int[units.size()];
+        int[] entryIndices = new int[units.size()];
+        int[] nameIndices = new int[units.size()];
+        int[] lengths = new int[units.size()];
+        ByteArrayOutputStream data = new ByteArrayOutputStream(units.size() * 1024);
+        Set<ObjectStreamClass> storedClasses = new LinkedHashSet<>();
+        for (int i = 0; i < units.size(); i++) {
+            MekSummary unit = units.get(i);
+            sourceIndices[i] = stringIndex.computeIfAbsent(unit.getSourceFile().toString(), s -> add(strings, s));
+            entryIndices[i] = (unit.getEntryName() == null) ? NO_ENTRY
+                  : stringIndex.computeIfAbsent(unit.getEntryName(), s -> add(strings, s));
+            nameIndices[i] = (unit.getName() == null) ? NO_ENTRY
+                  : stringIndex.computeIfAbsent(unit.getName(), s -> add(strings, s));
+            int start = data.size();
+            try (ObjectOutputStream out = new CompactObjectOutputStream(data, storedClasses)) {
+                out.writeObject(unit);
+            }
+            lengths[i] = data.size() - start;
+        }
+
+        Path target = file.toPath();
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), "units", ".tmp");
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                  Files.newOutputStream(temporary)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(versionHash());
+                out.writeInt(storedClasses.size());
+                for (ObjectStreamClass descriptor : storedClasses) {
+                    out.writeUTF(descriptor.getName());
+                    out.writeLong(structureHash(descriptor));
+                }
+                out.writeInt(strings.size());
+                for (String string : strings) {
+                    out.writeUTF(string);
+                }
+                out.writeInt(units.size());
+                long offset = 0;
+                for (int i = 0; i < units.size(); i++) {
+                    out.writeInt(sourceIndices[i]);
+                    out.writeInt(entryIndices[i]);
+                    out.writeInt(nameIndices[i]);
+                    out.writeLong(offset);
+                    out.writeInt(lengths[i]);
+                    offset += lengths[i];
+                }
+                data.writeTo(out);
+            }
+            try {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporary, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Reads the units from the given cache file. Units whose source file no longer exists are skipped without being
+     * deserialized.
+     *
+     * @param file          The cache file
+     * @param stopRequested Returns true when loading should be cancelled
+     *
+     * @return The units and their known files, or null when loading was cancelled
+     *
+     * @throws IOException When the file cannot be read, or was written by a different format or MegaMek version
+     */
+    static Contents read(File file, BooleanSupplier stopRequested) throws IOException {
+        return readIndex(file).readAll(stopRequested);
+    }
+
+    /**
+     * Reads the header and unit index of the given cache file without deserializing any unit.
+     *
+     * @param file The cache file
+     *
+     * @return The index of the file
+     *
+     * @throws IOException When the file cannot be read, or was written by a different format or MegaMek version
+     */
+    static Index readIndex(File file) throws IOException {
+        long written = file.lastModified();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(buffer));
+        if ((in.readInt() != MAGIC) || (in.readInt() != FORMAT_VERSION)) {
+            throw new StreamCorruptedException("Not a unit cache file of the current format");
+        }
+        if (in.readLong() != versionHash()) {
+            throw new InvalidClassException("Unit cache file was written by a different MegaMek version");
+        }
+        int classCount = in.readInt();
+        for (int i = 0; i < classCount; i++) {
+            String name = in.readUTF();
+            if (in.readLong() != structureHash(lookupDescriptor(name))) {
+                throw new InvalidClassException(name, "Class has changed since the unit cache file was written");
+            }
+        }
+        String[] strings = new String[in.readInt()];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = in.readUTF();
+        }
+
+        int unitCount = in.readInt();
+        int[] sourceIndices = new int[unitCount];
+        int[] entryIndices = new int[unitCount];
+        long[] offsets = new long[unitCount];
+        int[] lengths = new int[unitCount];
+        Map<String, Integer> unitsByName = new HashMap<>();
+        for (int i = 0; i < unitCount; i++) {
+            sourceIndices[i] = in.readInt();
+            entryIndices[i] = in.readInt();
+            int nameIndex = in.readInt();
+            if (nameIndex != NO_ENTRY) {
+                // Like the name map of the MekSummaryCache, the last unit of a name wins
+                unitsByName.put(strings[nameIndex], i);
+            }
+            offsets[i] = in.readLong();
+            lengths[i] = in.readInt();
+        }
+        return new Index(buffer, buffer.position(), written, strings, sourceIndices, entryIndices, offsets, lengths,
+              unitsByName);
+    }
+
+    /**
+     * The unit index of a cache file along with the file's data; see {@link #readIndex(File)}.
+     */
+    static final class Index {
+        private final ByteBuffer buffer;
+        private final int dataStart;
+        private final long written;
+        private final String[] strings;
+        private final int[] sourceIndices;
+        private final int[] entryIndices;
+        private final long[] offsets;
+        private final int[] lengths;
+        private final Map<String, Integer> unitsByName;
+
+        private Index(ByteBuffer buffer, int dataStart, long written, String[] strings, int[] sourceIndices,
+              int[] entryIndices, long[] offsets, int[] lengths, Map<String, Integer> unitsByName) {
+            this.buffer = buffer;
+            this.dataStart = dataStart;
+            this.written = written;
+            this.strings = strings;
+            this.sourceIndices = sourceIndices;
+            this.entryIndices = entryIndices;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.unitsByName = unitsByName;
+        }
+
+        /**
+         * @return The modification time of the cache file when its index was read
+         */
+        long written() {
+            return written;
+        }
+
+        /**
+         * Reads only the unit of the given name from the cache file. The unit is returned as stored, even when its
+         * source file has changed or been removed since.
+         *
+         * @param name The unit name, i.e. its chassis and model
+         *
+         * @return The unit or null when the file holds no unit of that name
+         *
+         * @throws IOException When the unit cannot be read
+         */
+        @Nullable
+        MekSummary find(String name) throws IOException {
+            Integer unit = unitsByName.get(name);
+            if (unit == null) {
+                return null;
+            }
+            try {
+                return readUnit(unitData(unit));
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+        }
+
+        /**
+         * Reads all units whose source file still exists; see {@link UnitCacheFile#read(File, BooleanSupplier)}. The
+         * units are deserialized in parallel, but the stop condition is only evaluated on the calling thread.
+         */
+        Contents readAll(BooleanSupplier stopRequested) throws IOException {
+            // Many units share a source (zip files), so check every source only once
+            Boolean[] sourceExists = new Boolean[strings.length];
+            List<Integer> present = new ArrayList<>(offsets.length);
+            for (int i = 0; i < offsets.length; i++) {
+                int source = sourceIndices[i];
+                if (sourceExists[source] == null) {
+                    sourceExists[source] = new File(strings[source]).exists();
+                }
+                if (sourceExists[source]) {
+                    present.add(i);
+                }
+            }
+            if (stopRequested.getAsBoolean()) {
+                return null;
+            }
+
+            MekSummary[] units = new MekSummary[present.size()];
+            // The stop condition may depend on the calling thread (the cache loader checks that it is the current
+            // loader), so only that thread evaluates it and tells the pool workers
+            Thread caller = Thread.currentThread();
+            AtomicBoolean stopped = new AtomicBoolean();
+            try {
+                IntStream.range(0, units.length).parallel().forEach(n -> {
+                    if ((Thread.currentThread() == caller) && stopRequested.getAsBoolean()) {
+                        stopped.set(true);
+                    }
+                    if (!stopped.get()) {
+                        units[n] = readUnit(unitData(present.get(n)));
+                    }
+                });
+            } catch (UncheckedIOException ex) {
+                throw ex.getCause();
+            }
+            if (stopped.get() || stopRequested.getAsBoolean()) {
+                return null;
+            }
+
+            List<String> knownFiles = new ArrayList<>(units.length);
+            for (int n = 0; n < units.length; n++) {
+                int i = present.get(n);
+                knownFiles.add(strings[(entryIndices[i] == NO_ENTRY) ? sourceIndices[i] : entryIndices[i]]);
+            }
+            return new Contents(List.of(units), knownFiles);
+        }
+
+        private ByteBuffer unitData(int unit) {
+            return buffer.slice(Math.toIntExact(dataStart + offsets[unit]), lengths[unit]);
+        }
+    }
+
+    private static MekSummary readUnit(ByteBuffer data) {
+        try (ObjectInputStream in = new CompactObjectInputStream(new ByteBufferInputStream(data))) {
+            return (MekSummary) in.readObject();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        } catch (ClassNotFoundException | ClassCastException ex) {
+            throw new UncheckedIOException(new InvalidClassException(ex.getMessage()));
+        }
+    }
+
+    private static int add(List<String> strings, String string) {
+        strings.add(string);
+        return strings.size() - 1;
+    }
+
+    private static long versionHash() {
+        return MMConstants.VERSION.toString().hashCode();
+    }
+
+    /**
+     * @return A value that changes with the serialized fields of the given class. The data section does not contain
+     *       full class descriptors, so the serialization itself cannot detect such changes. As the class table lists
+     *       the classes actually written rather than the declared field types, this also covers the objects held in
+     *       fields of interface or Object type.
+     */
+    static long structureHash(ObjectStreamClass descriptor) {
+        long hash = descriptor.getName().hashCode();
+        for (ObjectStreamField field : descriptor.getFields()) {
+            hash = 31 * hash + field.getName().hashCode();
+            hash = 31 * hash + field.getType().getName().hashCode();
+        }
+        return hash;
+    }
+
+    private static ObjectStreamClass lookupDescriptor(String name) throws IOException {
+        try {
+            ObjectStreamClass descriptor = ObjectStreamClass.lookup(
+                  Class.forName(name, false, UnitCacheFile.class.getClassLoader()));
+            if (descriptor == null) {
+                throw new InvalidClassException(name, "Class is not serializable");
+            }
+            return descriptor;
+        } catch (ClassNotFoundException ex) {
+            throw new InvalidClassException(name, "Class not found");
+        }
+    }
+
+    /**
+     * An ObjectOutputStream that writes only the class name for class descriptors and no stream header. Together with
+     * the class table, this makes the serialized units much smaller and faster to read.
+     */
+    private static final class CompactObjectOutputStream extends ObjectOutputStream {
+
+        private final Set<ObjectStreamClass> storedClasses;
+
+        /**
+         * @param out           The stream to write to
+         * @param storedClasses Receives the descriptors of all classes written
+         */
+        CompactObjectOutputStream(OutputStream out, Set<ObjectStreamClass> storedClasses) throws IOException {
+            super(out);
+            this.storedClasses = storedClasses;
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+        }
+
+        @Override
+        protected void writeClassDescriptor(ObjectStreamClass descriptor) throws IOException {
+            storedClasses.add(descriptor);
+            writeUTF(descriptor.getName());
+        }
+    }
+
+    /** Reads what {@link CompactObjectOutputStream} wrote, using the class descriptors of the running version. */
+    private static final class CompactObjectInputStream extends ObjectInputStream {
+
+        CompactObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException {
+            return lookupDescriptor(readUTF());
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? (buffer.get() & 0xFF) : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    private UnitCacheFile() {
+    }
+}
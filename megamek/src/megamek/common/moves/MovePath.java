@@ -94,7 +94,7 @@ public class MovePath implements Cloneable, Serializable {
     private transient Entity entity;
 
     // holds the types of steps present in this movement
-    private Set<MoveStepType> containedStepTypes = new HashSet<>();
+    private Set<MoveStepType> containedStepTypes = EnumSet.noneOf(MoveStepType.class);
 
     // whether this movePath take us directly over an enemy unit
     // useful for debugging aircraft on ground maps
@@ -135,6 +135,19 @@ public class MovePath implements Cloneable, Serializable {
               !entity.isAirborne());
     }
 
+    /**
+     * Creates a copy of the given path for {@link #clone()}. The pathfinders clone a path for every step they try, so
+     * this takes over the entity state cache and the gravity evaluation of the source instead of recomputing them.
+     */
+    protected MovePath(MovePath source) {
+        entity = source.entity;
+        game = source.game;
+        waypoint = source.waypoint;
+        gravity = source.gravity;
+        gravityConcern = source.gravityConcern;
+        source.copyFields(this);
+    }
+
     /**
      * Checks if there is a waypoint referenced by this MovePath.
      *
@@ -1136,7 +1149,7 @@ public class MovePath implements Cloneable, Serializable {
         }
         // Do final check for bad moves, and clip movement after first bad one
         // also clear and re-constitute "contained steps" cache
-        containedStepTypes = new HashSet<>();
+        containedStepTypes = EnumSet.noneOf(MoveStepType.class);
         final Vector<MoveStep> goodSteps = new Vector<>();
         for (MoveStep step : steps) {
             if (step.getMovementType(isEndStep(step)) != EntityMovementType.MOVE_ILLEGAL) {
@@ -1640,15 +1653,16 @@ public class MovePath implements Cloneable, Serializable {
      */
     @Override
     public MovePath clone() {
-        final MovePath copy = new MovePath(getGame(), getEntity(), getWaypoint());
-        copyFields(copy);
-        return copy;
+        return new MovePath(this);
     }
 
     protected void copyFields(MovePath copy) {
-        copy.steps = new Vector<>(steps);
+        // The copy is usually extended by one step right away; size it for that so that it isn't grown at once.
+        // addAll copies the backing array in one go (the step objects themselves are shared)
+        copy.steps = new Vector<>(steps.size() + 1);
+        copy.steps.addAll(steps);
         copy.careful = careful;
-        copy.containedStepTypes = new HashSet<>(containedStepTypes);
+        copy.containedStepTypes = EnumSet.copyOf(containedStepTypes);
         // copy.fliesOverEnemy = fliesOverEnemy;
         copy.cachedEntityState = cachedEntityState; // intentional pointer copy
     }
@@ -0,0 +1,117 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.compression;
+
+import megamek.common.net.enums.PacketCommand;
+
+/**
+ * Decides which packets are worth compressing. Packets smaller than {@link #MIN_SIZE} bytes, such as phase changes or
+ * chat messages, are never compressed; compressing them costs CPU time and saves next to nothing. For larger packets,
+ * the policy keeps a running average of the size reduction achieved per packet command. When the packets of a command
+ * save less than {@link #MIN_SAVING} on average (e.g. because they contain already compressed images), they are sent
+ * uncompressed, and only every {@link #PROBE_INTERVAL}th one is compressed to keep the average current.
+ * <p>
+ * The averages are shared by all connections of this JVM. This class is thread-safe; concurrent updates of an
+ * average may get lost, which is harmless.
+ */
+public final class CompressionPolicy {
+
+    /** Packets with less data than this are never compressed */
+    public static final int MIN_SIZE = 256;
+
+    /** The minimum average size reduction (as a fraction of the uncompressed size) for compression to be used */
+    static final double MIN_SAVING = 0.1;
+
+    /** Every this many packets of a command, compression is tried even when it did not pay off before */
+    static final int PROBE_INTERVAL = 16;
+
+    /** The weight of a new packet in the running average */
+    private static final double WEIGHT = 0.2;
+
+    private static final class CommandStatistics {
+        volatile double averageSaving = 1;
+        volatile int skipped;
+    }
+
+    private static final CommandStatistics[] STATISTICS = new CommandStatistics[PacketCommand.values().length];
+
+    static {
+        for (int i = 0; i < STATISTICS.length; i++) {
+            STATISTICS[i] = new CommandStatistics();
+        }
+    }
+
+    /**
+     * @param command The packet command
+     * @param size    The marshalled size of the packet
+     *
+     * @return True when the packet should be compressed
+     */
+    public static boolean shouldCompress(PacketCommand command, int size) {
+        if (size < MIN_SIZE) {
+            return false;
+        }
+        CommandStatistics statistics = STATISTICS[command.ordinal()];
+        if (statistics.averageSaving >= MIN_SAVING) {
+            return true;
+        }
+        int skipped = statistics.skipped + 1;
+        statistics.skipped = (skipped >= PROBE_INTERVAL) ? 0 : skipped;
+        return skipped >= PROBE_INTERVAL;
+    }
+
+    /**
+     * Records the outcome of compressing a packet.
+     *
+     * @param command        The packet command
+     * @param size           The marshalled size of the packet
+     * @param compressedSize The size after compression
+     */
+    public static void record(PacketCommand command, int size, int compressedSize) {
+        CommandStatistics statistics = STATISTICS[command.ordinal()];
+        double saving = 1 - ((double) compressedSize / Math.max(size, 1));
+        statistics.averageSaving = ((1 - WEIGHT) * statistics.averageSaving) + (WEIGHT * saving);
+    }
+
+    /** Forgets all recorded outcomes. */
+    static void reset() {
+        for (CommandStatistics statistics : STATISTICS) {
+            statistics.averageSaving = 1;
+            statistics.skipped = 0;
+        }
+    }
+
+    private CompressionPolicy() {
+    }
+}
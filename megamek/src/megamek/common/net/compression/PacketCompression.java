@@ -0,0 +1,225 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.compression;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+
+import megamek.common.annotations.Nullable;
+
+/**
+ * The codecs that can be used to compress the data of a network packet. The codec of each packet is given by its ID in
+ * the packet header, so a receiver can always read packets of any codec it knows; the sender only uses codecs that the
+ * other side announced during the handshake (see {@link #negotiate(Collection, int, boolean)}).
+ * <p>
+ * Small packets are sent uncompressed regardless of the codec, see {@link CompressionPolicy}.
+ */
+public enum PacketCompression {
+
+    /** The data is sent as marshalled */
+    NONE(0) {
+        @Override
+        public byte[] compress(byte[] data) {
+            return data;
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) {
+            return data;
+        }
+    },
+
+    /** GZIP at the default level; the only compression older versions understand */
+    GZIP(1) {
+        @Override
+        public byte[] compress(byte[] data) throws IOException {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4 + 64);
+            try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+                out.write(data);
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) throws IOException {
+            try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
+                return in.readAllBytes();
+            }
+        }
+    },
+
+    /**
+     * Deflate at the fastest level with a preset dictionary of common class descriptors (see {@link PacketDictionary}).
+     * On a 201 unit game it compresses entity lists three times as fast as GZIP, but they end up about a quarter
+     * larger; single entity updates end up a quarter smaller. It is therefore meant for local networks and is only
+     * used when the server asks for it (see {@link #negotiate(Collection, int, boolean)}).
+     */
+    DEFLATE_DICTIONARY(2) {
+        @Override
+        public byte[] compress(byte[] data) {
+            Deflater deflater = DEFLATERS.get();
+            deflater.reset();
+            deflater.setDictionary(PacketDictionary.get());
+            deflater.setInput(data);
+            deflater.finish();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length / 4 + 64);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                bytes.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return bytes.toByteArray();
+        }
+
+        @Override
+        public byte[] decompress(byte[] data) throws IOException {
+            Inflater inflater = INFLATERS.get();
+            inflater.reset();
+            inflater.setInput(data);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(data.length * 4);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            try {
+                while (!inflater.finished()) {
+                    int count = inflater.inflate(buffer);
+                    if (count > 0) {
+                        bytes.write(buffer, 0, count);
+                    } else if (inflater.needsDictionary()) {
+                        if (inflater.getAdler() != PacketDictionary.checksum()) {
+                            throw new IOException("Packet was compressed with a different dictionary");
+                        }
+                        inflater.setDictionary(PacketDictionary.get());
+                    } else if (inflater.needsInput()) {
+                        throw new EOFException("Compressed packet data is truncated");
+                    }
+                }
+            } catch (DataFormatException ex) {
+                throw new IOException("Compressed packet data is corrupt", ex);
+            }
+            return bytes.toByteArray();
+        }
+    };
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /** The codecs this build offers during the handshake */
+    private static final List<PacketCompression> OFFERED = List.of(GZIP, DEFLATE_DICTIONARY);
+
+    // Deflater and Inflater hold native memory; keep one per thread instead of one per packet
+    private static final ThreadLocal<Deflater> DEFLATERS = ThreadLocal.withInitial(
+          () -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATERS = ThreadLocal.withInitial(Inflater::new);
+
+    private final int id;
+
+    PacketCompression(int id) {
+        this.id = id;
+    }
+
+    /** @return The ID of this codec as written to the packet header */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * @param data The marshalled packet data
+     *
+     * @return The compressed data
+     *
+     * @throws IOException When compression fails
+     */
+    public abstract byte[] compress(byte[] data) throws IOException;
+
+    /**
+     * @param data The compressed packet data
+     *
+     * @return The marshalled packet data
+     *
+     * @throws IOException When the data is corrupt or was compressed with a different dictionary
+     */
+    public abstract byte[] decompress(byte[] data) throws IOException;
+
+    /**
+     * @param id A codec ID from a packet header
+     *
+     * @return The codec with the given ID
+     *
+     * @throws IOException When the ID is unknown
+     */
+    public static PacketCompression fromId(int id) throws IOException {
+        for (PacketCompression compression : values()) {
+            if (compression.id == id) {
+                return compression;
+            }
+        }
+        throw new IOException("Unknown packet compression " + id);
+    }
+
+    /** @return The IDs of the codecs offered by this build. Sent by the client during the handshake. */
+    public static List<Integer> getSupportedIds() {
+        return OFFERED.stream().map(PacketCompression::getId).toList();
+    }
+
+    /** @return The checksum of the dictionary of this build. Sent by the client during the handshake. */
+    public static int getDictionaryChecksum() {
+        return PacketDictionary.checksum();
+    }
+
+    /**
+     * Picks the codec to use for a connection, given the codecs the other side offered during the handshake. The
+     * dictionary codec is only chosen when it is preferred and both sides have the same dictionary. Otherwise, and
+     * when nothing is offered (e.g. an older client), GZIP is used.
+     *
+     * @param offeredIds         The codec IDs supported by the other side
+     * @param dictionaryChecksum The dictionary checksum of the other side
+     * @param preferFast         True to use the dictionary codec when possible
+     *
+     * @return The codec to use
+     */
+    public static PacketCompression negotiate(@Nullable Collection<Integer> offeredIds, int dictionaryChecksum,
+          boolean preferFast) {
+        if (preferFast && (offeredIds != null) && offeredIds.contains(DEFLATE_DICTIONARY.id)
+              && (dictionaryChecksum == PacketDictionary.checksum())) {
+            return DEFLATE_DICTIONARY;
+        }
+        return GZIP;
+    }
+}
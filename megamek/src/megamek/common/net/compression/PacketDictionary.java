@@ -0,0 +1,130 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Vector;
+import java.util.zip.Adler32;
+
+import megamek.common.CriticalSlot;
+import megamek.common.Hex;
+import megamek.common.Player;
+import megamek.common.Report;
+import megamek.common.battleArmor.BattleArmor;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.equipment.AmmoMounted;
+import megamek.common.equipment.MiscMounted;
+import megamek.common.equipment.WeaponMounted;
+import megamek.common.force.Force;
+import megamek.common.force.Forces;
+import megamek.common.game.GameTurn;
+import megamek.common.icons.Camouflage;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.AeroSpaceFighter;
+import megamek.common.units.BipedMek;
+import megamek.common.units.ConvFighter;
+import megamek.common.units.Crew;
+import megamek.common.units.Infantry;
+import megamek.common.units.QuadMek;
+import megamek.common.units.SupportTank;
+import megamek.common.units.Tank;
+import megamek.common.units.Terrain;
+import megamek.logging.MMLogger;
+
+/**
+ * The preset dictionary of the {@link PacketCompression#DEFLATE_DICTIONARY} codec. Both marshallers send most game
+ * objects with Java serialization, and a serialized entity list or board starts with the class descriptors of the
+ * serialized classes: class names, field names and type signatures. These are the same in every packet and make up a
+ * large part of the smaller packets. The dictionary consists of exactly these descriptors for the classes that appear
+ * most in packets, so that even the first occurrence in a packet can be compressed as a back-reference.
+ * <p>
+ * The dictionary is built from the running code, so it only matches between builds with identical classes. The
+ * {@link #checksum() checksum} is therefore exchanged during the handshake, and the codec is only used when it is the
+ * same on both sides.
+ */
+final class PacketDictionary {
+    private static final MMLogger LOGGER = MMLogger.create(PacketDictionary.class);
+
+    /** Deflate cannot refer back further than 32 KB */
+    private static final int MAX_SIZE = 32 * 1024;
+
+    /** The classes whose descriptors make up the dictionary, least frequent first so frequent ones end up closest */
+    private static final List<Class<?>> CLASSES = List.of(Camouflage.class, Force.class, Forces.class, Player.class,
+          GameTurn.class, Terrain.class, Hex.class, Board.class, Report.class, ConvFighter.class,
+          AeroSpaceFighter.class, SupportTank.class, BattleArmor.class, Infantry.class, Tank.class, QuadMek.class,
+          BipedMek.class, Crew.class, CriticalSlot.class, MiscMounted.class, AmmoMounted.class, WeaponMounted.class,
+          Coords.class, Vector.class, Packet.class);
+
+    private static final byte[] DICTIONARY = build();
+    private static final int CHECKSUM = computeChecksum(DICTIONARY);
+
+    /** @return The dictionary bytes; must not be modified */
+    static byte[] get() {
+        return DICTIONARY;
+    }
+
+    /** @return The Adler-32 checksum of the dictionary, as zlib reports it for a stream that needs the dictionary */
+    static int checksum() {
+        return CHECKSUM;
+    }
+
+    private static byte[] build() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(MAX_SIZE);
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            for (Class<?> type : CLASSES) {
+                out.writeObject(type);
+            }
+        } catch (IOException ex) {
+            LOGGER.error(ex, "Could not build the packet compression dictionary");
+        }
+        byte[] dictionary = bytes.toByteArray();
+        return (dictionary.length > MAX_SIZE)
+              ? Arrays.copyOfRange(dictionary, dictionary.length - MAX_SIZE, dictionary.length)
+              : dictionary;
+    }
+
+    private static int computeChecksum(byte[] dictionary) {
+        Adler32 adler = new Adler32();
+        adler.update(dictionary);
+        return (int) adler.getValue();
+    }
+
+    private PacketDictionary() {
+    }
+}
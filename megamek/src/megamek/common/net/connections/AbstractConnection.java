@@ -43,8 +43,8 @@ import java.net.Socket;
 import java.net.SocketException;
 import java.util.Objects;
 import java.util.Vector;
-import java.util.zip.GZIPInputStream;
 
+import megamek.common.net.compression.PacketCompression;
 import megamek.common.net.events.AbstractConnectionEvent;
 import megamek.common.net.events.ConnectedEvent;
 import megamek.common.net.events.DisconnectedEvent;
@@ -94,8 +94,8 @@ public abstract class AbstractConnection {
     /** Marshaller used to send packets */
     protected PacketMarshaller marshaller;
 
-    /** Indicates the need to compress sent data */
-    private boolean zipData = true;
+    /** The codec used to compress sent data; GZIP until a different one is negotiated */
+    private volatile PacketCompression compression = PacketCompression.GZIP;
 
     /**
      * Creates new client (connection from client to server) connection
@@ -129,18 +129,23 @@ public abstract class AbstractConnection {
     }
 
     /** @return The type of the marshalling used to send packets. */
-    protected int getMarshallingType() {
+    public int getMarshallingType() {
         return marshallingType;
     }
 
     /**
-     * Sets the type of the marshalling used to send packets
+     * Sets the type of the marshalling used to send packets. Any packets still queued are flushed first so that they
+     * go out with the marshalling they were encoded with. Received packets are always decoded according to the
+     * marshalling type given in their header, so the two sides of a connection may switch independently.
      *
      * @param marshallingType new marshalling type
      */
-    protected void setMarshallingType(int marshallingType) {
+    public synchronized void setMarshallingType(int marshallingType) {
         PacketMarshaller pm = marshallerFactory.getMarshaller(marshallingType);
         Objects.requireNonNull(pm);
+        if (marshaller != null) {
+            flush();
+        }
         this.marshallingType = marshallingType;
         marshaller = pm;
     }
@@ -213,7 +218,22 @@ public abstract class AbstractConnection {
 
     /** @return True if this connection compresses the sent data. */
     public boolean isCompressed() {
-        return zipData;
+        return compression != PacketCompression.NONE;
+    }
+
+    /** @return The codec used to compress sent data. Small packets are always sent uncompressed. */
+    public PacketCompression getCompression() {
+        return compression;
+    }
+
+    /**
+     * Sets the codec used to compress sent data. Received packets are always decompressed according to the codec given
+     * in their header, so the two sides of a connection may switch independently.
+     *
+     * @param compression The codec; must be one the other side supports
+     */
+    public void setCompression(PacketCompression compression) {
+        this.compression = Objects.requireNonNull(compression);
     }
 
     /**
@@ -223,24 +243,47 @@ public abstract class AbstractConnection {
      */
     @Deprecated(since = "0.51.0", forRemoval = true)
     public void setCompression(boolean compress) {
-        zipData = compress;
+        setCompression(compress ? PacketCompression.GZIP : PacketCompression.NONE);
     }
 
     /** Adds a packet to the send queue to be sent on a separate thread. */
     public synchronized void send(Packet packet) {
         try {
-            sendQueue.addPacket(new SendPacket(packet, this));
-            // Send right now
-            flush();
+            queue(new SendPacket(packet, this));
         } catch (Exception e) {
             LOGGER.error("Failed to send packet {}", packet, e);
         }
     }
 
+    /**
+     * Adds an already encoded packet to the send queue. The encoded packet may be shared with other connections. It is
+     * only used if it was encoded with this connection's current marshalling type; otherwise the packet is encoded
+     * again.
+     *
+     * @param packet  The packet
+     * @param encoded The packet, encoded with the marshalling type and compression setting of this connection
+     */
+    synchronized void send(Packet packet, SendPacket encoded) {
+        try {
+            queue((encoded.marshallingType() == marshallingType) ? encoded : new SendPacket(packet, this));
+        } catch (Exception e) {
+            LOGGER.error(e, "Failed to send packet {}", packet);
+        }
+    }
+
+    private void queue(SendPacket packet) {
+        if (packet.data() != null) {
+            addBytesSent(packet.data().length);
+        }
+        sendQueue.addPacket(packet);
+        // Send right now
+        flush();
+    }
+
     /** Send the packet now, on a separate thread; This is the blocking call. */
     public void sendNow(SendPacket packet) {
         try {
-            sendNetworkPacket(packet.data(), packet.isCompressed());
+            sendNetworkPacket(packet.data(), packet.compression());
         } catch (Exception ex) {
             LOGGER.error("", ex);
         }
@@ -356,9 +399,7 @@ public abstract class AbstractConnection {
         Objects.requireNonNull(pm);
         byte[] data = np.data();
         bytesReceived += data.length;
-        ByteArrayInputStream bis = new ByteArrayInputStream(data);
-        InputStream in = np.isCompressed() ? new GZIPInputStream(bis) : bis;
-        Packet packet = pm.unmarshall(in);
+        Packet packet = pm.unmarshall(new ByteArrayInputStream(np.compression().decompress(data)));
         if (packet != null) {
             processConnectionEvent(new PacketReceivedEvent(this, packet));
         }
@@ -379,12 +420,12 @@ public abstract class AbstractConnection {
     /**
      * Sends the data. This must not be blocked for too long
      *
-     * @param data   data to send
-     * @param zipped should the data be compressed
+     * @param data        data to send
+     * @param compression the codec the data is compressed with
      *
      * @throws Exception if there's an issue with sending the packet
      */
-    protected abstract void sendNetworkPacket(byte[] data, boolean zipped) throws Exception;
+    protected abstract void sendNetworkPacket(byte[] data, PacketCompression compression) throws Exception;
 
     /**
      * Processes game events occurring on this connection by dispatching them to any registered GameListener objects.
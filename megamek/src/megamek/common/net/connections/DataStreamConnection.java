@@ -42,6 +42,7 @@ import java.io.IOException;
 import java.net.Socket;
 import java.net.SocketException;
 
+import megamek.common.net.compression.PacketCompression;
 import megamek.common.net.enums.PacketReadState;
 import megamek.logging.MMLogger;
 
@@ -78,7 +79,7 @@ public class DataStreamConnection extends AbstractConnection {
     /**
      * store data for packet reception statemachine
      */
-    protected boolean zipped = false;
+    protected PacketCompression compression = PacketCompression.NONE;
     protected int encoding = -1;
     protected int len = 0;
     protected PacketReadState state = PacketReadState.HEADER;
@@ -94,7 +95,7 @@ public class DataStreamConnection extends AbstractConnection {
         synchronized (in) {
             switch (state) {
                 case HEADER:
-                    zipped = in.readBoolean();
+                    compression = PacketCompression.fromId(in.readUnsignedByte());
                     encoding = in.readInt();
                     len = in.readInt();
                     state = PacketReadState.DATA;
@@ -102,7 +103,7 @@ public class DataStreamConnection extends AbstractConnection {
                 case DATA:
                     byte[] data = new byte[len];
                     in.readFully(data);
-                    packet = new NetworkPacket(zipped, encoding, data);
+                    packet = new NetworkPacket(compression, encoding, data);
                     state = PacketReadState.HEADER;
                     return packet;
                 default:
@@ -112,13 +113,13 @@ public class DataStreamConnection extends AbstractConnection {
     }
 
     @Override
-    protected void sendNetworkPacket(byte[] data, boolean isZipped) throws Exception {
+    protected void sendNetworkPacket(byte[] data, PacketCompression compression) throws Exception {
         if (out == null) {
             out = new DataOutputStream(new BufferedOutputStream(getOutputStream(), getSendBufferSize()));
         }
 
         synchronized (out) {
-            out.writeBoolean(isZipped);
+            out.writeByte(compression.getId());
             out.writeInt(marshallingType);
             out.writeInt((data != null) ? data.length : 0);
             out.write(data);
@@ -33,6 +33,8 @@
 
 package megamek.common.net.connections;
 
+import megamek.common.net.compression.PacketCompression;
+
 /** This is an interface for a connection layer data packet. */
 public interface INetworkPacket {
 
@@ -42,6 +44,11 @@ public interface INetworkPacket {
     /** @return The packet data. */
     byte[] data();
 
+    /** @return The codec the data is compressed with. */
+    PacketCompression compression();
+
     /** @return True if the data is compressed. */
-    boolean isCompressed();
+    default boolean isCompressed() {
+        return compression() != PacketCompression.NONE;
+    }
 }
@@ -33,12 +33,14 @@
 
 package megamek.common.net.connections;
 
-record NetworkPacket(boolean isCompressed, int marshallingType, byte[] data) implements INetworkPacket {
+import megamek.common.net.compression.PacketCompression;
+
+record NetworkPacket(PacketCompression compression, int marshallingType, byte[] data) implements INetworkPacket {
 
     /**
      * Creates new packet
      *
-     * @param isCompressed    True when the data is compressed
+     * @param compression     The codec the data is compressed with
      * @param marshallingType The Marshalling type used
      * @param data            The packet data
      */
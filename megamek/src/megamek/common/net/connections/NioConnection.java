@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+import megamek.common.net.compression.PacketCompression;
+import megamek.logging.MMLogger;
+
+/**
+ * Server connection that is driven by the selector of an {@link NioTransport} I/O thread instead of a thread of its
+ * own. It uses the same framing as {@link DataStreamConnection} (compression codec, marshalling type, data length,
+ * data), so clients do not need to know which transport the server uses.
+ * <p>
+ * Received bytes are read into a direct buffer and split into packets by the I/O thread, which then passes them to the
+ * connection listeners through {@link #update()}. Sent packets are queued as buffers and written by the I/O thread
+ * when the socket accepts data. The send queue is bounded: a client that does not read fast enough so that more than
+ * the configured number of bytes pile up is disconnected rather than letting the server run out of memory.
+ */
+public class NioConnection extends AbstractConnection {
+    private static final MMLogger LOGGER = MMLogger.create(NioConnection.class);
+
+    /** Compression codec (1 byte), marshalling type and data length (4 bytes each) */
+    static final int HEADER_LENGTH = 9;
+
+    /** Announced packet lengths above this are treated as a corrupt stream */
+    static final int MAX_PACKET_LENGTH = 256 * 1024 * 1024;
+
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+
+    /** The maximum number of buffers passed to one gathering write */
+    private static final int MAX_WRITE_BUFFERS = 64;
+
+    private final SocketChannel channel;
+    private final NioTransport.IoLoop loop;
+    private final long maxQueuedBytes;
+
+    // Receiving side; only used by the I/O thread
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final ByteBuffer header = ByteBuffer.allocate(HEADER_LENGTH);
+    private final Queue<NetworkPacket> received = new ArrayDeque<>();
+    private ByteBuffer payload;
+    private PacketCompression payloadCompression;
+    private int payloadMarshallingType;
+
+    // Sending side; guarded by outbound
+    private final ArrayDeque<ByteBuffer> outbound = new ArrayDeque<>();
+    private long queuedBytes;
+
+    NioConnection(SocketChannel channel, int id, NioTransport.IoLoop loop, long maxQueuedBytes) {
+        super(channel.socket(), id);
+        this.channel = channel;
+        this.loop = loop;
+        this.maxQueuedBytes = maxQueuedBytes;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    NioTransport.IoLoop getLoop() {
+        return loop;
+    }
+
+    /**
+     * Returns the next packet that was received completely. Called through {@link #update()} by the I/O thread after
+     * {@link #readFromChannel()}; never blocks.
+     */
+    @Override
+    protected INetworkPacket readNetworkPacket() {
+        return received.poll();
+    }
+
+    /**
+     * Reads the available bytes from the channel and splits them into packets. Must only be called by the I/O thread.
+     *
+     * @return False when the peer has closed the connection
+     *
+     * @throws IOException When reading fails or the stream is corrupt
+     */
+    boolean readFromChannel() throws IOException {
+        if (channel.read(readBuffer) < 0) {
+            return false;
+        }
+        readBuffer.flip();
+        while (readBuffer.hasRemaining()) {
+            if (payload == null) {
+                transfer(readBuffer, header);
+                if (header.hasRemaining()) {
+                    break;
+                }
+                header.flip();
+                payloadCompression = PacketCompression.fromId(header.get() & 0xFF);
+                payloadMarshallingType = header.getInt();
+                int length = header.getInt();
+                header.clear();
+                if ((length < 0) || (length > MAX_PACKET_LENGTH)) {
+                    throw new IOException("Invalid packet length " + length + " received on " + this);
+                }
+                payload = ByteBuffer.allocate(length);
+            }
+            transfer(readBuffer, payload);
+            if (!payload.hasRemaining()) {
+                received.add(new NetworkPacket(payloadCompression, payloadMarshallingType, payload.array()));
+                payload = null;
+            }
+        }
+        readBuffer.clear();
+        return true;
+    }
+
+    private static void transfer(ByteBuffer source, ByteBuffer target) {
+        int count = Math.min(source.remaining(), target.remaining());
+        target.put(source.slice(source.position(), count));
+        source.position(source.position() + count);
+    }
+
+    /**
+     * Queues the framed data for the I/O thread. The data array is not copied; it may be shared with other connections
+     * but is never modified.
+     *
+     * @throws IOException When the send queue limit would be exceeded
+     */
+    @Override
+    protected void sendNetworkPacket(byte[] data, PacketCompression compression) throws IOException {
+        int length = (data != null) ? data.length : 0;
+        ByteBuffer frameHeader = ByteBuffer.allocate(HEADER_LENGTH);
+        frameHeader.put((byte) compression.getId()).putInt(marshallingType).putInt(length).flip();
+        synchronized (outbound) {
+            if (queuedBytes + HEADER_LENGTH + length > maxQueuedBytes) {
+                LOGGER.warn("{} has {} unsent bytes; disconnecting the slow client", this, queuedBytes);
+                throw new IOException("Send queue limit exceeded for " + this);
+            }
+            outbound.add(frameHeader);
+            if (length > 0) {
+                outbound.add(ByteBuffer.wrap(data).asReadOnlyBuffer());
+            }
+            queuedBytes += HEADER_LENGTH + length;
+        }
+    }
+
+    /**
+     * Queues the packet for the I/O thread. A client whose send queue limit would be exceeded is disconnected right
+     * away; dropping only this packet and sending the later ones would leave the client out of sync.
+     */
+    @Override
+    protected void processPacket(SendPacket packet) {
+        try {
+            sendNetworkPacket(packet.data(), packet.compression());
+        } catch (IOException ex) {
+            close();
+        }
+    }
+
+    /** Closes the connection and discards the data that has not been written yet. */
+    @Override
+    public void close() {
+        synchronized (outbound) {
+            outbound.clear();
+            queuedBytes = 0;
+        }
+        super.close();
+    }
+
+    /**
+     * Queues all pending packets and asks the I/O thread to write them.
+     */
+    @Override
+    public synchronized void flush() {
+        super.flush();
+        if (hasQueuedBytes()) {
+            loop.requestWrite(this);
+        }
+    }
+
+    /** @return True when there are queued bytes that have not been written to the channel yet */
+    boolean hasQueuedBytes() {
+        synchronized (outbound) {
+            return queuedBytes > 0;
+        }
+    }
+
+    /**
+     * Writes as much of the queued data as the channel accepts without blocking. Must only be called by the I/O
+     * thread.
+     *
+     * @return True when all queued data has been written
+     *
+     * @throws IOException When writing fails
+     */
+    boolean writeToChannel() throws IOException {
+        synchronized (outbound) {
+            while (!outbound.isEmpty()) {
+                ByteBuffer[] buffers = outbound.stream().limit(MAX_WRITE_BUFFERS).toArray(ByteBuffer[]::new);
+                queuedBytes -= channel.write(buffers);
+                while (!outbound.isEmpty() && !outbound.peek().hasRemaining()) {
+                    outbound.poll();
+                }
+                if (buffers[buffers.length - 1].hasRemaining()) {
+                    // The socket's send buffer is full
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NioConnection Id " + getId();
+    }
+}
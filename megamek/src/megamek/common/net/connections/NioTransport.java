@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import java.io.IOException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import megamek.logging.MMLogger;
+
+/**
+ * Selector-based server transport. All connections are multiplexed on a small, fixed number of I/O threads, each
+ * owning a {@link Selector}; new connections are assigned to the threads round-robin. This replaces the thread per
+ * connection of {@link DataStreamConnection}, which does not scale to servers hosting many games.
+ * <p>
+ * Received packets are handed to the connection listeners on the I/O thread, so listeners must not block. Sending
+ * never blocks the caller: packets are queued on the connection (see {@link NioConnection}) and written by the I/O
+ * thread.
+ */
+public class NioTransport {
+    private static final MMLogger LOGGER = MMLogger.create(NioTransport.class);
+
+    /** How long {@link #shutdown()} waits for queued data to be written */
+    private static final long SHUTDOWN_FLUSH_MILLIS = 2000;
+
+    private final IoLoop[] loops;
+    private final long maxQueuedBytes;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    /**
+     * Creates the transport and starts its I/O threads.
+     *
+     * @param threads        The number of I/O threads, 0 or less for a default based on the available processors
+     * @param maxQueuedBytes The maximum number of unsent bytes per connection before the client is disconnected
+     *
+     * @throws IOException When a selector cannot be opened
+     */
+    public NioTransport(int threads, long maxQueuedBytes) throws IOException {
+        if (threads <= 0) {
+            threads = Math.min(4, Runtime.getRuntime().availableProcessors());
+        }
+        this.maxQueuedBytes = maxQueuedBytes;
+        loops = new IoLoop[threads];
+        for (int i = 0; i < threads; i++) {
+            loops[i] = new IoLoop("Server I/O " + (i + 1));
+        }
+        for (IoLoop loop : loops) {
+            loop.thread.start();
+        }
+    }
+
+    /**
+     * Creates a connection for an accepted socket channel. The connection does not receive anything until it is
+     * {@link #register(NioConnection) registered}, so that listeners can be added first.
+     *
+     * @param channel The accepted channel
+     * @param id      The connection ID
+     *
+     * @return The new connection
+     *
+     * @throws IOException When the channel cannot be switched to non-blocking mode
+     */
+    public NioConnection createConnection(SocketChannel channel, int id) throws IOException {
+        channel.configureBlocking(false);
+        IoLoop loop = loops[Math.floorMod(nextLoop.getAndIncrement(), loops.length)];
+        return new NioConnection(channel, id, loop, maxQueuedBytes);
+    }
+
+    /**
+     * Starts receiving and sending on the given connection.
+     *
+     * @param connection A connection created by this transport
+     */
+    public void register(NioConnection connection) {
+        connection.getLoop().register(connection);
+    }
+
+    /**
+     * Stops the I/O threads. Data queued on the connections is written first for a short while; then all connections
+     * are closed.
+     */
+    public void shutdown() {
+        for (IoLoop loop : loops) {
+            loop.running = false;
+            loop.selector.wakeup();
+        }
+        for (IoLoop loop : loops) {
+            try {
+                loop.thread.join(SHUTDOWN_FLUSH_MILLIS * 2);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** An I/O thread with its selector and the connections assigned to it. */
+    static final class IoLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final Queue<NioConnection> newConnections = new ConcurrentLinkedQueue<>();
+        private final Set<NioConnection> writeRequests = ConcurrentHashMap.newKeySet();
+        private volatile boolean running = true;
+
+        IoLoop(String name) throws IOException {
+            selector = Selector.open();
+            thread = new Thread(this, name);
+            thread.setDaemon(true);
+        }
+
+        void register(NioConnection connection) {
+            newConnections.add(connection);
+            selector.wakeup();
+        }
+
+        /** Asks the I/O thread to write the connection's queued data. May be called from any thread. */
+        void requestWrite(NioConnection connection) {
+            if (writeRequests.add(connection)) {
+                selector.wakeup();
+            }
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                } catch (IOException ex) {
+                    LOGGER.error(ex, "{} failed to select", thread.getName());
+                    break;
+                }
+                registerNewConnections();
+                processWriteRequests();
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    processKey(key);
+                }
+            }
+            flushAndClose();
+        }
+
+        private void registerNewConnections() {
+            NioConnection connection;
+            while ((connection = newConnections.poll()) != null) {
+                try {
+                    connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+                    // Data may have been queued before registration
+                    if (connection.hasQueuedBytes()) {
+                        writeRequests.add(connection);
+                    }
+                } catch (IOException ex) {
+                    LOGGER.error(ex, "Failed to register {}", connection);
+                    connection.close();
+                }
+            }
+        }
+
+        private void processWriteRequests() {
+            Iterator<NioConnection> requests = writeRequests.iterator();
+            while (requests.hasNext()) {
+                NioConnection connection = requests.next();
+                requests.remove();
+                SelectionKey key = connection.getChannel().keyFor(selector);
+                if ((key != null) && key.isValid()) {
+                    write(connection, key);
+                }
+            }
+        }
+
+        private void processKey(SelectionKey key) {
+            NioConnection connection = (NioConnection) key.attachment();
+            try {
+                if (key.isReadable()) {
+                    if (!connection.readFromChannel()) {
+                        connection.close();
+                        return;
+                    }
+                    // Passes the received packets to the listeners
+                    connection.update();
+                }
+                if (key.isValid() && key.isWritable()) {
+                    write(connection, key);
+                }
+            } catch (CancelledKeyException ignored) {
+                // The connection was closed while processing it
+            } catch (IOException ex) {
+                LOGGER.error(ex, "{} failed to receive", connection);
+                connection.close();
+            }
+        }
+
+        private void write(NioConnection connection, SelectionKey key) {
+            try {
+                boolean done = connection.writeToChannel();
+                key.interestOps(done ? SelectionKey.OP_READ : (SelectionKey.OP_READ | SelectionKey.OP_WRITE));
+            } catch (CancelledKeyException ignored) {
+                // The connection was closed while writing
+            } catch (IOException ex) {
+                LOGGER.error(ex, "{} failed to send", connection);
+                connection.close();
+            }
+        }
+
+        /** Writes the queued data for a limited time, then closes all connections of this loop and the selector. */
+        private void flushAndClose() {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SHUTDOWN_FLUSH_MILLIS);
+            try {
+                registerNewConnections();
+                processWriteRequests();
+                while (hasUnsentData() && (System.nanoTime() < deadline)) {
+                    selector.select(50);
+                    for (SelectionKey key : selector.selectedKeys()) {
+                        if (key.isValid() && key.isWritable()) {
+                            write((NioConnection) key.attachment(), key);
+                        }
+                    }
+                    selector.selectedKeys().clear();
+                }
+            } catch (IOException | CancelledKeyException ex) {
+                LOGGER.error(ex, "{} failed to send the remaining data", thread.getName());
+            }
+
+            List<NioConnection> connections = new ArrayList<>();
+            for (SelectionKey key : selector.keys()) {
+                connections.add((NioConnection) key.attachment());
+            }
+            connections.forEach(NioConnection::close);
+            try {
+                selector.close();
+            } catch (IOException ex) {
+                LOGGER.error(ex, "{} failed to close its selector", thread.getName());
+            }
+        }
+
+        private boolean hasUnsentData() {
+            for (SelectionKey key : selector.keys()) {
+                if (key.isValid() && ((NioConnection) key.attachment()).hasQueuedBytes()) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+import megamek.common.net.compression.PacketCompression;
+import megamek.common.net.packets.Packet;
+
+/**
+ * Sends the same packet to several connections. Instead of having every connection marshal and compress the packet on
+ * its own, the packet is encoded once per distinct combination of marshalling type and compression setting, and the
+ * resulting immutable {@link SendPacket} is queued on every connection that uses that combination.
+ * <p>
+ * The broadcaster counts the encodings that were saved this way along with their size and (estimated) encoding time;
+ * see {@link #getStatistics()}. This class is thread-safe.
+ */
+public final class PacketBroadcaster {
+
+    /**
+     * Totals of all broadcasts since startup.
+     *
+     * @param broadcasts    The number of packets broadcast
+     * @param encodings     The number of times a broadcast packet was marshalled (and compressed)
+     * @param reusedSends   The number of sends that reused an existing encoding instead of encoding again
+     * @param bytesReused   The total size of the reused encodings, i.e. bytes that did not have to be produced again
+     * @param nanosSaved    The estimated encoding time saved, based on the time taken by the first encoding
+     */
+    public record Statistics(long broadcasts, long encodings, long reusedSends, long bytesReused, long nanosSaved) {
+    }
+
+    private record EncodingKey(int marshallingType, PacketCompression compression) {
+    }
+
+    private record Encoding(SendPacket packet, long nanos) {
+    }
+
+    private static final AtomicLong broadcasts = new AtomicLong();
+    private static final AtomicLong encodings = new AtomicLong();
+    private static final AtomicLong reusedSends = new AtomicLong();
+    private static final AtomicLong bytesReused = new AtomicLong();
+    private static final AtomicLong nanosSaved = new AtomicLong();
+
+    /**
+     * Sends the given packet to all given connections, encoding it only once per marshalling type and compression
+     * setting. Null connections are skipped.
+     *
+     * @param connections The receiving connections
+     * @param packet      The packet to send
+     */
+    public static void send(Iterable<? extends AbstractConnection> connections, Packet packet) {
+        Map<EncodingKey, Encoding> encoded = new HashMap<>(2);
+        for (AbstractConnection connection : connections) {
+            if (connection == null) {
+                continue;
+            }
+            EncodingKey key = new EncodingKey(connection.getMarshallingType(), connection.getCompression());
+            Encoding encoding = encoded.get(key);
+            if (encoding == null) {
+                long start = System.nanoTime();
+                SendPacket sendPacket = new SendPacket(packet, Objects.requireNonNull(connection.marshaller),
+                      key.marshallingType(), key.compression());
+                encoding = new Encoding(sendPacket, System.nanoTime() - start);
+                encoded.put(key, encoding);
+                encodings.incrementAndGet();
+            } else if (encoding.packet().data() != null) {
+                reusedSends.incrementAndGet();
+                bytesReused.addAndGet(encoding.packet().data().length);
+                nanosSaved.addAndGet(encoding.nanos());
+            }
+            connection.send(packet, encoding.packet());
+        }
+        broadcasts.incrementAndGet();
+    }
+
+    /** @return The totals of all broadcasts since startup */
+    public static Statistics getStatistics() {
+        return new Statistics(broadcasts.get(), encodings.get(), reusedSends.get(), bytesReused.get(),
+              nanosSaved.get());
+    }
+
+    private PacketBroadcaster() {
+    }
+}
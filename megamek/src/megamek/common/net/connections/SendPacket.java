@@ -34,45 +34,85 @@
 package megamek.common.net.connections;
 
 import java.io.ByteArrayOutputStream;
-import java.io.OutputStream;
-import java.util.zip.GZIPOutputStream;
+import java.io.IOException;
 
+import megamek.common.net.compression.CompressionPolicy;
+import megamek.common.net.compression.PacketCompression;
 import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshaller;
 import megamek.common.net.packets.Packet;
 import megamek.logging.MMLogger;
 
+/**
+ * A packet as it is queued for sending: the marshalled and possibly compressed bytes together with the marshalling
+ * type and the compression codec they were encoded with. The data is never modified after encoding, so the same
+ * SendPacket may be queued on several connections that use the same marshalling and compression, see
+ * {@link PacketBroadcaster}.
+ */
 public class SendPacket implements INetworkPacket {
     private static final MMLogger logger = MMLogger.create(SendPacket.class);
 
-    private byte[] data;
-    private boolean zipped = false;
+    private final byte[] data;
+    private final PacketCompression compression;
+    private final int marshallingType;
     private final PacketCommand command;
-    private final AbstractConnection connection;
 
     public SendPacket(Packet packet, AbstractConnection connection) {
+        this(packet, connection.marshaller, connection.getMarshallingType(), connection.getCompression());
+    }
+
+    /**
+     * Marshals and, if the packet is worth it (see {@link CompressionPolicy}), compresses the given packet. When
+     * marshalling fails, the error is logged and the data is null.
+     *
+     * @param packet          The packet to encode
+     * @param marshaller      The marshaller to use
+     * @param marshallingType The type of the marshaller
+     * @param compression     The codec to compress with, if the packet is compressed
+     */
+    SendPacket(Packet packet, PacketMarshaller marshaller, int marshallingType, PacketCompression compression) {
         command = packet.command();
-        this.connection = connection;
+        this.marshallingType = marshallingType;
+        byte[] marshalled = marshall(packet, marshaller);
+        if ((marshalled != null) && (compression != PacketCompression.NONE) && (packet.data() != null)
+              && CompressionPolicy.shouldCompress(command, marshalled.length)) {
+            byte[] compressed = compress(marshalled, compression);
+            if (compressed != null) {
+                CompressionPolicy.record(command, marshalled.length, compressed.length);
+            }
+            if ((compressed != null) && (compressed.length < marshalled.length)) {
+                data = compressed;
+                this.compression = compression;
+                return;
+            }
+        }
+        data = marshalled;
+        this.compression = PacketCompression.NONE;
+    }
+
+    private static byte[] marshall(Packet packet, PacketMarshaller marshaller) {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        OutputStream out;
         try {
-            if (connection.isCompressed() && (packet.data() != null)) {
-                out = new GZIPOutputStream(bos);
-                zipped = true;
-            } else {
-                out = bos;
-            }
-            connection.marshaller.marshall(packet, out);
-            out.close();
-            data = bos.toByteArray();
-            connection.addBytesSent(data.length);
+            marshaller.marshall(packet, bos);
+            return bos.toByteArray();
         } catch (Exception ex) {
             logger.error("", ex);
+            return null;
+        }
+    }
+
+    private static byte[] compress(byte[] data, PacketCompression compression) {
+        try {
+            return compression.compress(data);
+        } catch (IOException ex) {
+            logger.error("", ex);
+            return null;
         }
     }
 
     @Override
     public int marshallingType() {
-        return connection.getMarshallingType();
+        return marshallingType;
     }
 
     @Override
@@ -81,8 +121,8 @@ public class SendPacket implements INetworkPacket {
     }
 
     @Override
-    public boolean isCompressed() {
-        return zipped;
+    public PacketCompression compression() {
+        return compression;
     }
 
     public PacketCommand getCommand() {
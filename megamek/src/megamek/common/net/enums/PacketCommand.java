@@ -208,7 +208,16 @@ public enum PacketCommand {
     SYNC_TEMPORARY_ECM_FIELDS,
 
     /** A packet updating hex locations being cleared by saws (for board view rendering). */
-    UPDATE_CUT_HEXES;
+    UPDATE_CUT_HEXES,
+
+    /**
+     * A packet replacing only those entities that changed since the last entity list sent to this Client, along with
+     * the full id list, out-of-game entities, forces and a checksum of the complete list (S -> C).
+     */
+    SENDING_ENTITIES_DELTA,
+
+    /** A Client's request for the complete entity list, e.g. when a delta update failed its checksum (C -> S). */
+    ENTITIES_RESYNC_REQUEST;
     //endregion Enum Declarations
 
     //region Boolean Comparison Methods
@@ -0,0 +1,394 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.board.BoardLocation;
+import megamek.common.board.Coords;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+
+/**
+ * Marshaller that writes the <code>Packet</code> envelope and its common value types (numbers, strings, coords, board
+ * locations and the standard collections of these) as a compact, tagged binary stream. Any value it has no field-level
+ * encoding for is handed to Java native serialization; all such values of one packet share a single object stream so
+ * that references between them (e.g. transported units in an entity list) survive the round trip. Within that stream,
+ * the hexes of boards are written in a compact binary form, see {@link PackedHexes}.
+ * <p>
+ * Entities are not given a field-level encoding: their state is spread over dozens of subclasses, equipment mounts,
+ * crews and option groups, and a hand-written schema would have to follow every field change there. Entity traffic
+ * during play is reduced by the delta entity lists instead.
+ * <p>
+ * Wire layout: format version byte, command ordinal, the native fallback section (length-prefixed, possibly empty) and
+ * finally the tagged packet data which refers to fallback objects by index.
+ */
+class CompactBinaryMarshaller extends PacketMarshaller {
+    /** Bump this whenever the tag layout below changes. */
+    static final int FORMAT_VERSION = 2;
+
+    private static final PacketCommand[] PACKET_COMMANDS = PacketCommand.values();
+    private static final SanityInputFilter SANITY_INPUT_FILTER = new SanityInputFilter();
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_FALSE = 1;
+    private static final byte TAG_TRUE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_STRING = 6;
+    private static final byte TAG_COORDS = 7;
+    private static final byte TAG_BOARD_LOCATION = 8;
+    private static final byte TAG_ARRAY_LIST = 9;
+    private static final byte TAG_VECTOR = 10;
+    private static final byte TAG_HASH_SET = 11;
+    private static final byte TAG_HASH_MAP = 12;
+    private static final byte TAG_INT_ARRAY = 13;
+    private static final byte TAG_PACKET = 14;
+    private static final byte TAG_FALLBACK = 15;
+
+    @Override
+    public void marshall(final Packet packet, final OutputStream stream) throws Exception {
+        List<Object> fallbacks = new ArrayList<>();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        DataOutputStream bodyOut = new DataOutputStream(body);
+        writePacket(packet, bodyOut, fallbacks);
+        bodyOut.flush();
+
+        DataOutputStream out = new DataOutputStream(stream);
+        out.writeByte(FORMAT_VERSION);
+        writeVarInt(out, packet.command().ordinal());
+        if (fallbacks.isEmpty()) {
+            writeVarInt(out, 0);
+        } else {
+            ByteArrayOutputStream fallbackBytes = new ByteArrayOutputStream();
+            ObjectOutputStream objectOut = new HexPackingOutputStream(fallbackBytes);
+            objectOut.writeObject(fallbacks.toArray());
+            objectOut.close();
+            writeVarInt(out, fallbackBytes.size());
+            fallbackBytes.writeTo(out);
+        }
+        body.writeTo(out);
+        out.flush();
+    }
+
+    @Override
+    public Packet unmarshall(final InputStream stream) throws Exception {
+        DataInputStream in = new DataInputStream(stream);
+        int version = in.readUnsignedByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported compact packet format version " + version);
+        }
+        int command = readVarInt(in);
+        if ((command < 0) || (command >= PACKET_COMMANDS.length)) {
+            throw new InvalidPacketCommandReceivedException(command);
+        }
+
+        Object[] fallbacks = new Object[0];
+        int fallbackLength = readVarInt(in);
+        if (fallbackLength > 0) {
+            byte[] fallbackBytes = new byte[fallbackLength];
+            in.readFully(fallbackBytes);
+            try (ObjectInputStream objectIn = new ObjectInputStream(new ByteArrayInputStream(fallbackBytes))) {
+                objectIn.setObjectInputFilter(SANITY_INPUT_FILTER);
+                fallbacks = (Object[]) objectIn.readObject();
+            }
+        }
+        return readPacketData(PACKET_COMMANDS[command], in, fallbacks);
+    }
+
+    /** The native fallback stream; replaces Hex arrays by their packed form. */
+    private static class HexPackingOutputStream extends ObjectOutputStream {
+
+        HexPackingOutputStream(OutputStream out) throws IOException {
+            super(out);
+            enableReplaceObject(true);
+        }
+
+        @Override
+        protected Object replaceObject(Object obj) throws IOException {
+            return (obj instanceof Hex[] hexes) ? PackedHexes.pack(hexes) : obj;
+        }
+    }
+
+    private void writePacket(Packet packet, DataOutputStream out, List<Object> fallbacks) throws IOException {
+        Object[] data = packet.data();
+        if (data == null) {
+            writeVarInt(out, -1);
+            return;
+        }
+        writeVarInt(out, data.length);
+        for (Object value : data) {
+            writeValue(value, out, fallbacks);
+        }
+    }
+
+    private Packet readPacketData(PacketCommand command, DataInputStream in, Object[] fallbacks) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0) {
+            return new Packet(command, (Object[]) null);
+        }
+        Object[] data = new Object[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = readValue(in, fallbacks);
+        }
+        return new Packet(command, data);
+    }
+
+    private void writeValue(Object value, DataOutputStream out, List<Object> fallbacks) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+        } else if (value instanceof Boolean bool) {
+            out.writeByte(bool ? TAG_TRUE : TAG_FALSE);
+        } else if (value instanceof Integer integer) {
+            out.writeByte(TAG_INT);
+            writeVarInt(out, integer);
+        } else if (value instanceof Long longValue) {
+            out.writeByte(TAG_LONG);
+            out.writeLong(longValue);
+        } else if (value instanceof Double doubleValue) {
+            out.writeByte(TAG_DOUBLE);
+            out.writeDouble(doubleValue);
+        } else if (value instanceof String string) {
+            out.writeByte(TAG_STRING);
+            writeString(out, string);
+        } else if (value.getClass() == Coords.class) {
+            out.writeByte(TAG_COORDS);
+            writeCoords(out, (Coords) value);
+        } else if (value instanceof BoardLocation location) {
+            out.writeByte(TAG_BOARD_LOCATION);
+            out.writeBoolean(location.isNoLocation());
+            writeCoords(out, location.coords());
+            writeVarInt(out, location.boardId());
+        } else if (value instanceof int[] ints) {
+            out.writeByte(TAG_INT_ARRAY);
+            writeVarInt(out, ints.length);
+            for (int i : ints) {
+                writeVarInt(out, i);
+            }
+        } else if (value instanceof Packet nested) {
+            out.writeByte(TAG_PACKET);
+            writeVarInt(out, nested.command().ordinal());
+            writePacket(nested, out, fallbacks);
+        } else if (isCompactCollection(value)) {
+            writeCollection((Collection<?>) value, out, fallbacks);
+        } else if ((value.getClass() == HashMap.class) && isCompactContent(((Map<?, ?>) value).keySet())
+              && isCompactContent(((Map<?, ?>) value).values())) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            out.writeByte(TAG_HASH_MAP);
+            writeVarInt(out, map.size());
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                writeValue(entry.getKey(), out, fallbacks);
+                writeValue(entry.getValue(), out, fallbacks);
+            }
+        } else {
+            out.writeByte(TAG_FALLBACK);
+            writeVarInt(out, fallbacks.size());
+            fallbacks.add(value);
+        }
+    }
+
+    private void writeCollection(Collection<?> collection, DataOutputStream out, List<Object> fallbacks)
+          throws IOException {
+        Class<?> type = collection.getClass();
+        if (type == ArrayList.class) {
+            out.writeByte(TAG_ARRAY_LIST);
+        } else if (type == Vector.class) {
+            out.writeByte(TAG_VECTOR);
+        } else {
+            out.writeByte(TAG_HASH_SET);
+        }
+        writeVarInt(out, collection.size());
+        for (Object element : collection) {
+            writeValue(element, out, fallbacks);
+        }
+    }
+
+    private Object readValue(DataInputStream in, Object[] fallbacks) throws IOException {
+        byte tag = in.readByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_INT:
+                return readVarInt(in);
+            case TAG_LONG:
+                return in.readLong();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_STRING:
+                return readString(in);
+            case TAG_COORDS:
+                return readCoords(in);
+            case TAG_BOARD_LOCATION:
+                boolean noLocation = in.readBoolean();
+                Coords coords = readCoords(in);
+                int boardId = readVarInt(in);
+                return noLocation ? BoardLocation.NO_LOCATION : BoardLocation.of(coords, boardId);
+            case TAG_INT_ARRAY:
+                int[] ints = new int[readVarInt(in)];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = readVarInt(in);
+                }
+                return ints;
+            case TAG_PACKET:
+                int command = readVarInt(in);
+                if ((command < 0) || (command >= PACKET_COMMANDS.length)) {
+                    throw new IOException("Invalid nested packet command " + command);
+                }
+                return readPacketData(PACKET_COMMANDS[command], in, fallbacks);
+            case TAG_ARRAY_LIST:
+                return readElements(new ArrayList<>(), in, fallbacks);
+            case TAG_VECTOR:
+                return readElements(new Vector<>(), in, fallbacks);
+            case TAG_HASH_SET:
+                return readElements(new HashSet<>(), in, fallbacks);
+            case TAG_HASH_MAP:
+                int size = readVarInt(in);
+                Map<Object, Object> map = new HashMap<>();
+                for (int i = 0; i < size; i++) {
+                    map.put(readValue(in, fallbacks), readValue(in, fallbacks));
+                }
+                return map;
+            case TAG_FALLBACK:
+                int index = readVarInt(in);
+                if ((index < 0) || (index >= fallbacks.length)) {
+                    throw new IOException("Invalid fallback object index " + index);
+                }
+                return fallbacks[index];
+            default:
+                throw new IOException("Unknown compact packet value tag " + tag);
+        }
+    }
+
+    private Collection<Object> readElements(Collection<Object> target, DataInputStream in, Object[] fallbacks)
+          throws IOException {
+        int size = readVarInt(in);
+        for (int i = 0; i < size; i++) {
+            target.add(readValue(in, fallbacks));
+        }
+        return target;
+    }
+
+    /**
+     * @return True when the value is a plain ArrayList, Vector or HashSet whose elements can all be written without
+     *       native serialization. Collections holding other objects go to the fallback stream as a whole so that the
+     *       shared object stream keeps their internal references intact.
+     */
+    private static boolean isCompactCollection(Object value) {
+        Class<?> type = value.getClass();
+        return ((type == ArrayList.class) || (type == Vector.class) || (type == HashSet.class))
+              && isCompactContent((Collection<?>) value);
+    }
+
+    private static boolean isCompactContent(Collection<?> values) {
+        for (Object value : values) {
+            if (!isCompactScalar(value) && !((value != null) && isCompactCollection(value))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isCompactScalar(Object value) {
+        return (value == null) || (value instanceof Boolean) || (value instanceof Integer) || (value instanceof Long)
+              || (value instanceof Double) || (value instanceof String) || (value.getClass() == Coords.class)
+              || (value instanceof BoardLocation) || (value instanceof int[]);
+    }
+
+    private static void writeCoords(DataOutputStream out, Coords coords) throws IOException {
+        writeVarInt(out, coords.getX());
+        writeVarInt(out, coords.getY());
+    }
+
+    private static Coords readCoords(DataInputStream in) throws IOException {
+        int x = readVarInt(in);
+        int y = readVarInt(in);
+        return new Coords(x, y);
+    }
+
+    private static void writeString(DataOutputStream out, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /** Writes a zig-zag encoded variable length int; small values of either sign take a single byte. */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int zigZag = (value << 1) ^ (value >> 31);
+        while ((zigZag & ~0x7F) != 0) {
+            out.writeByte((zigZag & 0x7F) | 0x80);
+            zigZag >>>= 7;
+        }
+        out.writeByte(zigZag);
+    }
+
+    static int readVarInt(DataInputStream in) throws IOException {
+        int zigZag = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            zigZag |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (zigZag >>> 1) ^ -(zigZag & 1);
+            }
+        }
+        throw new IOException("Malformed variable length int");
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.marshalling;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+
+import megamek.common.Hex;
+
+/**
+ * Stands in for the hexes of a board (or any other Hex array) in the native fallback stream of the
+ * {@link CompactBinaryMarshaller}. The hexes are written with {@link Hex#writeCompact} into a single byte array, which
+ * avoids the per-object overhead of native serialization for the thousands of hex and terrain objects of a board. When
+ * read, it resolves back to the Hex array.
+ * <p>
+ * As every hex is written by value, a hex that is also referenced from outside the array arrives as a separate copy.
+ */
+final class PackedHexes implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final byte[] data;
+
+    private PackedHexes(byte[] data) {
+        this.data = data;
+    }
+
+    static PackedHexes pack(Hex[] hexes) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(hexes.length * 24);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(hexes.length);
+        for (Hex hex : hexes) {
+            out.writeBoolean(hex != null);
+            if (hex != null) {
+                hex.writeCompact(out);
+            }
+        }
+        out.flush();
+        return new PackedHexes(bytes.toByteArray());
+    }
+
+    Hex[] unpack() throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        Hex[] hexes = new Hex[in.readInt()];
+        for (int i = 0; i < hexes.length; i++) {
+            if (in.readBoolean()) {
+                hexes[i] = Hex.readCompact(in);
+            }
+        }
+        return hexes;
+    }
+
+    @Serial
+    private Object readResolve() throws ObjectStreamException {
+        try {
+            return unpack();
+        } catch (IOException ex) {
+            InvalidObjectException invalid = new InvalidObjectException("Corrupt packed hexes");
+            invalid.initCause(ex);
+            throw invalid;
+        }
+    }
+}
@@ -54,6 +54,11 @@ public abstract class PacketMarshaller {
      */
     public static final int NATIVE_SERIALIZATION_MARSHALING = 0;
 
+    /**
+     * Compact tagged binary marshalling with native serialization as fallback for values it doesn't cover
+     */
+    public static final int COMPACT_BINARY_MARSHALING = 1;
+
     /**
      * Marshalls the packet data into the <code>byte[]</code>
      *
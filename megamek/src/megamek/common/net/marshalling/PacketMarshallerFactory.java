@@ -34,11 +34,19 @@
 
 package megamek.common.net.marshalling;
 
+import java.util.Collection;
+import java.util.List;
+
 import megamek.common.annotations.Nullable;
 
 public class PacketMarshallerFactory {
     private static final PacketMarshallerFactory instance = new PacketMarshallerFactory();
     private NativeSerializationMarshaller nativeSerializationMarshaller;
+    private CompactBinaryMarshaller compactBinaryMarshaller;
+
+    /** The marshalling types this build can read and write. */
+    private static final List<Integer> SUPPORTED_MARSHALLING = List.of(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING,
+          PacketMarshaller.COMPACT_BINARY_MARSHALING);
 
     private PacketMarshallerFactory() {
 
@@ -54,7 +62,38 @@ public class PacketMarshallerFactory {
                 nativeSerializationMarshaller = new NativeSerializationMarshaller();
             }
             return nativeSerializationMarshaller;
+        } else if (marshallingType == PacketMarshaller.COMPACT_BINARY_MARSHALING) {
+            if (compactBinaryMarshaller == null) {
+                compactBinaryMarshaller = new CompactBinaryMarshaller();
+            }
+            return compactBinaryMarshaller;
         }
         return null;
     }
+
+    /**
+     * @return The marshalling types supported by this build. Sent by the client during the handshake.
+     */
+    public List<Integer> getSupportedMarshallingTypes() {
+        return SUPPORTED_MARSHALLING;
+    }
+
+    /**
+     * Picks the marshalling type to use for a connection, given the types the other side offered during the handshake.
+     * The compact marshalling is only used when it is preferred and offered; it currently only makes boards smaller,
+     * while entity lists stay the same size as with native serialization. Otherwise, and when nothing is offered (e.g.
+     * an older client), native serialization is used.
+     *
+     * @param offeredTypes  The marshalling types supported by the other side
+     * @param preferCompact True to use the compact marshalling when the other side supports it
+     *
+     * @return The marshalling type to use
+     */
+    public int negotiate(@Nullable Collection<Integer> offeredTypes, boolean preferCompact) {
+        if (preferCompact && (offeredTypes != null)
+              && offeredTypes.contains(PacketMarshaller.COMPACT_BINARY_MARSHALING)) {
+            return PacketMarshaller.COMPACT_BINARY_MARSHALING;
+        }
+        return PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING;
+    }
 }
@@ -42,6 +42,7 @@ import megamek.logging.MMLogger;
 public class SanityInputFilter implements ObjectInputFilter {
     protected static final Pattern[] filterList = new Pattern[] {
           // Arrays of Core Types
+          Pattern.compile("\\[B"),
           Pattern.compile("\\[C"),
           Pattern.compile("\\[I"),
           Pattern.compile("\\[Z"),
@@ -49,6 +49,8 @@ public abstract class BasicGameOptions extends AbstractOptions {
         addOption(base, OptionsConstants.BASE_AUTOSAVE_MSG, true);
         addOption(base, OptionsConstants.BASE_PARANOID_AUTOSAVE, false);
         addOption(base, OptionsConstants.BASE_MAX_NUMBER_ROUND_SAVES, 3);
+        addOption(base, OptionsConstants.BASE_PARALLEL_BLIND_UPDATES, false);
+        addOption(base, OptionsConstants.BASE_BLIND_UPDATE_THREADS, 0);
         addOption(base, OptionsConstants.BASE_EXCLUSIVE_DB_DEPLOYMENT, true);
         addOption(base, OptionsConstants.BASE_BLIND_DROP, false);
         addOption(base, OptionsConstants.BASE_REAL_BLIND_DROP, false);
@@ -292,6 +292,8 @@ public class OptionsConstants {
     public static final String BASE_AUTOSAVE_MSG = "autosave_msg";
     public static final String BASE_PARANOID_AUTOSAVE = "paranoid_autosave";
     public static final String BASE_MAX_NUMBER_ROUND_SAVES = "max_rotating_round_saves";
+    public static final String BASE_PARALLEL_BLIND_UPDATES = "parallel_blind_updates";
+    public static final String BASE_BLIND_UPDATE_THREADS = "blind_update_threads";
     public static final String BASE_EXCLUSIVE_DB_DEPLOYMENT = "exclusive_db_deployment";
     public static final String BASE_BLIND_DROP = "blind_drop";
     public static final String BASE_REAL_BLIND_DROP = "real_blind_drop";
@@ -40,6 +40,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import megamek.client.bot.princess.CardinalEdge;
 import megamek.common.BulldozerMovePath;
@@ -57,10 +58,13 @@ import megamek.common.util.BoardUtilities;
  */
 public class BoardClusterTracker {
 
-    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreas = new HashMap<>();
-    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasWithTerrainReduction = new HashMap<>();
-    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridges = new HashMap<>();
-    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridgesWithTerrainReduction = new HashMap<>();
+    // Concurrent, as the path calculations of several units may update these at once
+    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreas = new ConcurrentHashMap<>();
+    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasWithTerrainReduction =
+          new ConcurrentHashMap<>();
+    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridges = new ConcurrentHashMap<>();
+    private final Map<MovementType, Map<Coords, BoardCluster>> movableAreasBridgesWithTerrainReduction =
+          new ConcurrentHashMap<>();
 
     /**
      * Returns the size of the biggest terrain-reduced or non-terrain-reduced board cluster in which the given
@@ -219,21 +223,11 @@ public class BoardClusterTracker {
     public void updateMovableAreas(Entity entity) {
         MovementType movementType = MovementType.getMovementType(entity);
 
-        if (!movableAreas.containsKey(movementType)) {
-            movableAreas.put(movementType, generateClusters(entity, false, false));
-        }
-
-        if (!movableAreasWithTerrainReduction.containsKey(movementType)) {
-            movableAreasWithTerrainReduction.putIfAbsent(movementType, generateClusters(entity, true, false));
-        }
-
-        if (!movableAreasBridges.containsKey(movementType)) {
-            movableAreasBridges.put(movementType, generateClusters(entity, false, true));
-        }
-
-        if (!movableAreasBridgesWithTerrainReduction.containsKey(movementType)) {
-            movableAreasBridgesWithTerrainReduction.putIfAbsent(movementType, generateClusters(entity, true, true));
-        }
+        movableAreas.computeIfAbsent(movementType, type -> generateClusters(entity, false, false));
+        movableAreasWithTerrainReduction.computeIfAbsent(movementType, type -> generateClusters(entity, true, false));
+        movableAreasBridges.computeIfAbsent(movementType, type -> generateClusters(entity, false, true));
+        movableAreasBridgesWithTerrainReduction.computeIfAbsent(movementType,
+              type -> generateClusters(entity, true, true));
     }
 
     /**
@@ -107,6 +107,13 @@ public class ClientPreferences extends PreferenceStoreProxy {
     public static final String IP_ADDRESSES_IN_CHAT = "IPAddressesInChat";
     public static final String SPRITES_ONLY = "SpritesOnly";
     public static final String ENABLE_EXPERIMENTAL_BOT_FEATURES = "EnableExperimentalBotFeatures";
+    public static final String BOT_PATH_THREADS = "BotPathThreads";
+    public static final String SERVER_NIO_TRANSPORT = "ServerNioTransport";
+    public static final String SERVER_IO_THREADS = "ServerIoThreads";
+    public static final String SERVER_SEND_QUEUE_LIMIT_MB = "ServerSendQueueLimitMB";
+    public static final String SERVER_FAST_COMPRESSION = "ServerFastCompression";
+    public static final String SERVER_COMPACT_MARSHALLING = "ServerCompactMarshalling";
+    public static final String UNIT_LOADER_THREADS = "UnitLoaderThreads";
     public static final String NAG_ASK_FOR_VICTORY_LIST = "AskForVictoryList";
     public static final String SHOW_AUTO_RESOLVE_PANEL = "ShowAutoResolvePanel";
     public static final String FAVORITE_PRINCESS_BEHAVIOR_SETTING = "FavoritePrincessBehaviorSetting";
@@ -156,6 +163,13 @@ public class ClientPreferences extends PreferenceStoreProxy {
         store.setDefault(IP_ADDRESSES_IN_CHAT, false);
         store.setDefault(SPRITES_ONLY, false);
         store.setDefault(ENABLE_EXPERIMENTAL_BOT_FEATURES, false);
+        store.setDefault(BOT_PATH_THREADS, 1);
+        store.setDefault(SERVER_NIO_TRANSPORT, false);
+        store.setDefault(SERVER_IO_THREADS, 0);
+        store.setDefault(SERVER_SEND_QUEUE_LIMIT_MB, 64);
+        store.setDefault(SERVER_FAST_COMPRESSION, false);
+        store.setDefault(SERVER_COMPACT_MARSHALLING, false);
+        store.setDefault(UNIT_LOADER_THREADS, 1);
         store.setDefault(USER_DIR, "");
         store.setDefault(MML_PATH, "");
         store.setDefault(NAG_ASK_FOR_VICTORY_LIST, true);
@@ -434,6 +448,90 @@ public class ClientPreferences extends PreferenceStoreProxy {
         return store.getBoolean(ENABLE_EXPERIMENTAL_BOT_FEATURES);
     }
 
+    /**
+     * @return The number of threads a bot uses to calculate the possible paths of several units at once; 1 calculates
+     *       them one after the other, 0 or less means one per available processor
+     */
+    public int getBotPathThreads() {
+        return store.getInt(BOT_PATH_THREADS);
+    }
+
+    public void setBotPathThreads(int threads) {
+        store.setValue(BOT_PATH_THREADS, threads);
+    }
+
+    /**
+     * @return True when a server should multiplex its client connections on a few selector threads instead of using a
+     *       thread per connection
+     */
+    public boolean getServerNioTransport() {
+        return store.getBoolean(SERVER_NIO_TRANSPORT);
+    }
+
+    public void setServerNioTransport(boolean value) {
+        store.setValue(SERVER_NIO_TRANSPORT, value);
+    }
+
+    /**
+     * @return The number of I/O threads of the selector-based server transport; 0 or less for a default based on the
+     *       available processors
+     */
+    public int getServerIoThreads() {
+        return store.getInt(SERVER_IO_THREADS);
+    }
+
+    public void setServerIoThreads(int threads) {
+        store.setValue(SERVER_IO_THREADS, threads);
+    }
+
+    /**
+     * @return The number of megabytes that may be waiting to be sent to a client of the selector-based server
+     *       transport before that client is disconnected
+     */
+    public int getServerSendQueueLimitMB() {
+        return store.getInt(SERVER_SEND_QUEUE_LIMIT_MB);
+    }
+
+    public void setServerSendQueueLimitMB(int megabytes) {
+        store.setValue(SERVER_SEND_QUEUE_LIMIT_MB, megabytes);
+    }
+
+    /**
+     * @return True when a server should compress packets with the fast dictionary codec for clients that support it,
+     *       trading somewhat larger entity lists for a third of the CPU time of GZIP; meant for local networks
+     */
+    public boolean getServerFastCompression() {
+        return store.getBoolean(SERVER_FAST_COMPRESSION);
+    }
+
+    public void setServerFastCompression(boolean value) {
+        store.setValue(SERVER_FAST_COMPRESSION, value);
+    }
+
+    /**
+     * @return True when a server should send packets with the compact marshalling to clients that support it; this
+     *       makes boards smaller, while entity lists still use native serialization inside the compact format
+     */
+    public boolean getServerCompactMarshalling() {
+        return store.getBoolean(SERVER_COMPACT_MARSHALLING);
+    }
+
+    public void setServerCompactMarshalling(boolean value) {
+        store.setValue(SERVER_COMPACT_MARSHALLING, value);
+    }
+
+    /**
+     * @return The number of threads that parse changed unit files when the unit cache is updated; 1 (the default)
+     *       parses them one after the other, 0 or less means one per available processor
+     */
+    public int getUnitLoaderThreads() {
+        return store.getInt(UNIT_LOADER_THREADS);
+    }
+
+    public void setUnitLoaderThreads(int threads) {
+        store.setValue(UNIT_LOADER_THREADS, threads);
+    }
+
     public void setStrategicViewTheme(String theme) {
         store.setValue(STRATEGIC_VIEW_THEME, theme);
     }
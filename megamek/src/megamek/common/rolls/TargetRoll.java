@@ -37,7 +37,6 @@ package megamek.common.rolls;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.IntStream;
 
@@ -63,13 +62,10 @@ public class TargetRoll implements Serializable {
      */
     public static final int CHECK_FALSE = Integer.MIN_VALUE + 1;
 
-    private static final Set<Integer> FINALIZERS = Set.of(IMPOSSIBLE, AUTOMATIC_FAIL, AUTOMATIC_SUCCESS, CHECK_FALSE);
-    private static final Set<Integer> AUTOS = Set.of(AUTOMATIC_FAIL, AUTOMATIC_SUCCESS);
-    private static final Set<Integer> AUTOS_AND_IMPOSSIBLE = Set.of(IMPOSSIBLE, AUTOMATIC_FAIL, AUTOMATIC_SUCCESS);
-
     /**
-     * This list of roll modifiers. Always call recalculate() after modifying it. This is clearly an unsafe way to
-     * implement it. It *may be* done like that for performance reasons for Princess.
+     * This list of roll modifiers. Always call recalculate() after removing from it; adding a modifier updates the
+     * total directly (see addModifierImpl()). This is clearly an unsafe way to implement it. It *may be* done like that
+     * for performance reasons for Princess.
      */
     private final List<TargetRollModifier> modifiers = new ArrayList<>();
     private int total;
@@ -315,11 +311,11 @@ public class TargetRoll implements Serializable {
     }
 
     private boolean isAutomaticOrImpossible(TargetRollModifier modifier) {
-        return AUTOS_AND_IMPOSSIBLE.contains(modifier.value());
+        return (modifier.value() == IMPOSSIBLE) || isAutomatic(modifier);
     }
 
     private boolean isAutomatic(TargetRollModifier modifier) {
-        return AUTOS.contains(modifier.value());
+        return (modifier.value() == AUTOMATIC_FAIL) || (modifier.value() == AUTOMATIC_SUCCESS);
     }
 
     /**
@@ -337,8 +333,9 @@ public class TargetRoll implements Serializable {
         }
     }
 
-    private boolean isFinalizer(int value) {
-        return FINALIZERS.contains(value);
+    private static boolean isFinalizer(int value) {
+        return (value == IMPOSSIBLE) || (value == AUTOMATIC_FAIL) || (value == AUTOMATIC_SUCCESS)
+              || (value == CHECK_FALSE);
     }
 
     private void addModifierImpl(TargetRollModifier modifier) {
@@ -347,7 +344,11 @@ public class TargetRoll implements Serializable {
             removeAutos(true);
         }
         modifiers.add(modifier);
-        recalculate();
+        // The new modifier is last, so this gives the same total as recalculate() without going through all modifiers
+        // again; to-hit calculations add dozens of modifiers one by one
+        if (!isFinalizer(total)) {
+            total = isFinalizer(modifier.value()) ? modifier.value() : total + modifier.value();
+        }
     }
 
     /**
@@ -35,7 +35,6 @@ package megamek.common.units;
 
 import java.io.Serial;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Vector;
 
@@ -550,14 +549,8 @@ public class Dropship extends SmallCraft {
     @Override
 
     public void setPosition(Coords position) {
-        // When a Dropship changes from being 1 hex to 7 getOccupiedCoords will return
-        // its changed secondary hexes. Instead, let's grab the cached ones for this to
-        // make sure we properly set out new positions.
-        HashSet<Coords> oldPositions = getOccupiedCoords();
-        if (game != null) {
-            oldPositions = game.getEntityPositions(this);
-        }
-
+        // The game's position lookup remembers the hexes this Dropship occupied before, so it
+        // is only updated after the secondary positions have been set
         super.setPosition(position, false);
         if ((getAltitude() == 0) && (null != game) && !isSpaceborne() && (position != null)) {
             secondaryPositions.put(0, position);
@@ -569,7 +562,7 @@ public class Dropship extends SmallCraft {
             secondaryPositions.put(6, position.translated((getFacing() + 5) % 6));
         }
         if (game != null) {
-            game.updateEntityPositionLookup(this, oldPositions);
+            game.updateEntityPositionLookup(this);
         }
     }
 
@@ -2306,13 +2306,9 @@ public abstract class Entity extends TurnOrdered
      * @param position the new position.
      */
     public void setPosition(Coords position, boolean gameUpdate) {
-        HashSet<Coords> oldPositions = null;
-        if ((game != null) && gameUpdate) {
-            oldPositions = getOccupiedCoords();
-        }
         this.position = position;
         if ((game != null) && gameUpdate) {
-            game.updateEntityPositionLookup(this, oldPositions);
+            game.updateEntityPositionLookup(this);
         }
     }
 
@@ -17517,7 +17513,11 @@ public abstract class Entity extends TurnOrdered
     }
 
     public void setBoardId(int boardId) {
+        boolean changed = this.boardId != boardId;
         this.boardId = boardId;
+        if (changed && (game != null)) {
+            game.updateEntityPositionLookup(this);
+        }
     }
 
     /**
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.units;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+import megamek.common.CriticalSlot;
+import megamek.common.equipment.Mounted;
+import megamek.logging.MMLogger;
+
+/**
+ * Computes a checksum over the parts of an entity's state that change during play: position, facing, elevation,
+ * armor, internal structure, critical slots, equipment and ammo state, heat, crew damage, transport and turn status.
+ * The client uses {@link #of(Collection)} to verify that it holds the same unit list as the server after applying a
+ * delta update.
+ * <p>
+ * This checksum does not cover the complete state of an entity. To decide which entities have changed since they were
+ * last sent, the server uses {@link #stateFingerprint(Entity)}, which covers every serialized field.
+ */
+public final class EntityStateChecksum {
+    private static final MMLogger LOGGER = MMLogger.create(EntityStateChecksum.class);
+
+    /** The fingerprint of an entity whose state could not be determined; it never counts as unchanged */
+    public static final long UNKNOWN_STATE = Long.MIN_VALUE;
+
+    /**
+     * @param entity The entity
+     *
+     * @return A checksum over the in-play state of the given entity
+     */
+    public static int of(Entity entity) {
+        int hash = entity.getId();
+        hash = mix(hash, entity.getOwnerId());
+        hash = mix(hash, Objects.hashCode(entity.getPosition()));
+        hash = mix(hash, entity.getBoardId());
+        hash = mix(hash, entity.getFacing());
+        hash = mix(hash, entity.getSecondaryFacing());
+        hash = mix(hash, entity.getElevation());
+        hash = mix(hash, entity.getAltitude());
+        hash = mix(hash, entity.heat);
+        hash = mix(hash, entity.heatBuildup);
+        hash = mix(hash, entity.mpUsed);
+        hash = mix(hash, entity.delta_distance);
+        hash = mix(hash, entity.moved.ordinal());
+        hash = mix(hash, flags(entity.isDone(), entity.isDeployed(), entity.isDestroyed(), entity.isDoomed(),
+              entity.isProne(), entity.isHullDown(), entity.isShutDown(), entity.isStuck(), entity.isEvading(),
+              entity.isCarcass(), entity.isSpotting()));
+        hash = mix(hash, entity.getTransportId());
+        hash = mix(hash, entity.getSwarmTargetId());
+        hash = mix(hash, entity.getSwarmAttackerId());
+        hash = mix(hash, entity.getTowing());
+        hash = mix(hash, entity.getTowedBy());
+
+        for (int location = 0; location < entity.locations(); location++) {
+            hash = mix(hash, entity.getArmor(location, false));
+            if (entity.hasRearArmor(location)) {
+                hash = mix(hash, entity.getArmor(location, true));
+            }
+            hash = mix(hash, entity.getInternal(location));
+            for (int slot = 0; slot < entity.getNumberOfCriticalSlots(location); slot++) {
+                CriticalSlot criticalSlot = entity.getCritical(location, slot);
+                if (criticalSlot != null) {
+                    hash = mix(hash, flags(criticalSlot.isHit(), criticalSlot.isDestroyed(),
+                          criticalSlot.isMissing()));
+                }
+            }
+        }
+
+        for (Mounted<?> mounted : entity.getEquipment()) {
+            hash = mix(hash, flags(mounted.isHit(), mounted.isDestroyed(), mounted.isMissing(), mounted.isJammed(),
+                  mounted.isBreached(), mounted.isUsedThisRound()));
+            hash = mix(hash, mounted.curMode().getName().hashCode());
+            hash = mix(hash, mounted.getBaseShotsLeft());
+        }
+
+        Crew crew = entity.getCrew();
+        if (crew != null) {
+            hash = mix(hash, crew.getCurrentSize());
+            for (int position = 0; position < crew.getSlotCount(); position++) {
+                hash = mix(hash, crew.getHits(position));
+                hash = mix(hash, flags(crew.isUnconscious(position), crew.isDead(position)));
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns a fingerprint of the complete serialized state of the given entity, i.e. of everything that is sent to
+     * a client when the entity is sent. Any change to a serialized field, including those not covered by
+     * {@link #of(Entity)}, changes the fingerprint (up to the unavoidable chance of a hash collision).
+     *
+     * @param entity The entity
+     *
+     * @return The fingerprint, or {@link #UNKNOWN_STATE} when the entity cannot be serialized
+     */
+    public static long stateFingerprint(Entity entity) {
+        FingerprintStream fingerprint = new FingerprintStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(fingerprint)) {
+            out.writeObject(entity);
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to serialize entity {} for its state fingerprint: {}", entity.getId(),
+                  ex.getMessage());
+            return UNKNOWN_STATE;
+        }
+        return fingerprint.value();
+    }
+
+    /**
+     * @param entities The entities, in any order
+     *
+     * @return A checksum over the in-play state of all given entities, independent of their order
+     */
+    public static int of(Collection<Entity> entities) {
+        int checksum = 0;
+        for (Entity entity : entities) {
+            checksum += combine(entity.getId(), of(entity));
+        }
+        return checksum;
+    }
+
+    /**
+     * @return The contribution of one entity to the list checksum of {@link #of(Collection)}
+     */
+    public static int combine(int entityId, int entityChecksum) {
+        return mix(entityId, entityChecksum);
+    }
+
+    private static int mix(int hash, int value) {
+        return 31 * hash + value;
+    }
+
+    private static int flags(boolean... values) {
+        int result = 0;
+        for (boolean value : values) {
+            result = (result << 1) | (value ? 1 : 0);
+        }
+        return result;
+    }
+
+    /** Discards the serialized bytes, keeping only their CRC-32 and count. */
+    private static final class FingerprintStream extends OutputStream {
+        private final CRC32 crc = new CRC32();
+        private long count;
+
+        @Override
+        public void write(int b) {
+            crc.update(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            crc.update(bytes, offset, length);
+            count += length;
+        }
+
+        long value() {
+            return (crc.getValue() << 32) | (count & 0xFFFFFFFFL);
+        }
+    }
+
+    private EntityStateChecksum() {
+    }
+}
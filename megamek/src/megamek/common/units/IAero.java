@@ -903,10 +903,9 @@ public interface IAero {
         aero.setMovementMode(isSpheroid() ? EntityMovementMode.SPHEROID : EntityMovementMode.AERODYNE);
         aero.setAltitude(altitude);
 
-        HashSet<Coords> positions = aero.getOccupiedCoords();
         aero.getSecondaryPositions().clear();
         if (aero.getGame() != null) {
-            aero.getGame().updateEntityPositionLookup(aero, positions);
+            aero.getGame().updateEntityPositionLookup(aero);
         }
     }
 
@@ -34,17 +34,19 @@
 
 package megamek.common.util;
 
-import java.io.BufferedReader;
 import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Vector;
 
 import megamek.SuiteConstants;
@@ -61,9 +63,21 @@ import megamek.logging.MMLogger;
 public class BuildingBlock {
     private static final MMLogger logger = MMLogger.create(BuildingBlock.class);
 
-    private Vector<String> rawData;
+    /**
+     * The lines of the block. This is a Vector when given by or handed out to the caller, who may change it; lines read
+     * from a file are kept in a plain list until {@link #getVector()} is called.
+     */
+    private List<String> rawData;
     private static final char comment = '#';
 
+    /**
+     * The line index of the first occurrence of each tag line, keyed by the lower case text between the angle brackets
+     * (so "/name" for the closing tags). Built on the first lookup and dropped whenever this block writes to
+     * rawData; the size check catches lines added to the Vector from outside.
+     */
+    private Map<String, Integer> tagIndex;
+    private int indexedSize;
+
     /**
      * Creates new empty buildingBlock
      */
@@ -97,31 +111,64 @@ public class BuildingBlock {
         readInputStream(is);
     }
 
+    /**
+     * Creates a new buildingBlock from the UTF-8 encoded contents of a block file, such as a BLK unit file.
+     *
+     * @param data The file contents
+     */
+    public BuildingBlock(byte[] data) {
+        readData(data);
+    }
+
     public void readInputStream(InputStream is) {
-        String data;
-        // empty the rawData holder...
-        rawData.clear();
+        try (is) {
+            readData(is.readAllBytes());
+        } catch (Exception ignored) {
+            rawData = new Vector<>();
+            tagIndex = null;
+            logger.error("An Exception occurred while attempting to read a BuildingBlock stream.");
+        }
+    }
 
-        try (InputStreamReader isr = new InputStreamReader(is, StandardCharsets.UTF_8);
-              BufferedReader br = new BufferedReader(isr)) {
-            // read the file till can't read anymore...
-            while (br.ready()) {
-                data = br.readLine();
-                if (data == null) {
-                    continue;
-                }
-                data = data.trim();
+    /**
+     * Replaces the rawData by the lines of the given UTF-8 encoded block file, leaving out blank lines and comments.
+     * Lines end at a line feed, a carriage return or both, like {@link java.io.BufferedReader#readLine()}. The lines
+     * are found in the bytes, so only the lines that are kept are decoded; this works as the bytes of line breaks,
+     * spaces and '#' never occur inside a multibyte UTF-8 character.
+     */
+    private void readData(byte[] data) {
+        List<String> lines = new ArrayList<>();
+        int lineStart = 0;
+        while (lineStart < data.length) {
+            int lineEnd = lineStart;
+            while ((lineEnd < data.length) && (data[lineEnd] != '\n') && (data[lineEnd] != '\r')) {
+                lineEnd++;
+            }
+            // trim like String.trim(), which removes the characters up to and including the space
+            int first = lineStart;
+            while ((first < lineEnd) && ((data[first] & 0xFF) <= ' ')) {
+                first++;
+            }
+            int last = lineEnd;
+            while ((last > first) && ((data[last - 1] & 0xFF) <= ' ')) {
+                last--;
+            }
 
-                // check for blank lines & comment lines... and don't add them to the rawData if
-                // they are
-                if (!data.isBlank() && !data.startsWith("" + BuildingBlock.comment)) {
-                    rawData.add(data);
+            // check for blank lines & comment lines... and don't add them to the rawData if they are
+            if ((first < last) && (data[first] != BuildingBlock.comment)) {
+                String line = new String(data, first, last - first, StandardCharsets.UTF_8);
+                if (!line.isBlank()) {
+                    lines.add(line);
                 }
             }
-        } catch (Exception ignored) {
-            logger.error("An Exception occurred while attempting to read a BuildingBlock stream.");
-        }
 
+            lineStart = lineEnd + 1;
+            if ((lineEnd + 1 < data.length) && (data[lineEnd] == '\r') && (data[lineEnd + 1] == '\n')) {
+                lineStart++;
+            }
+        }
+        rawData = lines;
+        tagIndex = null;
     }
 
     /**
@@ -133,31 +180,8 @@ public class BuildingBlock {
      * @return Returns the start index of the block data. Or -1 if not found.
      */
     public int findStartIndex(String blockName) {
-        String line;
-        int startIndex = -1;
-
-        // Translate the block name to a key.
-        String key = '<' + blockName + '>';
-
-        // look for the block...
-        for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
-            line = rawData.get(lineNum);
-
-            // look for "<blockName>"
-            try {
-                if ((line.length() >= 3) && line.equalsIgnoreCase(key)) {
-                    startIndex = ++lineNum;
-                    break;
-                }
-            } catch (Exception ex) {
-                logger.error(ex,
-                      "Was looking for {} and caught an Exception parsing line \n\"{}\" \nat rawData index number {}",
-                      key,
-                      line,
-                      lineNum);
-            }
-        }
-        return startIndex;
+        Integer tagLine = getTagIndex().get(blockName.toLowerCase(Locale.ROOT));
+        return (tagLine == null) ? -1 : tagLine + 1;
     }
 
     /**
@@ -169,31 +193,27 @@ public class BuildingBlock {
      * @return Returns the end index of the block data. Or -1 if not found.
      */
     public int findEndIndex(String blockName) {
-        String line;
-        int endIndex = -1;
-
-        // Translate the block name to a key.
-        String key = "<" + '/' + blockName + '>';
-
-        // look for the block...
-        for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
-            line = rawData.get(lineNum);
+        Integer tagLine = getTagIndex().get('/' + blockName.toLowerCase(Locale.ROOT));
+        return (tagLine == null) ? -1 : tagLine;
+    }
 
-            // look for "</blockName>"
-            try {
-                if ((line.length() >= 3) && line.equalsIgnoreCase(key)) {
-                    endIndex = lineNum;
-                    break;
+    /**
+     * @return The index of all tag lines, built anew if rawData has changed since the last lookup
+     */
+    private Map<String, Integer> getTagIndex() {
+        if ((tagIndex == null) || (indexedSize != rawData.size())) {
+            Map<String, Integer> index = new HashMap<>();
+            for (int lineNum = 0; lineNum < rawData.size(); lineNum++) {
+                String line = rawData.get(lineNum);
+                if ((line != null) && (line.length() >= 3) && (line.charAt(0) == '<')
+                      && (line.charAt(line.length() - 1) == '>')) {
+                    index.putIfAbsent(line.substring(1, line.length() - 1).toLowerCase(Locale.ROOT), lineNum);
                 }
-            } catch (Exception ex) {
-                logger.error(ex,
-                      "Was looking for {} and caught an Exception parsing line \n\"{}\" \nwith rawData index number {}",
-                      key,
-                      line,
-                      lineNum);
             }
+            tagIndex = index;
+            indexedSize = rawData.size();
         }
-        return endIndex;
+        return tagIndex;
     }
 
     /**
@@ -446,6 +466,7 @@ public class BuildingBlock {
      */
     public void createNewBlock() {
         rawData.clear();
+        tagIndex = null;
         writeBlockComment("Saved from version " + SuiteConstants.VERSION + " on " + LocalDate.now());
     }
 
@@ -595,6 +616,7 @@ public class BuildingBlock {
     public void clearData() {
 
         rawData.clear();
+        tagIndex = null;
 
     }
 
@@ -650,9 +672,11 @@ public class BuildingBlock {
      * @return Returns the <CODE>rawData</CODE> Vector.
      */
     public Vector<String> getVector() {
-
-        return rawData;
-
+        // Hand out the lines themselves, so that changes to the Vector are seen by this block
+        if (!(rawData instanceof Vector<String>)) {
+            rawData = new Vector<>(rawData);
+        }
+        return (Vector<String>) rawData;
     }
 
     /**
@@ -683,8 +707,7 @@ public class BuildingBlock {
      */
     @Deprecated(since = "0.51.0", forRemoval = true)
     public Vector<String> getAllDataAsVector() {
-        return rawData;
-
+        return getVector();
     }
 
     /**
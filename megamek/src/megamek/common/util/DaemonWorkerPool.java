@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A fixed-size pool of daemon worker threads that is created when it is first used. Idle threads end after a minute,
+ * so that a pool that is used only now and then (e.g. once per turn) does not keep threads around. The number of
+ * threads may be changed on every use, as it usually comes from an option or preference.
+ */
+public class DaemonWorkerPool {
+
+    static final long IDLE_THREAD_TIMEOUT_SECONDS = 60;
+
+    private final String threadName;
+    private ThreadPoolExecutor executor;
+
+    /**
+     * @param threadName The name of the worker threads; they are numbered by appending " 1", " 2" etc.
+     */
+    public DaemonWorkerPool(String threadName) {
+        this.threadName = threadName;
+    }
+
+    /**
+     * Returns the pool, creating it when it does not exist (or was shut down) and setting its size to the given
+     * number of threads.
+     *
+     * @param threads The number of worker threads; 0 or less means one per available processor
+     *
+     * @return The executor of this pool
+     */
+    public synchronized ExecutorService get(int threads) {
+        if (threads <= 0) {
+            threads = Runtime.getRuntime().availableProcessors();
+        }
+        if (executor == null) {
+            AtomicInteger threadNumber = new AtomicInteger();
+            executor = new ThreadPoolExecutor(threads, threads, IDLE_THREAD_TIMEOUT_SECONDS, TimeUnit.SECONDS,
+                  new LinkedBlockingQueue<>(), runnable -> {
+                Thread thread = new Thread(runnable, threadName + " " + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.allowCoreThreadTimeOut(true);
+        } else if (threads > executor.getMaximumPoolSize()) {
+            // The core size may not exceed the maximum size, so the order of these depends on the direction
+            executor.setMaximumPoolSize(threads);
+            executor.setCorePoolSize(threads);
+        } else if (threads < executor.getMaximumPoolSize()) {
+            executor.setCorePoolSize(threads);
+            executor.setMaximumPoolSize(threads);
+        }
+        return executor;
+    }
+
+    /**
+     * @return The number of worker threads of the pool; 0 when the pool has not been created or was shut down
+     */
+    public synchronized int size() {
+        return (executor == null) ? 0 : executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Stops the worker threads, interrupting running tasks. Submitted tasks that have not started are cancelled so
+     * that nobody waits for them forever. The next call to {@link #get(int)} creates a new pool.
+     */
+    public synchronized void shutdown() {
+        if (executor != null) {
+            for (Runnable notStarted : executor.shutdownNow()) {
+                if (notStarted instanceof Future<?> future) {
+                    future.cancel(false);
+                }
+            }
+            executor = null;
+        }
+    }
+}
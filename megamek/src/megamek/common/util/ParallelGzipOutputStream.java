@@ -0,0 +1,185 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * An output stream that gzip-compresses the data written to it using several threads. The data is cut into blocks
+ * which are compressed independently by the given executor and written as consecutive gzip members. Such a
+ * multi-member file is a valid gzip file; {@link java.util.zip.GZIPInputStream} and other gzip readers decompress it
+ * to the original data, so files written this way can be read like any other .gz file. The compression ratio is very
+ * slightly worse than that of a single gzip stream.
+ * <p>
+ * Only a limited number of blocks are compressed at the same time so that memory use stays bounded when the data is
+ * written faster than it can be compressed. The compressed blocks are written to the underlying stream in order. This
+ * class is not thread-safe; it is meant to be written to by a single thread.
+ */
+public class ParallelGzipOutputStream extends OutputStream {
+
+    /** The size of the uncompressed blocks; large enough that the compression ratio barely suffers */
+    static final int DEFAULT_BLOCK_SIZE = 1 << 20;
+
+    private final OutputStream out;
+    private final ExecutorService executor;
+    private final int blockSize;
+    private final int maxPendingBlocks;
+    private final Deque<Future<byte[]>> pendingBlocks = new ArrayDeque<>();
+    private byte[] buffer;
+    private int count;
+    private boolean anyBlockWritten;
+    private boolean closed;
+
+    /**
+     * Creates a stream that compresses blocks of {@link #DEFAULT_BLOCK_SIZE} bytes with the given executor.
+     *
+     * @param out      The stream to write the compressed data to; it is closed when this stream is closed
+     * @param executor The executor that compresses the blocks
+     */
+    public ParallelGzipOutputStream(OutputStream out, ExecutorService executor) {
+        this(out, executor, DEFAULT_BLOCK_SIZE, 2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    ParallelGzipOutputStream(OutputStream out, ExecutorService executor, int blockSize, int maxPendingBlocks) {
+        this.out = out;
+        this.executor = executor;
+        this.blockSize = blockSize;
+        this.maxPendingBlocks = Math.max(1, maxPendingBlocks);
+        buffer = new byte[blockSize];
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        buffer[count++] = (byte) b;
+        if (count == blockSize) {
+            submitBlock();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        ensureOpen();
+        while (length > 0) {
+            int copied = Math.min(length, blockSize - count);
+            System.arraycopy(bytes, offset, buffer, count, copied);
+            count += copied;
+            offset += copied;
+            length -= copied;
+            if (count == blockSize) {
+                submitBlock();
+            }
+        }
+    }
+
+    /**
+     * Writes the blocks that have been compressed so far and flushes the underlying stream. Data that does not yet
+     * fill a block is kept, as compressing small blocks would hurt the compression ratio.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        while (!pendingBlocks.isEmpty() && pendingBlocks.peekFirst().isDone()) {
+            writeNextBlock();
+        }
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        try {
+            if ((count > 0) || !anyBlockWritten) {
+                submitBlock();
+            }
+            while (!pendingBlocks.isEmpty()) {
+                writeNextBlock();
+            }
+        } finally {
+            closed = true;
+            for (Future<byte[]> pendingBlock : pendingBlocks) {
+                pendingBlock.cancel(true);
+            }
+            out.close();
+        }
+    }
+
+    private void submitBlock() throws IOException {
+        final byte[] block = buffer;
+        final int length = count;
+        buffer = new byte[blockSize];
+        count = 0;
+        anyBlockWritten = true;
+        pendingBlocks.addLast(executor.submit(() -> compress(block, length)));
+        while (pendingBlocks.size() >= maxPendingBlocks) {
+            writeNextBlock();
+        }
+    }
+
+    private void writeNextBlock() throws IOException {
+        try {
+            out.write(pendingBlocks.removeFirst().get());
+        } catch (ExecutionException ex) {
+            throw new IOException("Failed to compress a block", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while compressing");
+        }
+    }
+
+    private static byte[] compress(byte[] block, int length) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(block, 0, length);
+        }
+        return compressed.toByteArray();
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
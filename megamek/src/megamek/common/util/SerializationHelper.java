@@ -48,6 +48,7 @@ import megamek.common.equipment.Mounted;
 import megamek.common.equipment.NarcPod;
 import megamek.common.equipment.Sensor;
 import megamek.common.equipment.Transporter;
+import megamek.common.game.Game;
 import megamek.common.game.GameTurn;
 import megamek.common.game.InitiativeBonusBreakdown;
 import megamek.common.interfaces.ITechnology;
@@ -108,6 +109,9 @@ public class SerializationHelper {
     public static XStream getLoadSaveGameXStream() {
         XStream xStream = getSaveGameXStream();
 
+        // Older save games contain the entity position lookup, which is now rebuilt after loading
+        xStream.omitField(Game.class, "entityPosLookup");
+
         xStream.registerConverter(new Converter() {
             @Override
             public boolean canConvert(Class cls) {
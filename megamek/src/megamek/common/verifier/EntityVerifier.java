@@ -105,30 +105,31 @@ public class EntityVerifier implements MekSummaryCache.Listener {
     }
 
     /**
-     * Creates and return a new instance of EntityVerifier.
+     * Creates and return a new instance of EntityVerifier. The instance is created once and shared; as it may be
+     * requested by several unit loading threads at once, it is only published after the configuration is loaded.
      *
      * @param config a File that contains an XML representation of the configuration settings
      *
      * @return an EntityVerifier with the configuration loaded from XML
      */
-    public static EntityVerifier getInstance(final File config) {
+    public static synchronized EntityVerifier getInstance(final File config) {
         if (instance != null) {
             return instance;
         }
 
-        instance = new EntityVerifier();
-
-        try {
+        EntityVerifier loaded;
+        try (InputStream is = new FileInputStream(config)) {
             JAXBContext jc = JAXBContext.newInstance(EntityVerifier.class);
 
             Unmarshaller um = jc.createUnmarshaller();
-            InputStream is = new FileInputStream(config);
-            instance = (EntityVerifier) um.unmarshal(MMXMLUtility.createSafeXmlSource(is));
+            loaded = (EntityVerifier) um.unmarshal(MMXMLUtility.createSafeXmlSource(is));
         } catch (Exception e) {
             String message = String.format("Error loading XML for entity verifier: %s", e.getMessage());
             logger.error(e, message);
+            loaded = new EntityVerifier();
         }
 
+        instance = loaded;
         return instance;
     }
 
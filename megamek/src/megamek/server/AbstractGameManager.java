@@ -218,7 +218,7 @@ public abstract class AbstractGameManager implements IGameManager {
     /**
      * Performs an automatic save (does not check the autosave settings - the autosave will simply be done). Depending
      * on the settings, the "autosave" filename is appended with a timestamp and/or a chat message is sent announcing
-     * the autosave.
+     * the autosave. The file is written in the background, see {@link #saveGameInBackground(String, boolean)}.
      */
     public void autoSave() {
         String fileName = "autosave";
@@ -227,7 +227,7 @@ public abstract class AbstractGameManager implements IGameManager {
             fileName = StringUtil.addDateTimeStamp(fileName);
         }
 
-        saveGame(fileName, getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
+        saveGameInBackground(fileName, getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
     }
 
     @Override
@@ -235,6 +235,25 @@ public abstract class AbstractGameManager implements IGameManager {
         saveHandler.saveGame(fileName, sendChat);
     }
 
+    /**
+     * Saves the game like {@link #saveGame(String, boolean)}, but only copies the game on the calling thread and
+     * writes the file on a background thread. The save may not yet be complete when this method returns.
+     *
+     * @param fileName The filename to use
+     * @param sendChat When true, the saving (or error) is announced in chat
+     */
+    public void saveGameInBackground(String fileName, boolean sendChat) {
+        saveHandler.saveGameInBackground(fileName, sendChat);
+    }
+
+    /**
+     * Waits until all saves started by {@link #saveGameInBackground(String, boolean)} have been written. Call this
+     * before the game is replaced or reset.
+     */
+    protected void awaitPendingSaves() {
+        GameManagerSaveHelper.awaitPendingSaves();
+    }
+
     @Override
     public void sendSaveGame(int connId, String sFile, String sLocalPath) {
         saveHandler.sendSaveGame(connId, sFile, sLocalPath);
@@ -61,7 +61,7 @@ public record AutosaveService(AbstractGameManager gameManager) {
             try {
                 final String fileName = getAutosaveFilename();
                 if (!StringUtility.isNullOrBlank(fileName)) {
-                    gameManager.saveGame(fileName,
+                    gameManager.saveGameInBackground(fileName,
                           gameManager.getGame().getOptions().booleanOption(OptionsConstants.BASE_AUTOSAVE_MSG));
                 } else {
                     LOGGER.error("Unable to perform an autosave because of a null or empty file name");
@@ -99,23 +99,17 @@ public class ElevatorProcessor extends DynamicTerrainProcessor {
             if (b.isLowAltitude() || b.isSpace()) {
                 continue;
             }
-            int height = b.getHeight();
-            int width = b.getWidth();
             int exits;
-            for (int x = 0; x < width; x++) {
-                for (int y = 0; y < height; y++) {
-                    if (b.getHex(x, y).containsTerrain(Terrains.ELEVATOR)) {
-                        exits = b.getHex(x, y).getTerrain(Terrains.ELEVATOR).getExits();
-                        // add the elevator to each list it belongs in.
-                        // exits are abused to hold which d6 roll(s) move this
-                        // elevator
-                        for (int z = 0; z < 6; z++) {
-                            if ((exits & 1) == 1) {
-                                elevators[z].positions.add(BoardLocation.of(new Coords(x, y), b.getBoardId()));
-                            }
-                            exits >>= 1;
-                        }
+            for (Coords coords : b.getHexesWithTerrain(Terrains.ELEVATOR)) {
+                exits = b.getHex(coords).getTerrain(Terrains.ELEVATOR).getExits();
+                // add the elevator to each list it belongs in.
+                // exits are abused to hold which d6 roll(s) move this
+                // elevator
+                for (int z = 0; z < 6; z++) {
+                    if ((exits & 1) == 1) {
+                        elevators[z].positions.add(BoardLocation.of(coords, b.getBoardId()));
                     }
+                    exits >>= 1;
                 }
             }
         }
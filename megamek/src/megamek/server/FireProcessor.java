@@ -91,8 +91,6 @@ public class FireProcessor extends DynamicTerrainProcessor {
         if (board.isLowAltitude() || board.isSpace()) {
             return;
         }
-        int width = board.getWidth();
-        int height = board.getHeight();
         WindDirection windDirection = game.getPlanetaryConditions().getWindDirection();
         Wind windStrength = game.getPlanetaryConditions().getWind();
 
@@ -127,92 +125,86 @@ public class FireProcessor extends DynamicTerrainProcessor {
             }
         }
 
-        // Cycle through all hexes, checking for fire and the spread of fire
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    // If the woods have been cleared, or the building
-                    // has collapsed put non-inferno fires out.
-                    if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_NORMAL)
-                          && !currentHex.isIgnitable()) {
-                        gameManager.removeFire(currentCoords, "lack of fuel");
-                        continue;
-                    }
+        // Cycle through all burning hexes, checking for the spread of fire
+        for (Coords currentCoords : board.getHexesWithTerrain(Terrains.FIRE)) {
+            Hex currentHex = board.getHex(currentCoords);
+
+            if (currentHex.containsTerrain(Terrains.FIRE)) {
+                // If the woods have been cleared, or the building
+                // has collapsed put non-inferno fires out.
+                if ((currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_NORMAL)
+                      && !currentHex.isIgnitable()) {
+                    gameManager.removeFire(currentCoords, "lack of fuel");
+                    continue;
+                }
 
-                    // only check spread for fires that didn't start this turn
-                    if (currentHex.getFireTurn() > 0) {
-                        // optional rule, woods burn down
-                        Vector<Report> burnReports = null;
-                        if ((currentHex.containsTerrain(Terrains.WOODS)
-                              || currentHex.containsTerrain(Terrains.JUNGLE))
-                              && game.getOptions().booleanOption(OptionsConstants.ADVANCED_WOODS_BURN_DOWN)) {
-                            burnReports = burnDownWoods(currentCoords, board);
-                        }
-                        // report and check for fire spread
-                        boolean isInferno = (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO)
-                              || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_BOMB)
-                              || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_IV);
-                        vPhaseReport.addElement(
-                              Report.publicReport(isInferno ? 5130 : 5125).add(currentCoords.getBoardNum()));
-                        if (burnReports != null) {
-                            vPhaseReport.addAll(burnReports);
-                        }
-                        spreadFire(board, currentXCoord, currentYCoord, windDirection, windStrength);
+                // only check spread for fires that didn't start this turn
+                if (currentHex.getFireTurn() > 0) {
+                    // optional rule, woods burn down
+                    Vector<Report> burnReports = null;
+                    if ((currentHex.containsTerrain(Terrains.WOODS)
+                          || currentHex.containsTerrain(Terrains.JUNGLE))
+                          && game.getOptions().booleanOption(OptionsConstants.ADVANCED_WOODS_BURN_DOWN)) {
+                        burnReports = burnDownWoods(currentCoords, board);
+                    }
+                    // report and check for fire spread
+                    boolean isInferno = (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO)
+                          || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_BOMB)
+                          || (currentHex.terrainLevel(Terrains.FIRE) == Terrains.FIRE_LVL_INFERNO_IV);
+                    vPhaseReport.addElement(
+                          Report.publicReport(isInferno ? 5130 : 5125).add(currentCoords.getBoardNum()));
+                    if (burnReports != null) {
+                        vPhaseReport.addAll(burnReports);
                     }
+                    spreadFire(board, currentCoords.getX(), currentCoords.getY(), windDirection, windStrength);
                 }
             }
         }
 
-        // Cycle through all hexes again, reporting new fires, spreading smoke, and
+        // Cycle through all burning hexes again, reporting new fires, spreading smoke, and
         // incrementing the fire turn.
         // Can't do this in first loop because new fires may be spread
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    IBuilding bldg = board.getBuildingAt(currentCoords);
-                    // Was the fire started this turn?
-                    if (currentHex.getFireTurn() == 0) {
-                        // Report fire started this round
-                        vPhaseReport.addElement(Report.publicReport(5135).add(currentCoords.getBoardNum()));
-
-                        // If the hex contains a building, set it on fire.
-                        if (bldg != null) {
-                            bldg.setBurning(true, currentCoords);
-                        }
-                    }
-
-                    // Check for any explosions
-                    gameManager.checkExplodeIndustrialZone(currentCoords, boardId, vPhaseReport);
-
-                    // Add smoke, unless tornado or optional rules
-                    boolean containsForest = (currentHex.containsTerrain(Terrains.WOODS)
-                          || currentHex.containsTerrain(Terrains.JUNGLE));
-                    boolean bInferno = currentHex.terrainLevel(Terrains.FIRE) == 2;
-                    PlanetaryConditions conditions = game.getPlanetaryConditions();
-                    if (conditions.getWind().isWeakerThan(Wind.TORNADO_F1_TO_F3)
-                          && !(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_FOREST_FIRES_NO_SMOKE)
-                          && containsForest
-                          && (bldg == null))) {
-                        ArrayList<Coords> smokeList = new ArrayList<>();
-
-                        smokeList.add(currentCoords.translated(windDirection.ordinal()));
-                        smokeList.add(currentCoords.translated(windDirection.rotateClockwise().ordinal()));
-                        smokeList.add(currentCoords.translated(windDirection.rotateCounterClockwise().ordinal()));
-
-                        gameManager.addSmoke(smokeList, board, bInferno);
-                        board.initializeAround(currentXCoord, currentYCoord);
+        for (Coords currentCoords : board.getHexesWithTerrain(Terrains.FIRE)) {
+            Hex currentHex = board.getHex(currentCoords);
+
+            if (currentHex.containsTerrain(Terrains.FIRE)) {
+                IBuilding bldg = board.getBuildingAt(currentCoords);
+                // Was the fire started this turn?
+                if (currentHex.getFireTurn() == 0) {
+                    // Report fire started this round
+                    vPhaseReport.addElement(Report.publicReport(5135).add(currentCoords.getBoardNum()));
+
+                    // If the hex contains a building, set it on fire.
+                    if (bldg != null) {
+                        bldg.setBurning(true, currentCoords);
                     }
+                }
 
-                    // increment the fire turn counter
-                    currentHex.incrementFireTurn();
-                    markHexUpdate(currentCoords, boardId);
+                // Check for any explosions
+                gameManager.checkExplodeIndustrialZone(currentCoords, boardId, vPhaseReport);
+
+                // Add smoke, unless tornado or optional rules
+                boolean containsForest = (currentHex.containsTerrain(Terrains.WOODS)
+                      || currentHex.containsTerrain(Terrains.JUNGLE));
+                boolean bInferno = currentHex.terrainLevel(Terrains.FIRE) == 2;
+                PlanetaryConditions conditions = game.getPlanetaryConditions();
+                if (conditions.getWind().isWeakerThan(Wind.TORNADO_F1_TO_F3)
+                      && !(game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_FOREST_FIRES_NO_SMOKE)
+                      && containsForest
+                      && (bldg == null))) {
+                    ArrayList<Coords> smokeList = new ArrayList<>();
+
+                    smokeList.add(currentCoords.translated(windDirection.ordinal()));
+                    smokeList.add(currentCoords.translated(windDirection.rotateClockwise().ordinal()));
+                    smokeList.add(currentCoords.translated(windDirection.rotateCounterClockwise().ordinal()));
+
+                    gameManager.addSmoke(smokeList, board, bInferno);
+                    board.initializeAround(currentCoords.getX(), currentCoords.getY());
                 }
+
+                // increment the fire turn counter
+                currentHex.incrementFireTurn();
+                markHexUpdate(currentCoords, boardId);
             }
         }
     }
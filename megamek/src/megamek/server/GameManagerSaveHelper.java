@@ -34,27 +34,52 @@
 package megamek.server;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.zip.GZIPOutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import megamek.MMConstants;
+import megamek.common.game.Game;
+import megamek.common.game.GameSnapshot;
+import megamek.common.game.GameSnapshotter;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.packets.Packet;
+import megamek.common.util.ParallelGzipOutputStream;
 import megamek.common.util.SerializationHelper;
 import megamek.logging.MMLogger;
 
-public record GameManagerSaveHelper(AbstractGameManager gameManager) {
+public record GameManagerSaveHelper(AbstractGameManager gameManager, GameSnapshotter snapshotter) {
     private static final MMLogger LOGGER = MMLogger.create(GameManagerSaveHelper.class);
 
+    /** Writes save games in the background so that autosaves do not hold up the game */
+    private static final ExecutorService SAVE_WRITER = createSaveWriter();
+
+    /** The longest time to wait for pending background saves */
+    private static final long PENDING_SAVES_TIMEOUT_SECONDS = 60;
+
+    public GameManagerSaveHelper(AbstractGameManager gameManager) {
+        this(gameManager, new GameSnapshotter());
+    }
+
     /**
      * Saves the game server-side. Will announce the save (or error) in chat if the given sendChat is true.
      *
@@ -62,6 +87,119 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
      * @param sendChat When true, the saving (or error) is announced in chat
      */
     void saveGame(String fileName, boolean sendChat) {
+        // Keep the saves in the order they were requested
+        awaitPendingSaves();
+        String finalFileName = saveGamePath(fileName);
+        boolean saved = writeSaveGame(gameManager.getGame(), finalFileName);
+        announceSave(finalFileName, saved, sendChat);
+    }
+
+    /**
+     * Saves the game server-side without holding up the calling thread for longer than necessary. A snapshot of the
+     * game is taken on the calling thread (which must be the game thread); copying it, converting the copy to XML,
+     * compressing it and writing it to disk happens on a background thread. Saves are written one after the other in
+     * the order they were requested. When the game cannot be copied, it is saved directly as in
+     * {@link #saveGame(String, boolean)}. Before the server shuts down or the game is loaded or reset,
+     * {@link #awaitPendingSaves()} must be called so that no save is lost.
+     *
+     * @param fileName The filename to use
+     * @param sendChat When true, the saving (or error) is announced in chat once the file has been written
+     */
+    void saveGameInBackground(String fileName, boolean sendChat) {
+        if (!(gameManager.getGame() instanceof Game game)) {
+            saveGame(fileName, sendChat);
+            return;
+        }
+        String finalFileName = saveGamePath(fileName);
+        GameSnapshot snapshot;
+        long start = System.nanoTime();
+        try {
+            snapshot = snapshotter.takeSnapshot(game);
+        } catch (IOException ex) {
+            LOGGER.warn("Unable to copy the game for a background save, saving directly: {}", ex.getMessage());
+            saveGame(fileName, sendChat);
+            return;
+        }
+        LOGGER.debug("Copied the game for saving in {} ms", elapsedMillis(start));
+
+        SAVE_WRITER.execute(() -> {
+            boolean saved;
+            try {
+                saved = writeSaveGame(snapshot.getGame(), finalFileName);
+            } catch (Exception ex) {
+                LOGGER.error(ex, "Unable to restore the game copy for saving to {}", finalFileName);
+                saved = false;
+            }
+            announceSave(finalFileName, saved, sendChat);
+        });
+    }
+
+    /**
+     * Waits until all saves requested so far have been written, or until a timeout has passed. This is called before
+     * the server shuts down and before the game is loaded or reset, as the background writer's daemon thread would
+     * not finish a save when the JVM exits, and so that a pending save cannot overwrite a file written afterwards.
+     */
+    static void awaitPendingSaves() {
+        try {
+            // The writer is single-threaded, so this task runs once all earlier saves are written
+            SAVE_WRITER.submit(() -> { }).get(PENDING_SAVES_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted while waiting for pending saves");
+        } catch (ExecutionException | TimeoutException ex) {
+            LOGGER.error(ex, "Pending saves were not written within {} seconds", PENDING_SAVES_TIMEOUT_SECONDS);
+        }
+    }
+
+    /**
+     * Writes the given game as a gzipped XStream save game. The file is first written under a temporary name and then
+     * moved into place so that an interrupted save never leaves a truncated file behind.
+     *
+     * @param game          The game to save
+     * @param finalFileName The path of the save game without the .gz extension
+     *
+     * @return True when the game was saved
+     */
+    private static boolean writeSaveGame(Object game, String finalFileName) {
+        Path target = Path.of(finalFileName + ".gz");
+        Path partFile = target.resolveSibling("." + target.getFileName() + ".part");
+        long start = System.nanoTime();
+        try {
+            try (OutputStream os = Files.newOutputStream(partFile);
+                  OutputStream gzo = new ParallelGzipOutputStream(new BufferedOutputStream(os),
+                        ForkJoinPool.commonPool());
+                  Writer writer = new BufferedWriter(new OutputStreamWriter(gzo, StandardCharsets.UTF_8))) {
+                SerializationHelper.getSaveGameXStream().toXML(game, writer);
+            }
+            try {
+                Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(partFile, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            LOGGER.info("Saved game to {} in {} ms ({} bytes)", target, elapsedMillis(start), Files.size(target));
+            return true;
+        } catch (Exception ex) {
+            LOGGER.error(ex, "Unable to save file: {}", finalFileName);
+            try {
+                Files.deleteIfExists(partFile);
+            } catch (IOException ignored) {
+                // the save already failed and has been logged
+            }
+            return false;
+        }
+    }
+
+    private void announceSave(String finalFileName, boolean saved, boolean sendChat) {
+        if (sendChat) {
+            gameManager.sendChat("MegaMek",
+                  saved ? ("Game saved to " + finalFileName) : ("Could not save the game to " + finalFileName));
+        }
+    }
+
+    /**
+     * @return The path of the save game in the save game directory, with the .sav but without the .gz extension
+     */
+    private static String saveGamePath(String fileName) {
         // We need to strip the .gz if it exists, otherwise we'll double up on it.
         if (fileName.endsWith(".gz")) {
             fileName = fileName.replace(".gz", "");
@@ -77,24 +215,19 @@ public record GameManagerSaveHelper(AbstractGameManager gameManager) {
             saveGameDir.mkdir();
         }
 
-        finalFileName = saveGameDir + File.separator + finalFileName;
-
-        try (OutputStream os = new FileOutputStream(finalFileName + ".gz");
-              OutputStream gzo = new GZIPOutputStream(os);
-              Writer writer = new OutputStreamWriter(gzo, StandardCharsets.UTF_8)) {
-            SerializationHelper.getSaveGameXStream().toXML(gameManager.getGame(), writer);
-        } catch (Exception e) {
-            String message = String.format("Unable to save file: %s", finalFileName);
-            LOGGER.error(e, message);
+        return saveGameDir + File.separator + finalFileName;
+    }
 
-            if (sendChat) {
-                gameManager.sendChat("MegaMek", "Could not save the game to " + finalFileName);
-            }
-        }
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
 
-        if (sendChat) {
-            gameManager.sendChat("MegaMek", "Game saved to " + finalFileName);
-        }
+    private static ExecutorService createSaveWriter() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Game Save Writer");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
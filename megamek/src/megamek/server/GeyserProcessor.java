@@ -118,12 +118,8 @@ public class GeyserProcessor extends DynamicTerrainProcessor {
             if (board.isLowAltitude() || board.isSpace()) {
                 continue;
             }
-            for (int x = 0; x < board.getWidth(); x++) {
-                for (int y = 0; y < board.getHeight(); y++) {
-                    if (board.getHex(x, y).containsTerrain(Terrains.GEYSER)) {
-                        geysers.add(new GeyserInfo(new Coords(x, y), board.getBoardId()));
-                    }
-                }
+            for (Coords coords : board.getHexesWithTerrain(Terrains.GEYSER)) {
+                geysers.add(new GeyserInfo(coords, board.getBoardId()));
             }
         }
     }
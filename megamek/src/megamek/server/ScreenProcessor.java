@@ -36,7 +36,6 @@ package megamek.server;
 
 import java.util.Vector;
 
-import megamek.common.Hex;
 import megamek.common.Report;
 import megamek.common.board.Board;
 import megamek.common.board.Coords;
@@ -63,18 +62,12 @@ public class ScreenProcessor extends DynamicTerrainProcessor {
             if (!board.isSpace()) {
                 continue;
             }
-            // Cycle through all hexes, checking for screens
-            for (int x = 0; x < board.getWidth(); x++) {
-                for (int y = 0; y < board.getHeight(); y++) {
-                    Hex currentHex = board.getHex(x, y);
-                    if (currentHex.containsTerrain(Terrains.SCREEN)) {
-                        if (Compute.d6(2) > 6) {
-                            Coords currentCoords = new Coords(x, y);
-                            vPhaseReport.addElement(Report.publicReport(9075).add(currentCoords.getBoardNum()));
-                            currentHex.removeTerrain(Terrains.SCREEN);
-                            markHexUpdate(currentCoords, board);
-                        }
-                    }
+            // Cycle through all screen hexes
+            for (Coords currentCoords : board.getHexesWithTerrain(Terrains.SCREEN)) {
+                if (Compute.d6(2) > 6) {
+                    vPhaseReport.addElement(Report.publicReport(9075).add(currentCoords.getBoardNum()));
+                    board.getHex(currentCoords).removeTerrain(Terrains.SCREEN);
+                    markHexUpdate(currentCoords, board);
                 }
             }
         }
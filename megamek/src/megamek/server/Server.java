@@ -34,6 +34,7 @@
  */
 package megamek.server;
 
+import java.io.BufferedInputStream;
 import java.io.BufferedReader;
 import java.io.DataOutputStream;
 import java.io.File;
@@ -44,10 +45,12 @@ import java.io.InputStreamReader;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
 import java.net.URL;
 import java.net.URLEncoder;
+import java.nio.channels.ServerSocketChannel;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
 import java.util.Map.Entry;
@@ -71,14 +74,20 @@ import megamek.common.game.Game;
 import megamek.common.game.IGame;
 import megamek.common.icons.Camouflage;
 import megamek.common.net.connections.AbstractConnection;
+import megamek.common.net.connections.NioConnection;
+import megamek.common.net.connections.NioTransport;
+import megamek.common.net.connections.PacketBroadcaster;
+import megamek.common.net.compression.PacketCompression;
 import megamek.common.net.enums.PacketCommand;
 import megamek.common.net.events.DisconnectedEvent;
 import megamek.common.net.events.PacketReceivedEvent;
 import megamek.common.net.factories.ConnectionFactory;
 import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
 import megamek.common.net.packets.InvalidPacketDataException;
 import megamek.common.net.packets.Packet;
 import megamek.common.options.OptionsConstants;
+import megamek.common.preference.ClientPreferences;
 import megamek.common.preference.PreferenceManager;
 import megamek.common.rolls.Roll;
 import megamek.common.util.EmailService;
@@ -99,12 +108,18 @@ public class Server implements Runnable {
 
     private final ServerSocket serverSocket;
 
+    /** The selector-based transport for client connections; null when each connection has its own thread */
+    private final NioTransport nioTransport;
+
     private final String messageOfTheDay;
 
     private final EmailService mailer;
 
     private static final MMLogger LOGGER = MMLogger.create(Server.class);
 
+    /** The read buffer size used when loading save games; the default of GZIPInputStream is very small */
+    private static final int LOAD_BUFFER_SIZE = 1 << 16;
+
     private final ReentrantLock GAME_LOCK = new ReentrantLock();
 
     public static class ReceivedPacket {
@@ -403,7 +418,17 @@ public class Server implements Runnable {
         this.dedicated = dedicated;
 
         // initialize server socket
-        serverSocket = new ServerSocket(port);
+        ClientPreferences preferences = PreferenceManager.getClientPreferences();
+        if (preferences.getServerNioTransport()) {
+            ServerSocketChannel serverChannel = ServerSocketChannel.open();
+            serverChannel.bind(new InetSocketAddress(port));
+            serverSocket = serverChannel.socket();
+            nioTransport = new NioTransport(preferences.getServerIoThreads(),
+                  preferences.getServerSendQueueLimitMB() * 1024L * 1024L);
+        } else {
+            serverSocket = new ServerSocket(port);
+            nioTransport = null;
+        }
 
         messageOfTheDay = createMOTD();
 
@@ -522,6 +547,7 @@ public class Server implements Runnable {
      */
     public void die() {
         watchdogTimer.cancel();
+        GameManagerSaveHelper.awaitPendingSaves();
 
         // kill thread accepting new connections
         connector = null;
@@ -543,6 +569,10 @@ public class Server implements Runnable {
         // This WILL handle the connection end on both sides
         send(new Packet(PacketCommand.CLOSE_CONNECTION));
         connectionIds.clear();
+        logBroadcastStatistics();
+        if (nioTransport != null) {
+            nioTransport.shutdown();
+        }
 
         // Shutdown Email
         if (mailer != null) {
@@ -559,6 +589,13 @@ public class Server implements Runnable {
         }
     }
 
+    private void logBroadcastStatistics() {
+        PacketBroadcaster.Statistics statistics = PacketBroadcaster.getStatistics();
+        LOGGER.info("Broadcast {} packets with {} encodings; {} shared encodings saved {} bytes and about {} ms",
+              statistics.broadcasts(), statistics.encodings(), statistics.reusedSends(), statistics.bytesReused(),
+              statistics.nanosSaved() / 1_000_000);
+    }
+
     /**
      * Returns an enumeration of all the command names
      */
@@ -684,6 +721,28 @@ public class Server implements Runnable {
         return true;
     }
 
+    /**
+     * Picks the packet marshalling and compression for a pending connection from the types the client offered along
+     * with its version and greets the client with the choice. The greeting itself still goes out with the previous
+     * marshalling and compression; the client reads each packet according to its header either way.
+     */
+    private void negotiateMarshalling(Packet packet, int connId) throws InvalidPacketDataException {
+        List<Integer> offeredTypes = (packet.data().length > 1) ? packet.getIntList(1) : null;
+        ClientPreferences preferences = PreferenceManager.getClientPreferences();
+        int marshallingType = PacketMarshallerFactory.getInstance()
+              .negotiate(offeredTypes, preferences.getServerCompactMarshalling());
+        List<Integer> offeredCompressions = (packet.data().length > 3) ? packet.getIntList(2) : null;
+        int dictionaryChecksum = (packet.data().length > 3) ? packet.getIntValue(3) : 0;
+        PacketCompression compression = PacketCompression.negotiate(offeredCompressions, dictionaryChecksum,
+              preferences.getServerFastCompression());
+        sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING, marshallingType, compression.getId()));
+        AbstractConnection pendingConn = getPendingConnection(connId);
+        if (pendingConn != null) {
+            pendingConn.setMarshallingType(marshallingType);
+            pendingConn.setCompression(compression);
+        }
+    }
+
     /**
      * Receives a player name, sent from a pending connection, and connects that connection.
      */
@@ -888,6 +947,7 @@ public class Server implements Runnable {
     }
 
     public void resetGame() {
+        GameManagerSaveHelper.awaitPendingSaves();
         gameManager.resetGame();
     }
 
@@ -931,19 +991,24 @@ public class Server implements Runnable {
     public boolean loadGame(File f, boolean sendInfo) {
         String message = String.format("s: Loading saved game file '%s'", f.getAbsolutePath());
         LOGGER.info(message);
+        // The file may be an autosave that is still being written
+        GameManagerSaveHelper.awaitPendingSaves();
 
         Game newGame;
+        long start = System.nanoTime();
         try (InputStream is = new FileInputStream(f)) {
             InputStream gzi;
 
             if (f.getName().toLowerCase().endsWith(".gz")) {
-                gzi = new GZIPInputStream(is);
+                gzi = new GZIPInputStream(is, LOAD_BUFFER_SIZE);
             } else {
-                gzi = is;
+                gzi = new BufferedInputStream(is, LOAD_BUFFER_SIZE);
             }
 
             XStream xStream = SerializationHelper.getLoadSaveGameXStream();
             newGame = (Game) xStream.fromXML(gzi);
+            LOGGER.info("Loaded game from {} in {} ms ({} bytes)", f, (System.nanoTime() - start) / 1_000_000,
+                  f.length());
         } catch (Exception e) {
             message = String.format("Unable to load file: %s", f);
             LOGGER.error(e, message);
@@ -1218,7 +1283,7 @@ public class Server implements Runnable {
      * Sends the given packet to all connections (all connected Clients = players).
      */
     void send(Packet packet) {
-        connections.stream().filter(Objects::nonNull).forEach(connection -> connection.send(packet));
+        PacketBroadcaster.send(connections, packet);
     }
 
     /**
@@ -1292,7 +1357,7 @@ public class Server implements Runnable {
                 case CLIENT_VERSIONS:
                     final boolean valid = receivePlayerVersion(packet, connId);
                     if (valid) {
-                        sendToPending(connId, new Packet(PacketCommand.SERVER_GREETING));
+                        negotiateMarshalling(packet, connId);
                     } else {
                         sendToPending(connId, new Packet(PacketCommand.ILLEGAL_CLIENT_VERSION, SuiteConstants.VERSION));
                         getPendingConnection(connId).close();
@@ -1387,14 +1452,20 @@ public class Server implements Runnable {
                     message = String.format("s: accepting player connection #%d...", id);
                     LOGGER.info(message);
 
-                    AbstractConnection c = ConnectionFactory.getInstance().createServerConnection(s, id);
+                    AbstractConnection c = (nioTransport != null)
+                          ? nioTransport.createConnection(s.getChannel(), id)
+                          : ConnectionFactory.getInstance().createServerConnection(s, id);
                     c.addConnectionListener(connectionListener);
                     c.open();
                     connectionsPending.add(c);
-                    ConnectionHandler ch = new ConnectionHandler(c);
-                    Thread newConnThread = new Thread(ch, "Connection " + id);
-                    newConnThread.start();
-                    connectionHandlers.put(id, ch);
+                    if (c instanceof NioConnection nioConnection) {
+                        nioTransport.register(nioConnection);
+                    } else {
+                        ConnectionHandler ch = new ConnectionHandler(c);
+                        Thread newConnThread = new Thread(ch, "Connection " + id);
+                        newConnThread.start();
+                        connectionHandlers.put(id, ch);
+                    }
 
                     clientVersionCheck(id);
                     ConnectionWatchdog w = new ConnectionWatchdog(this, id);
@@ -142,119 +142,131 @@ public class WeatherProcessor extends DynamicTerrainProcessor {
             vPhaseReport.addElement(r);
         }
 
-        // Cycle through all hexes, checking for the appropriate weather changes
-        for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
-            for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
-                Coords currentCoords = new Coords(currentXCoord, currentYCoord);
-                Hex currentHex = board.getHex(currentXCoord, currentYCoord);
-
-                // check for fires and potentially put them out
-                if (currentHex.containsTerrain(Terrains.FIRE)) {
-                    // only standard fires get put out
-                    if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_NORMAL) {
-                        if (conditions.putOutFire()) {
-                            gameManager.removeFire(currentCoords, "weather conditions");
-                        }
-                        // Downgrade Inferno fires so they can burn out
-                    } else if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_INFERNO) {
-                        //inferno fires should become regular fires
-                        currentHex.removeTerrain(Terrains.FIRE);
-                        currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
-                        markHexUpdate(currentCoords, board);
-                        // Check Inferno Bombs
-                    } else if (currentHex.terrainLevel(Terrains.FIRE)
-                          == Terrains.FIRE_LVL_INFERNO_BOMB) {
-                        if (currentHex.getFireTurn() > 30) {
-                            gameManager.removeFire(currentCoords,
-                                  "inferno bomb burning out");
-                        }
-                        markHexUpdate(currentCoords, board);
-                    }
-                    // Inferno IV doesn't burn out, TO pg 356
+        // Cycle through the hexes, checking for the appropriate weather changes. Unless snow falls this round, only
+        // burning hexes and water hexes can change, so the others need not be checked
+        if (lightSnow || deepSnow) {
+            for (int currentXCoord = 0; currentXCoord < width; currentXCoord++) {
+                for (int currentYCoord = 0; currentYCoord < height; currentYCoord++) {
+                    resolveHexWeather(board, new Coords(currentXCoord, currentYCoord), lightSnow, deepSnow, ice);
                 }
+            }
+        } else {
+            for (Coords currentCoords : board.getHexesWithTerrain(Terrains.FIRE, Terrains.WATER)) {
+                resolveHexWeather(board, currentCoords, false, false, ice);
+            }
+        }
+    }
 
-                if (ice && !currentHex.containsTerrain(Terrains.ICE)
-                      && currentHex.containsTerrain(Terrains.WATER)) {
-                    currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
-                    markHexUpdate(currentCoords, board);
-                }
+    private void resolveHexWeather(Board board, Coords currentCoords, boolean lightSnow, boolean deepSnow,
+          boolean ice) {
+        PlanetaryConditions conditions = game.getPlanetaryConditions();
+        Hex currentHex = board.getHex(currentCoords);
 
-                if (lightSnow
-                      && !currentHex.containsTerrain(Terrains.SNOW)
-                      && !(currentHex.containsTerrain(Terrains.WATER)
-                      && !currentHex.containsTerrain(Terrains.ICE))
-                      && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
-                    markHexUpdate(currentCoords, board);
+        // check for fires and potentially put them out
+        if (currentHex.containsTerrain(Terrains.FIRE)) {
+            // only standard fires get put out
+            if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_NORMAL) {
+                if (conditions.putOutFire()) {
+                    gameManager.removeFire(currentCoords, "weather conditions");
                 }
-
-                if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
-                      && !(currentHex.containsTerrain(Terrains.WATER)
-                      && !currentHex.containsTerrain(Terrains.ICE))
-                      && !currentHex.containsTerrain(Terrains.MAGMA)) {
-                    currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
-                    markHexUpdate(currentCoords, board);
+                // Downgrade Inferno fires so they can burn out
+            } else if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_INFERNO) {
+                //inferno fires should become regular fires
+                currentHex.removeTerrain(Terrains.FIRE);
+                currentHex.addTerrain(new Terrain(Terrains.FIRE, 1));
+                markHexUpdate(currentCoords, board);
+                // Check Inferno Bombs
+            } else if (currentHex.terrainLevel(Terrains.FIRE)
+                  == Terrains.FIRE_LVL_INFERNO_BOMB) {
+                if (currentHex.getFireTurn() > 30) {
+                    gameManager.removeFire(currentCoords,
+                          "inferno bomb burning out");
                 }
+                markHexUpdate(currentCoords, board);
+            }
+            // Inferno IV doesn't burn out, TO pg 356
+        }
 
-                // check for the melting of any snow or ice
-                if (currentHex.terrainLevel(Terrains.SNOW) > 1
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 3) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
-                }
+        if (ice && !currentHex.containsTerrain(Terrains.ICE)
+              && currentHex.containsTerrain(Terrains.WATER)) {
+            currentHex.addTerrain(new Terrain(Terrains.ICE, 1));
+            markHexUpdate(currentCoords, board);
+        }
 
-                if (currentHex.terrainLevel(Terrains.SNOW) == 1
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 1) {
-                    currentHex.removeTerrain(Terrains.SNOW);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
-                }
+        if (lightSnow
+              && !currentHex.containsTerrain(Terrains.SNOW)
+              && !(currentHex.containsTerrain(Terrains.WATER)
+              && !currentHex.containsTerrain(Terrains.ICE))
+              && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 1));
+            markHexUpdate(currentCoords, board);
+        }
 
-                if (currentHex.containsTerrain(Terrains.ICE)
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 2) {
-                    currentHex.removeTerrain(Terrains.ICE);
-                    markHexUpdate(currentCoords, board);
-                    if (!currentHex.containsTerrain(Terrains.MUD)
-                          && !currentHex.containsTerrain(Terrains.WATER)) {
-                        currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
-                        markHexUpdate(currentCoords, board);
-                    }
-                }
+        if (deepSnow && !(currentHex.terrainLevel(Terrains.SNOW) > 1)
+              && !(currentHex.containsTerrain(Terrains.WATER)
+              && !currentHex.containsTerrain(Terrains.ICE))
+              && !currentHex.containsTerrain(Terrains.MAGMA)) {
+            currentHex.addTerrain(new Terrain(Terrains.SNOW, 2));
+            markHexUpdate(currentCoords, board);
+        }
 
-                if (currentHex.containsTerrain(Terrains.BLACK_ICE)
-                      && currentHex.containsTerrain(Terrains.FIRE)
-                      && currentHex.getFireTurn() == 2) {
-                    currentHex.removeTerrain(Terrains.BLACK_ICE);
+        // check for the melting of any snow or ice
+        if (currentHex.terrainLevel(Terrains.SNOW) > 1
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 3) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
+
+        if (currentHex.terrainLevel(Terrains.SNOW) == 1
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 1) {
+            currentHex.removeTerrain(Terrains.SNOW);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
+
+        if (currentHex.containsTerrain(Terrains.ICE)
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 2) {
+            currentHex.removeTerrain(Terrains.ICE);
+            markHexUpdate(currentCoords, board);
+            if (!currentHex.containsTerrain(Terrains.MUD)
+                  && !currentHex.containsTerrain(Terrains.WATER)) {
+                currentHex.addTerrain(new Terrain(Terrains.MUD, 1));
+                markHexUpdate(currentCoords, board);
+            }
+        }
+
+        if (currentHex.containsTerrain(Terrains.BLACK_ICE)
+              && currentHex.containsTerrain(Terrains.FIRE)
+              && currentHex.getFireTurn() == 2) {
+            currentHex.removeTerrain(Terrains.BLACK_ICE);
+            markHexUpdate(currentCoords, board);
+        }
+
+        // check for rapids/torrents created by wind
+        if (currentHex.terrainLevel(Terrains.WATER) > 0) {
+            if (conditions.getWind().isStrongerThan(Wind.STORM)) {
+                if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
                     markHexUpdate(currentCoords, board);
                 }
-
-                // check for rapids/torrents created by wind
-                if (currentHex.terrainLevel(Terrains.WATER) > 0) {
-                    if (conditions.getWind().isStrongerThan(Wind.STORM)) {
-                        if (!(currentHex.terrainLevel(Terrains.RAPIDS) > 1)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 2));
-                            markHexUpdate(currentCoords, board);
-                        }
-                    } else if (conditions.getWind().isStrongerThan(Wind.MOD_GALE)) {
-                        if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
-                            currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
-                            markHexUpdate(currentCoords, board);
-                        }
-                    }
+            } else if (conditions.getWind().isStrongerThan(Wind.MOD_GALE)) {
+                if (!currentHex.containsTerrain(Terrains.RAPIDS)) {
+                    currentHex.addTerrain(new Terrain(Terrains.RAPIDS, 1));
+                    markHexUpdate(currentCoords, board);
                 }
             }
         }
@@ -0,0 +1,161 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.server.totalWarfare;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import megamek.common.Player;
+import megamek.common.force.Forces;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Entity;
+import megamek.common.units.EntityStateChecksum;
+
+/**
+ * Remembers, per player connection, the version of every entity last sent in an entity list. This allows replacing the
+ * full SENDING_ENTITIES packet by a SENDING_ENTITIES_DELTA packet that only carries the entities that changed since.
+ * <p>
+ * Entity versions are shared by all players. {@link #updateVersions(Collection)} takes the state fingerprint of every
+ * entity once per update (see {@link EntityStateChecksum#stateFingerprint(Entity)}, which covers the complete
+ * serialized state) and assigns a new version to each entity whose fingerprint changed. The per-player packets of that
+ * update then only compare versions. Versions are never reused, so an entity that returns to an earlier state still
+ * counts as changed.
+ * <p>
+ * A player has no baseline until a full list was sent to them through this tracker. Any entity list that is sent
+ * otherwise must be accompanied by {@link #invalidate(int)} or {@link #invalidateAll()} so that the next list sent to
+ * its receivers is a full one again.
+ */
+class EntityDeltaTracker {
+
+    /** The baseline key used for entity lists that are broadcast unfiltered to every player */
+    static final int ALL_PLAYERS = Player.PLAYER_NONE;
+
+    /** Entity ID to the state fingerprint of that entity at the last update */
+    private Map<Integer, Long> fingerprints = new HashMap<>();
+
+    /** Entity ID to the current version of that entity; replaced as a whole on every update */
+    private volatile Map<Integer, Long> versions = Map.of();
+
+    private long lastVersion;
+
+    /** Per player ID: entity ID to the version of that entity as last sent */
+    private final Map<Integer, Map<Integer, Long>> sentVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Brings the entity versions up to date with the given entities. This must be called once before the entity
+     * packets of an update are created.
+     *
+     * @param entities All entities that may be sent in this update
+     */
+    synchronized void updateVersions(Collection<Entity> entities) {
+        Map<Integer, Long> currentFingerprints = new HashMap<>();
+        Map<Integer, Long> currentVersions = new HashMap<>();
+        for (Entity entity : entities) {
+            long fingerprint = EntityStateChecksum.stateFingerprint(entity);
+            Long previousFingerprint = fingerprints.get(entity.getId());
+            Long version = versions.get(entity.getId());
+            if ((version == null) || (previousFingerprint == null) || (previousFingerprint != fingerprint)
+                  || (fingerprint == EntityStateChecksum.UNKNOWN_STATE)) {
+                version = ++lastVersion;
+            }
+            currentFingerprints.put(entity.getId(), fingerprint);
+            currentVersions.put(entity.getId(), version);
+        }
+        fingerprints = currentFingerprints;
+        versions = Map.copyOf(currentVersions);
+    }
+
+    /**
+     * Returns a packet that brings the given player's entity list up to date. This is a full SENDING_ENTITIES packet
+     * when there is no baseline for the player, otherwise a SENDING_ENTITIES_DELTA packet. Either way, the baseline is
+     * updated to the given entities. Entities are compared by the versions of the last
+     * {@link #updateVersions(Collection)}; an entity that was not part of it is always sent. This method may be called
+     * for different players at the same time.
+     *
+     * @param playerId   The receiving player's ID or {@link #ALL_PLAYERS} for a broadcast
+     * @param entities   The entities the player may see, in game order
+     * @param outOfGame  The out-of-game entities
+     * @param forces     The forces
+     *
+     * @return The entities packet to send to the player
+     */
+    Packet createEntitiesPacket(int playerId, List<Entity> entities, List<Entity> outOfGame, Forces forces) {
+        Map<Integer, Long> currentVersions = versions;
+        Map<Integer, Long> sent = new HashMap<>();
+        for (Entity entity : entities) {
+            Long version = currentVersions.get(entity.getId());
+            if (version != null) {
+                sent.put(entity.getId(), version);
+            }
+        }
+        Map<Integer, Long> previousVersions = sentVersions.put(playerId, sent);
+
+        if (previousVersions == null) {
+            return new Packet(PacketCommand.SENDING_ENTITIES, entities, outOfGame, forces);
+        }
+
+        List<Integer> entityIds = new ArrayList<>(entities.size());
+        List<Entity> changedEntities = new ArrayList<>();
+        int checksum = 0;
+        for (Entity entity : entities) {
+            entityIds.add(entity.getId());
+            checksum += EntityStateChecksum.combine(entity.getId(), EntityStateChecksum.of(entity));
+            Long version = sent.get(entity.getId());
+            if ((version == null) || !version.equals(previousVersions.get(entity.getId()))) {
+                changedEntities.add(entity);
+            }
+        }
+        return new Packet(PacketCommand.SENDING_ENTITIES_DELTA, entityIds, changedEntities, outOfGame, forces,
+              checksum);
+    }
+
+    /**
+     * Forgets what was sent to the given player so that they receive a full entity list next time.
+     *
+     * @param playerId The player ID
+     */
+    void invalidate(int playerId) {
+        sentVersions.remove(playerId);
+    }
+
+    /** Forgets what was sent to any player, including broadcasts. */
+    void invalidateAll() {
+        sentVersions.clear();
+    }
+}
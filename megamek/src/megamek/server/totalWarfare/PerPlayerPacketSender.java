@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.server.totalWarfare;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+import megamek.common.Player;
+import megamek.common.net.packets.Packet;
+import megamek.common.util.DaemonWorkerPool;
+import megamek.logging.MMLogger;
+
+/**
+ * Builds and sends one packet per player, such as the filtered entity lists and reports of a double-blind game. By
+ * default this happens one player after the other on the calling thread. When the parallel double blind updates game
+ * option is set, each player's packet is built and sent by a worker of a bounded pool, so that a player's packet goes
+ * out as soon as it is ready. In that case, the packet builder must only read the game state.
+ * <p>
+ * The calling thread always waits until all packets have been sent so that packets sent afterwards cannot overtake
+ * them.
+ */
+class PerPlayerPacketSender {
+    private static final MMLogger LOGGER = MMLogger.create(PerPlayerPacketSender.class);
+
+    private final BooleanSupplier parallel;
+    private final IntSupplier threadCount;
+    private final DaemonWorkerPool workerPool = new DaemonWorkerPool("Player Packet Worker");
+
+    /**
+     * @param parallel    True when the packets should be built in parallel; read on every call
+     * @param threadCount The number of worker threads, 0 or less for one per processor; read on every parallel call
+     */
+    PerPlayerPacketSender(BooleanSupplier parallel, IntSupplier threadCount) {
+        this.parallel = parallel;
+        this.threadCount = threadCount;
+    }
+
+    /**
+     * Builds a packet for each of the given players and sends it to them. Returns when all packets have been sent.
+     * When building or sending fails for a player, the exception is passed on to the caller as in sequential mode; in
+     * parallel mode this happens only after all other players have been handled.
+     *
+     * @param players       The receiving players
+     * @param packetBuilder Builds the packet for a player
+     * @param sender        Sends a packet to the given player ID
+     */
+    void sendToEach(List<Player> players, Function<Player, Packet> packetBuilder, BiConsumer<Integer, Packet> sender) {
+        if (!parallel.getAsBoolean() || (players.size() < 2)) {
+            for (Player player : players) {
+                sender.accept(player.getId(), packetBuilder.apply(player));
+            }
+            return;
+        }
+
+        ExecutorService workers = workerPool.get(threadCount.getAsInt());
+        List<Future<?>> results = new ArrayList<>(players.size());
+        for (Player player : players) {
+            results.add(workers.submit(() -> sender.accept(player.getId(), packetBuilder.apply(player))));
+        }
+        RuntimeException failure = null;
+        for (Future<?> result : results) {
+            try {
+                result.get();
+            } catch (ExecutionException ex) {
+                if (failure == null) {
+                    failure = asUnchecked(ex.getCause());
+                } else {
+                    failure.addSuppressed(ex.getCause());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                LOGGER.error(ex, "Interrupted while sending player packets");
+                return;
+            }
+        }
+        // Like the sequential path, report a failed player to the caller; the other players have been served
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static RuntimeException asUnchecked(Throwable cause) {
+        if (cause instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        } else if (cause instanceof Error error) {
+            throw error;
+        } else {
+            return new IllegalStateException("Failed to build or send a player packet", cause);
+        }
+    }
+}
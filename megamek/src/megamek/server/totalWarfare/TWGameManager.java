@@ -218,6 +218,11 @@ public class TWGameManager extends AbstractGameManager {
     private final InfantryActionTracker infantryActionTracker = new InfantryActionTracker();
     private final BuildingCollapseHandler buildingCollapseHandler = new BuildingCollapseHandler(this);
     private final DeploymentProcessor deploymentProcessor = new DeploymentProcessor(this);
+    private final EntityDeltaTracker entityDeltaTracker = new EntityDeltaTracker();
+    private final VisibilityIndex visibilityIndex = new VisibilityIndex();
+    private final PerPlayerPacketSender perPlayerPacketSender = new PerPlayerPacketSender(
+          () -> game.getOptions().booleanOption(OptionsConstants.BASE_PARALLEL_BLIND_UPDATES),
+          () -> game.getOptions().intOption(OptionsConstants.BASE_BLIND_UPDATE_THREADS));
     final HeatResolver heatResolver = new HeatResolver(this);
 
     /**
@@ -226,7 +231,7 @@ public class TWGameManager extends AbstractGameManager {
     private final ConcurrentLinkedQueue<Server.ReceivedPacket> cfrPacketQueue = new ConcurrentLinkedQueue<>();
 
     public TWGameManager() {
-        EquipmentType.initializeTypes();
+        EquipmentType.initializeTypesInBackground();
         game.getOptions().initialize();
         game.getOptions().loadOptions();
 
@@ -381,6 +386,7 @@ public class TWGameManager extends AbstractGameManager {
      */
     @Override
     public void resetGame() {
+        awaitPendingSaves();
         // remove all entities
         getGame().reset();
         send(createEntitiesPacket());
@@ -745,6 +751,12 @@ public class TWGameManager extends AbstractGameManager {
                 case REROLL_INITIATIVE:
                     receiveInitiativeRerollRequest(packet, connId);
                     break;
+                case ENTITIES_RESYNC_REQUEST:
+                    if (player != null) {
+                        LOGGER.info("Player {} requested a full entity list", player.getName());
+                        sendEntities(connId);
+                    }
+                    break;
                 case FORWARD_INITIATIVE:
                     receiveForwardIni(connId);
                     break;
@@ -25596,7 +25608,7 @@ public class TWGameManager extends AbstractGameManager {
             UnitTargetPair etp = new UnitTargetPair(spotter, entity);
             LosEffects los = losCache.get(etp);
             if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
+                los = visibilityIndex.getLos(game, spotter, entity);
                 losCache.put(etp, los);
             }
             if (Compute.canSee(game, spotter, entity, useSensors, los, allECMInfo)) {
@@ -25647,7 +25659,7 @@ public class TWGameManager extends AbstractGameManager {
             UnitTargetPair etp = new UnitTargetPair(spotter, entity);
             LosEffects los = losCache.get(etp);
             if (los == null) {
-                los = LosEffects.calculateLOS(game, spotter, entity);
+                los = visibilityIndex.getLos(game, spotter, entity);
                 losCache.put(etp, los);
             }
             if (Compute.inSensorRange(game, los, spotter, entity, allECMInfo)) {
@@ -25693,18 +25705,38 @@ public class TWGameManager extends AbstractGameManager {
      * entities
      */
     void entityAllUpdate() {
+        // In the lobby, units are configured in ways the delta checksum doesn't cover; always send everything
+        if (game.getPhase().isLounge()) {
+            if (doBlind()) {
+                for (Player p : game.getPlayersList()) {
+                    send(p.getId(), createFilteredFullEntitiesPacket(p, null));
+                }
+            } else {
+                send(createFullEntitiesPacket());
+            }
+            return;
+        }
+
+        // The entity versions are determined once and then compared for every player
+        entityDeltaTracker.updateVersions(getGame().getEntitiesVector());
+
         // If double-blind is in effect, filter each players' list individually,
         // and then quit out...
         if (doBlind()) {
-            List<Player> playersVector = game.getPlayersList();
-            for (Player p : playersVector) {
-                send(p.getId(), createFilteredFullEntitiesPacket(p, null));
-            }
+            perPlayerPacketSender.sendToEach(game.getPlayersList(),
+                  p -> entityDeltaTracker.createEntitiesPacket(p.getId(),
+                        filterEntities(p, getGame().getEntitiesVector(), null),
+                        getGame().getOutOfGameEntitiesVector(),
+                        getGame().getForces()),
+                  this::send);
             return;
         }
 
-        // Otherwise, send the full list.
-        send(createFullEntitiesPacket());
+        // Otherwise, send the list to everyone, as far as it changed since the last time
+        send(entityDeltaTracker.createEntitiesPacket(EntityDeltaTracker.ALL_PLAYERS,
+              getGame().getEntitiesVector(),
+              getGame().getOutOfGameEntitiesVector(),
+              getGame().getForces()));
     }
 
     /**
@@ -25734,7 +25766,8 @@ public class TWGameManager extends AbstractGameManager {
             vMyEntities.addAll(vEntities);
             for (Entity a : vMyEntities) {
                 for (Entity b : vMyEntities) {
-                    if (a.isEnemyOf(b) && Compute.canSee(game, b, a, true, null, allECMInfo)) {
+                    if (a.isEnemyOf(b) && Compute.canSee(game, b, a, true, visibilityIndex.getLos(game, b, a),
+                          allECMInfo)) {
                         addVisibleEntity(vCanSee, a);
                         break;
                     }
@@ -25780,7 +25813,7 @@ public class TWGameManager extends AbstractGameManager {
                 UnitTargetPair etp = new UnitTargetPair(spotter, entity);
                 LosEffects los = losCache.get(etp);
                 if (los == null) {
-                    los = LosEffects.calculateLOS(game, spotter, entity);
+                    los = visibilityIndex.getLos(game, spotter, entity);
                     losCache.put(etp, los);
                 }
                 // Otherwise, if they can see the entity in question
@@ -27126,13 +27159,16 @@ public class TWGameManager extends AbstractGameManager {
      * Creates a packet containing all current entities
      */
     private Packet createEntitiesPacket() {
+        entityDeltaTracker.invalidateAll();
         return new Packet(PacketCommand.SENDING_ENTITIES, getGame().getEntitiesVector());
     }
 
     /**
-     * Creates a packet containing all current and out-of-game entities
+     * Creates a packet containing all current and out-of-game entities. As the packet may be sent to anyone, every
+     * client will receive a full entity list next time instead of a delta update.
      */
     public Packet createFullEntitiesPacket() {
+        entityDeltaTracker.invalidateAll();
         // DIAGNOSTIC: Nova CEWS network state logging (enable DEBUG logging for C3 debugging)
         if (LOGGER.isDebugEnabled()) {
             for (Entity entity : getGame().getEntitiesVector()) {
@@ -27154,9 +27190,11 @@ public class TWGameManager extends AbstractGameManager {
     }
 
     /**
-     * Creates a packet containing all entities, including wrecks, visible to the player in a blind game
+     * Creates a packet containing all entities, including wrecks, visible to the player in a blind game. The player
+     * will receive a full entity list next time instead of a delta update.
      */
     Packet createFilteredFullEntitiesPacket(Player p, Map<UnitTargetPair, LosEffects> losCache) {
+        entityDeltaTracker.invalidate(p.getId());
         return new Packet(PacketCommand.SENDING_ENTITIES,
               filterEntities(p, getGame().getEntitiesVector(), losCache),
               getGame().getOutOfGameEntitiesVector(),
@@ -27234,6 +27272,7 @@ public class TWGameManager extends AbstractGameManager {
             throw new IllegalArgumentException("Unknown unit condition: " + condition);
         }
 
+        entityIds.forEach(visibilityIndex::invalidateEntity);
         return new Packet(PacketCommand.ENTITY_REMOVE, entityIds, condition, affectedForces);
     }
 
@@ -27412,8 +27451,14 @@ public class TWGameManager extends AbstractGameManager {
             }
         }
 
-        for (Player p : game.getPlayersList()) {
-            send(p.getId(), tacticalGeniusReport ? createTacticalGeniusReportPacket(p) : createReportPacket(p));
+        if (doBlind()) {
+            perPlayerPacketSender.sendToEach(game.getPlayersList(),
+                  p -> tacticalGeniusReport ? createTacticalGeniusReportPacket(p) : createReportPacket(p),
+                  this::send);
+        } else {
+            for (Player p : game.getPlayersList()) {
+                send(p.getId(), tacticalGeniusReport ? createTacticalGeniusReportPacket(p) : createReportPacket(p));
+            }
         }
     }
 
@@ -0,0 +1,210 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.server.totalWarfare;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import megamek.common.Hex;
+import megamek.common.LosEffects;
+import megamek.common.board.Board;
+import megamek.common.board.Coords;
+import megamek.common.game.Game;
+import megamek.common.options.OptionsConstants;
+import megamek.common.units.Entity;
+
+/**
+ * Server-side index of the line of sight between pairs of entities, used by the double-blind visibility checks
+ * (filterEntities, whoCanSee, whoCanDetect). Unlike the per-call LOS caches it is kept between calls, so that after a
+ * unit moves, only the pairs involving that unit are recomputed.
+ * <p>
+ * Every entry validates itself when it is looked up, so no caller has to invalidate it when the game changes. An entry
+ * is recomputed when any of these has changed since the LOS was computed:
+ * <ul>
+ *     <li>the position of either entity (position, board, elevation, altitude, height, transport and deployment
+ *     state)</li>
+ *     <li>any hex on the line between them, detected like in {@link megamek.common.BoardLosCache} through the hex
+ *     objects and their modification counts; this covers terrain, buildings, fire and smoke</li>
+ *     <li>the grounded DropShips on the board and the hexes they occupy; they are the only units that block LOS</li>
+ *     <li>the LOS game options</li>
+ * </ul>
+ * All of these are compared by value, not through hashes, so a cached LOS is never mistaken for a current one.
+ * Only the LOS itself is cached; ECM, sensors and lighting are evaluated by Compute.canSee on every check. Pairs of
+ * entities on different boards are not cached. {@link #invalidateEntity(int)} drops the entries of a unit that has
+ * left the game. Like {@link megamek.common.BoardLosCache}, the index is cleared when it reaches its size limit.
+ * <p>
+ * Lookups may come from several threads at once when the per-player packets are built in parallel. The LOS is then
+ * calculated outside any lock; two threads may calculate the same pair, which is harmless.
+ */
+class VisibilityIndex {
+
+    private static final int MAX_ENTRIES = 20000;
+
+    /** The state of an entity that its LOS to other entities depends on */
+    private record PositionState(Coords position, int boardId, int elevation, int altitude, int height,
+          int transportId, boolean deployed, boolean offBoard, boolean prone, boolean hullDown) {
+
+        static PositionState of(Entity entity) {
+            return new PositionState(entity.getPosition(), entity.getBoardId(), entity.getElevation(),
+                  entity.getAltitude(), entity.getHeight(), entity.getTransportId(), entity.isDeployed(),
+                  entity.isOffBoard(), entity.isProne(), entity.isHullDown());
+        }
+    }
+
+    /** A grounded DropShip on the board with the hexes it blocks */
+    private record BlockerState(int id, Set<Coords> occupiedCoords, int elevation) {
+    }
+
+    private record Entry(LosEffects los, PositionState spotterState, PositionState targetState,
+          List<BlockerState> blockers, int optionFlags, Board board, Coords[] coords, Hex[] hexes,
+          int[] modificationCounts) {
+
+        boolean isValid(Board currentBoard, PositionState currentSpotterState, PositionState currentTargetState,
+              List<BlockerState> currentBlockers, int currentOptionFlags) {
+            if ((board != currentBoard) || !spotterState.equals(currentSpotterState)
+                  || !targetState.equals(currentTargetState) || !blockers.equals(currentBlockers)
+                  || (optionFlags != currentOptionFlags)) {
+                return false;
+            }
+            for (int i = 0; i < hexes.length; i++) {
+                Hex hex = board.getHex(coords[i]);
+                if ((hex != hexes[i]) || ((hex != null) && (hex.getModificationCount() != modificationCounts[i]))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile Game game;
+
+    /**
+     * Returns the LOS from spotter to target, reusing the cached one if nothing it depends on has changed since it was
+     * computed.
+     *
+     * @param game    The current game
+     * @param spotter The spotting entity
+     * @param target  The entity to be seen
+     *
+     * @return The LosEffects between spotter and target
+     */
+    LosEffects getLos(Game game, Entity spotter, Entity target) {
+        if (this.game != game) {
+            switchGame(game);
+        }
+        Board board = game.getBoard(spotter.getBoardId());
+        if ((board == null) || (spotter.getBoardId() != target.getBoardId()) || (spotter.getPosition() == null)
+              || (target.getPosition() == null)) {
+            return LosEffects.calculateLOS(game, spotter, target);
+        }
+        long key = ((long) spotter.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        PositionState spotterState = PositionState.of(spotter);
+        PositionState targetState = PositionState.of(target);
+        List<BlockerState> blockers = blockers(game, spotter.getBoardId());
+        int optionFlags = optionFlags(game);
+        Entry entry = entries.get(key);
+        if ((entry == null) || !entry.isValid(board, spotterState, targetState, blockers, optionFlags)) {
+            Coords[] coords = lineCoords(spotter.getPosition(), target.getPosition());
+            Hex[] hexes = new Hex[coords.length];
+            int[] modificationCounts = new int[coords.length];
+            for (int i = 0; i < coords.length; i++) {
+                hexes[i] = board.getHex(coords[i]);
+                modificationCounts[i] = (hexes[i] == null) ? 0 : hexes[i].getModificationCount();
+            }
+            entry = new Entry(LosEffects.calculateLOS(game, spotter, target), spotterState, targetState, blockers,
+                  optionFlags, board, coords, hexes, modificationCounts);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            entries.put(key, entry);
+        }
+        return entry.los;
+    }
+
+    /**
+     * Drops the cached LOS from and to the given entity, e.g. when it has been removed from the game.
+     *
+     * @param entityId The entity ID
+     */
+    void invalidateEntity(int entityId) {
+        entries.keySet().removeIf(key -> ((int) (key >>> 32) == entityId) || (key.intValue() == entityId));
+    }
+
+    /**
+     * Drops all cached LOS.
+     */
+    void invalidateAll() {
+        entries.clear();
+    }
+
+    private synchronized void switchGame(Game game) {
+        if (this.game != game) {
+            entries.clear();
+            this.game = game;
+        }
+    }
+
+    /**
+     * @return All coords whose hexes the LOS calculation between the two positions may look at: the hexes on the line
+     *       in both directions, with and without split hexes
+     */
+    private static Coords[] lineCoords(Coords from, Coords to) {
+        Set<Coords> line = new LinkedHashSet<>(Coords.intervening(from, to, true));
+        line.addAll(Coords.intervening(from, to));
+        line.addAll(Coords.intervening(to, from, true));
+        return line.toArray(new Coords[0]);
+    }
+
+    private static List<BlockerState> blockers(Game game, int boardId) {
+        List<BlockerState> blockers = new ArrayList<>();
+        for (Entity dropship : game.getGroundedDropships()) {
+            if (dropship.getBoardId() == boardId) {
+                blockers.add(new BlockerState(dropship.getId(), dropship.getOccupiedCoords(),
+                      dropship.getElevation()));
+            }
+        }
+        return blockers;
+    }
+
+    private static int optionFlags(Game game) {
+        return (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_LOS1) ? 1 : 0)
+              | (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_DEAD_ZONES) ? 2 : 0)
+              | (game.getOptions().booleanOption(OptionsConstants.ADVANCED_COMBAT_TAC_OPS_PARTIAL_COVER) ? 4 : 0);
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.utilities;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.game.Game;
+import megamek.common.net.compression.PacketCompression;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
+import megamek.common.net.packets.Packet;
+import megamek.common.util.SerializationHelper;
+import megamek.logging.MMLogger;
+
+/**
+ * Loads saved games and compares the packet marshalling types on the packets the server sends most: the full entity
+ * list, the boards, the turn list and the report log. For each packet and marshaller it prints the raw and gzipped
+ * size and the average time for marshalling plus unmarshalling. It then compares the packet compression codecs on the
+ * same packets: compressed size and ratio, the average time to compress and decompress and the compression
+ * throughput.
+ * <p>
+ * Usage: PacketMarshallingComparisonTool savegame.sav.gz [more save games...]
+ */
+public final class PacketMarshallingComparisonTool {
+    private static final MMLogger logger = MMLogger.create(PacketMarshallingComparisonTool.class);
+
+    private static final int ROUNDS = 20;
+    private static final int[] MARSHALLING_TYPES = { PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING,
+                                                     PacketMarshaller.COMPACT_BINARY_MARSHALING };
+    private static final PacketCompression[] COMPRESSIONS = { PacketCompression.GZIP,
+                                                              PacketCompression.DEFLATE_DICTIONARY };
+
+    public static void main(String... args) {
+        if (args.length == 0) {
+            System.out.println("Usage: PacketMarshallingComparisonTool savegame.sav.gz [more save games...]");
+            return;
+        }
+        EquipmentType.initializeTypes();
+        for (String fileName : args) {
+            try {
+                compare(new File(fileName));
+            } catch (Exception ex) {
+                logger.error(ex, "Could not compare marshalling for {}", fileName);
+            }
+        }
+    }
+
+    private static void compare(File saveFile) throws Exception {
+        Game game;
+        try (InputStream is = new FileInputStream(saveFile);
+              InputStream in = saveFile.getName().toLowerCase().endsWith(".gz") ? new GZIPInputStream(is) : is) {
+            game = (Game) SerializationHelper.getLoadSaveGameXStream().fromXML(in);
+        }
+
+        List<Packet> packets = new ArrayList<>();
+        packets.add(new Packet(PacketCommand.SENDING_ENTITIES, game.getEntitiesVector(),
+              game.getOutOfGameEntitiesVector(), game.getForces()));
+        packets.add(new Packet(PacketCommand.SENDING_BOARD, new HashMap<>(game.getBoards())));
+        packets.add(new Packet(PacketCommand.SENDING_TURNS, game.getTurnsList()));
+        packets.add(new Packet(PacketCommand.SENDING_REPORTS_ALL, game.getAllReports()));
+
+        System.out.printf("%s (%d units)%n", saveFile.getName(), game.getEntitiesVector().size());
+        System.out.printf("%-22s %-10s %12s %12s %12s%n", "Packet", "Marshaller", "Raw bytes", "Gzip bytes",
+              "Time (us)");
+        for (Packet packet : packets) {
+            for (int type : MARSHALLING_TYPES) {
+                PacketMarshaller marshaller = PacketMarshallerFactory.getInstance().getMarshaller(type);
+                byte[] raw = marshall(marshaller, packet);
+                byte[] zipped = PacketCompression.GZIP.compress(raw);
+                long start = System.nanoTime();
+                for (int round = 0; round < ROUNDS; round++) {
+                    marshaller.unmarshall(new ByteArrayInputStream(marshall(marshaller, packet)));
+                }
+                long micros = (System.nanoTime() - start) / ROUNDS / 1000;
+                System.out.printf("%-22s %-10s %12d %12d %12d%n", packet.command(), marshallerName(type),
+                      raw.length, zipped.length, micros);
+            }
+        }
+
+        System.out.println();
+        System.out.printf("%-22s %-10s %-18s %12s %8s %12s %12s %10s%n", "Packet", "Marshaller", "Compression",
+              "Bytes", "Ratio", "Pack (us)", "Unpack (us)", "Pack MB/s");
+        for (Packet packet : packets) {
+            for (int type : MARSHALLING_TYPES) {
+                byte[] raw = marshall(PacketMarshallerFactory.getInstance().getMarshaller(type), packet);
+                for (PacketCompression compression : COMPRESSIONS) {
+                    byte[] compressed = compression.compress(raw);
+                    long start = System.nanoTime();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        compression.compress(raw);
+                    }
+                    long compressNanos = (System.nanoTime() - start) / ROUNDS;
+                    start = System.nanoTime();
+                    for (int round = 0; round < ROUNDS; round++) {
+                        compression.decompress(compressed);
+                    }
+                    long decompressNanos = (System.nanoTime() - start) / ROUNDS;
+                    System.out.printf("%-22s %-10s %-18s %12d %8.3f %12d %12d %10.1f%n", packet.command(),
+                          marshallerName(type), compression, compressed.length,
+                          (double) compressed.length / raw.length, compressNanos / 1000, decompressNanos / 1000,
+                          (raw.length / 1e6) / Math.max(compressNanos / 1e9, 1e-9));
+                }
+            }
+        }
+    }
+
+    private static String marshallerName(int type) {
+        return (type == PacketMarshaller.COMPACT_BINARY_MARSHALING) ? "compact" : "native";
+    }
+
+    private static byte[] marshall(PacketMarshaller marshaller, Packet packet) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        marshaller.marshall(packet, bos);
+        return bos.toByteArray();
+    }
+
+    private PacketMarshallingComparisonTool() {
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.utilities;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import megamek.common.ECMInfo;
+import megamek.common.ToHitData;
+import megamek.common.actions.WeaponAttackAction;
+import megamek.common.compute.ComputeECM;
+import megamek.common.enums.GamePhase;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.equipment.WeaponMounted;
+import megamek.common.game.Game;
+import megamek.common.rolls.TargetRoll;
+import megamek.common.units.Entity;
+import megamek.common.util.SerializationHelper;
+import megamek.logging.MMLogger;
+
+/**
+ * Loads saved games and times the to-hit calculation of every weapon of every unit against every enemy unit. Like the
+ * bot's fire control, it computes the ECM info of all units once per round and passes it to each calculation. For each
+ * round it prints the number of to-hit calculations, how many of them were impossible and the average time per
+ * calculation. The first rounds include the JIT warm-up. To see where the time goes, run it with a Java Flight
+ * Recording, e.g. -XX:StartFlightRecording=filename=tohit.jfr.
+ * <p>
+ * Usage: ToHitTimingTool savegame.sav.gz [more save games...]
+ */
+public final class ToHitTimingTool {
+    private static final MMLogger logger = MMLogger.create(ToHitTimingTool.class);
+
+    private static final int ROUNDS = 10;
+
+    public static void main(String... args) {
+        if (args.length == 0) {
+            System.out.println("Usage: ToHitTimingTool savegame.sav.gz [more save games...]");
+            return;
+        }
+        EquipmentType.initializeTypes();
+        for (String fileName : args) {
+            try {
+                time(new File(fileName));
+            } catch (Exception ex) {
+                logger.error(ex, "Could not time the to-hit calculation for {}", fileName);
+            }
+        }
+    }
+
+    private static void time(File saveFile) throws Exception {
+        Game game;
+        try (InputStream is = new FileInputStream(saveFile);
+              InputStream in = saveFile.getName().toLowerCase().endsWith(".gz") ? new GZIPInputStream(is) : is) {
+            game = (Game) SerializationHelper.getLoadSaveGameXStream().fromXML(in);
+        }
+        List<Entity> units = new ArrayList<>(game.getEntitiesVector());
+        for (Entity unit : units) {
+            unit.setGame(game);
+            unit.restore();
+        }
+        game.setPhase(GamePhase.FIRING);
+
+        System.out.printf("%s (%d units)%n", saveFile.getName(), units.size());
+        System.out.printf("%-6s %12s %12s %14s%n", "Round", "To-hits", "Impossible", "Time (us)");
+        for (int round = 0; round < ROUNDS; round++) {
+            int calculations = 0;
+            int impossible = 0;
+            long start = System.nanoTime();
+            List<ECMInfo> allECMInfo = ComputeECM.computeAllEntitiesECMInfo(game.getEntitiesVector());
+            for (Entity attacker : units) {
+                for (WeaponMounted weapon : attacker.getWeaponList()) {
+                    for (Entity target : units) {
+                        if (!attacker.isEnemyOf(target)) {
+                            continue;
+                        }
+                        WeaponAttackAction attack = new WeaponAttackAction(attacker.getId(),
+                              target.getTargetType(), target.getId(), attacker.getEquipmentNum(weapon));
+                        ToHitData toHit = attack.toHit(game, allECMInfo);
+                        calculations++;
+                        if (toHit.getValue() == TargetRoll.IMPOSSIBLE) {
+                            impossible++;
+                        }
+                    }
+                }
+            }
+            double micros = (System.nanoTime() - start) / 1000.0 / Math.max(calculations, 1);
+            System.out.printf("%-6d %12d %12d %14.1f%n", round + 1, calculations, impossible, micros);
+        }
+    }
+
+    private ToHitTimingTool() {
+    }
+}
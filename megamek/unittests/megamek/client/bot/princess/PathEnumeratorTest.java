@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.bot.princess;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import megamek.common.GameBoardTestCase;
+import megamek.common.Player;
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.Mek;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PathEnumeratorTest extends GameBoardTestCase {
+
+    static {
+        StringBuilder board = new StringBuilder("size 8 8\n");
+        for (int x = 1; x <= 8; x++) {
+            for (int y = 1; y <= 8; y++) {
+                int level = ((x * 3) + y) % 4 == 0 ? 1 : 0;
+                String terrain = ((x + (y * 5)) % 7 == 0) ? "woods:1" : "";
+                board.append(String.format("hex %02d%02d %d \"%s\" \"\"%n", x, y, level, terrain));
+            }
+        }
+        board.append("end");
+        initializeBoard("PATH_ENUMERATOR_08_BY_08", board.toString());
+    }
+
+    private final List<Entity> movers = new ArrayList<>();
+    private Princess princess;
+
+    @BeforeEach
+    void setUp() {
+        setBoard("PATH_ENUMERATOR_08_BY_08");
+        getGame().addPlayer(0, new Player(0, "Owner"));
+        princess = mock(Princess.class);
+        when(princess.getGame()).thenReturn(getGame());
+        when(princess.getName()).thenReturn("Test");
+        when(princess.getUnitBehaviorTracker()).thenReturn(new UnitBehavior());
+        // The movers belong to another player, so no long range paths are planned for them
+        when(princess.getLocalPlayer()).thenReturn(new Player(1, "Bot"));
+
+        movers.clear();
+        movers.add(createMek(1, new Coords(0, 0), 4, 0));
+        movers.add(createMek(2, new Coords(7, 7), 5, 3));
+        movers.add(createMek(3, new Coords(3, 4), 6, 0));
+        movers.add(createMek(4, new Coords(5, 1), 3, 4));
+        movers.add(createMek(5, new Coords(1, 6), 5, 5));
+    }
+
+    private Mek createMek(int id, Coords position, int walkMP, int jumpMP) {
+        Mek mek = new BipedMek();
+        mek.setId(id);
+        mek.setWeight(50.0);
+        mek.setOriginalWalkMP(walkMP);
+        mek.setOriginalJumpMP(jumpMP);
+        getGame().addEntity(mek);
+        mek.setOwnerId(0);
+        mek.setPosition(position);
+        mek.setFacing(id % 6);
+        return mek;
+    }
+
+    /**
+     * @return The computed paths and potential locations of each mover, as text so that they can be compared between
+     *       enumerators
+     */
+    private Map<Integer, String> results(PathEnumerator enumerator) {
+        Map<Integer, String> results = new TreeMap<>();
+        for (Entity mover : movers) {
+            List<String> paths = new ArrayList<>();
+            for (MovePath path : enumerator.getUnitPaths().get(mover.getId())) {
+                paths.add(path.toString());
+            }
+            results.put(mover.getId(), paths + " " + enumerator.getUnitPotentialLocations().get(mover.getId()));
+        }
+        return results;
+    }
+
+    @Test
+    void testConcurrentRecalculationFindsTheSamePathsAsSequential() {
+        PathEnumerator sequential = new PathEnumerator(princess, getGame());
+        sequential.recalculateMovesFor(movers, 1, () -> false);
+        PathEnumerator concurrent = new PathEnumerator(princess, getGame());
+        concurrent.recalculateMovesFor(movers, 4, () -> false);
+        concurrent.shutdown();
+
+        Map<Integer, String> expected = results(sequential);
+        for (Entity mover : movers) {
+            assertFalse(sequential.getUnitPaths().get(mover.getId()).isEmpty());
+        }
+        assertEquals(expected, results(concurrent));
+    }
+
+    @Test
+    void testRecalculationAfterShutdownStillWorks() {
+        PathEnumerator sequential = new PathEnumerator(princess, getGame());
+        sequential.recalculateMovesFor(movers, 1, () -> false);
+        PathEnumerator concurrent = new PathEnumerator(princess, getGame());
+        concurrent.shutdown();
+        concurrent.recalculateMovesFor(movers, 2, () -> false);
+        concurrent.shutdown();
+
+        assertEquals(results(sequential), results(concurrent));
+    }
+
+    @Test
+    void testAbortedRecalculationSkipsUnits() {
+        PathEnumerator concurrent = new PathEnumerator(princess, getGame());
+        concurrent.recalculateMovesFor(movers, 2, () -> true);
+        concurrent.shutdown();
+
+        assertEquals(0, concurrent.getUnitPaths().size());
+    }
+}
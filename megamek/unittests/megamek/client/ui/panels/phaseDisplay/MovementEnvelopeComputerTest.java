@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.panels.phaseDisplay;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import javax.swing.SwingUtilities;
+
+import megamek.client.ui.panels.phaseDisplay.MovementEnvelopeComputer.EnvelopeKey;
+import megamek.common.board.Coords;
+import megamek.common.moves.MovePath;
+import megamek.common.pathfinder.ShortestPathFinder;
+import org.junit.jupiter.api.Test;
+
+class MovementEnvelopeComputerTest {
+
+    private static final Coords LEGAL_HEX = new Coords(1, 1);
+    private static final Coords ILLEGAL_HEX = new Coords(2, 2);
+
+    private final MovementEnvelopeComputer computer = new MovementEnvelopeComputer();
+    private final MovePath startPath = mock(MovePath.class);
+
+    /**
+     * @return A pathfinder mock that reaches one hex legally with 3 MP (2 jump MP) and one hex illegally
+     */
+    private static ShortestPathFinder pathFinder() {
+        MovePath legalPath = mock(MovePath.class);
+        when(legalPath.isMoveLegal()).thenReturn(true);
+        when(legalPath.countMp(false)).thenReturn(3);
+        when(legalPath.countMp(true)).thenReturn(2);
+        MovePath illegalPath = mock(MovePath.class);
+        when(illegalPath.isMoveLegal()).thenReturn(false);
+        ShortestPathFinder pathFinder = mock(ShortestPathFinder.class);
+        when(pathFinder.getAllComputedPaths()).thenReturn(Map.of(LEGAL_HEX, legalPath, ILLEGAL_HEX, illegalPath));
+        return pathFinder;
+    }
+
+    /**
+     * Makes a request and waits until its full envelope has been shown on the EDT.
+     */
+    private Map<Coords, Integer> computeAndWait(EnvelopeKey key, ShortestPathFinder pathFinder) throws Exception {
+        List<Map<Coords, Integer>> shown = new CopyOnWriteArrayList<>();
+        CountDownLatch done = new CountDownLatch(1);
+        computer.compute(key, pathFinder, startPath, false, envelope -> {
+            shown.add(envelope);
+            done.countDown();
+        });
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        return shown.get(shown.size() - 1);
+    }
+
+    @Test
+    void testComputeNowContainsOnlyLegalHexes() {
+        assertEquals(Map.of(LEGAL_HEX, 3), computer.computeNow(pathFinder(), startPath, false));
+        assertEquals(Map.of(LEGAL_HEX, 2), computer.computeNow(pathFinder(), startPath, true));
+    }
+
+    @Test
+    void testComputeShowsEnvelopeAndCachesIt() throws Exception {
+        EnvelopeKey key = new EnvelopeKey(1, 0, 0, 0);
+        ShortestPathFinder pathFinder = pathFinder();
+        assertEquals(Map.of(LEGAL_HEX, 3), computeAndWait(key, pathFinder));
+
+        ShortestPathFinder secondPathFinder = pathFinder();
+        assertEquals(Map.of(LEGAL_HEX, 3), computeAndWait(key, secondPathFinder));
+        verify(pathFinder, times(1)).run(startPath);
+        verify(secondPathFinder, never()).run(any(MovePath.class));
+    }
+
+    @Test
+    void testInvalidateDropsCachedEnvelopes() throws Exception {
+        EnvelopeKey key = new EnvelopeKey(1, 0, 0, 0);
+        computeAndWait(key, pathFinder());
+        computer.invalidate();
+
+        ShortestPathFinder pathFinder = pathFinder();
+        computeAndWait(key, pathFinder);
+        verify(pathFinder, times(1)).run(startPath);
+    }
+
+    @Test
+    void testCancelledComputationIsNotShown() throws Exception {
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ShortestPathFinder blockedPathFinder = pathFinder();
+        doAnswer(invocation -> {
+            running.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return null;
+        }).when(blockedPathFinder).run(startPath);
+
+        List<Map<Coords, Integer>> shown = new CopyOnWriteArrayList<>();
+        computer.compute(new EnvelopeKey(1, 0, 0, 0), blockedPathFinder, startPath, false, shown::add);
+        assertTrue(running.await(10, TimeUnit.SECONDS));
+        computer.cancel();
+        release.countDown();
+
+        // The worker is single-threaded, so this request finishes after the cancelled one
+        computeAndWait(new EnvelopeKey(2, 0, 0, 0), pathFinder());
+        SwingUtilities.invokeAndWait(() -> {});
+        assertTrue(shown.isEmpty());
+    }
+}
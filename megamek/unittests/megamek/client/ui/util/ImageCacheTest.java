@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.client.ui.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.image.BufferedImage;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class ImageCacheTest {
+
+    /** Keys that are multiples of 16 end up in the same stripe */
+    private static final int STRIPE_STEP = 16;
+
+    /** A budget of 200 bytes per stripe, so two values of 100 bytes fit into one stripe */
+    private static ImageCache<Integer, String> createCache() {
+        return new ImageCache<>(16 * 200, value -> 100);
+    }
+
+    @Test
+    void testEvictsLeastRecentlyUsed() {
+        ImageCache<Integer, String> cache = createCache();
+        cache.put(0, "first");
+        cache.put(STRIPE_STEP, "second");
+        cache.get(0);
+        long evictionsBefore = ImageCache.getStatistics().evictions();
+
+        cache.put(2 * STRIPE_STEP, "third");
+
+        assertNotNull(cache.get(0));
+        assertNull(cache.get(STRIPE_STEP));
+        assertNotNull(cache.get(2 * STRIPE_STEP));
+        assertEquals(2, cache.size());
+        assertEquals(1, ImageCache.getStatistics().evictions() - evictionsBefore);
+    }
+
+    @Test
+    void testOtherStripesAreUnaffected() {
+        ImageCache<Integer, String> cache = createCache();
+        for (int key = 0; key < 16; key++) {
+            cache.put(key, "value" + key);
+        }
+        assertEquals(16, cache.size());
+    }
+
+    @Test
+    void testRemoveAndClearReleaseBytes() {
+        ImageCache<Integer, String> cache = createCache();
+        long bytesBefore = ImageCache.getStatistics().bytes();
+        cache.put(1, "one");
+        cache.put(2, "two");
+        assertEquals(200, ImageCache.getStatistics().bytes() - bytesBefore);
+
+        cache.remove(1);
+        assertNull(cache.get(1));
+        assertEquals(100, ImageCache.getStatistics().bytes() - bytesBefore);
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, ImageCache.getStatistics().bytes() - bytesBefore);
+    }
+
+    @Test
+    void testEstimateBytes() {
+        BufferedImage image = new BufferedImage(10, 20, BufferedImage.TYPE_INT_ARGB);
+        assertEquals(800, ImageCache.estimateBytes(image));
+        assertEquals(1600, ImageCache.estimateBytes(List.of(image, image)));
+    }
+}
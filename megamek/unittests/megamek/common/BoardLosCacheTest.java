@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import megamek.common.board.Coords;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardLosCacheTest extends GameBoardTestCase {
+
+    static {
+        initializeBoard("BOARD_LOS_CACHE_01_BY_05", """
+              size 1 5
+              hex 0101 0 "" ""
+              hex 0102 0 "" ""
+              hex 0103 0 "" ""
+              hex 0104 0 "" ""
+              hex 0105 0 "" ""
+              end"""
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        setBoard("BOARD_LOS_CACHE_01_BY_05");
+        getGame().getBoard().getLosCache().clear();
+    }
+
+    private LosEffects.AttackInfo attackInfo() {
+        LosEffects.AttackInfo attackInfo = new LosEffects.AttackInfo();
+        attackInfo.attackPos = new Coords(0, 0);
+        attackInfo.targetPos = new Coords(0, 4);
+        attackInfo.attackAbsHeight = 1;
+        attackInfo.targetAbsHeight = 1;
+        attackInfo.attackHeight = 1;
+        attackInfo.targetHeight = 1;
+        attackInfo.attOnLand = true;
+        attackInfo.targetOnLand = true;
+        return attackInfo;
+    }
+
+    @Test
+    void testCachedLosIsACopy() {
+        LosEffects first = LosEffects.calculateLos(getGame(), attackInfo());
+        first.setTargetCover(LosEffects.COVER_FULL);
+        LosEffects second = LosEffects.calculateLos(getGame(), attackInfo());
+        assertNotSame(first, second);
+        assertEquals(LosEffects.COVER_NONE, second.getTargetCover());
+        assertTrue(second.canSee());
+    }
+
+    @Test
+    void testHexChangedInPlaceIsNoticed() {
+        Hex hex = getGame().getBoard().getHex(new Coords(0, 2));
+        assertTrue(LosEffects.calculateLos(getGame(), attackInfo()).canSee());
+        try {
+            hex.addTerrain(new Terrain(Terrains.SCREEN, 1));
+            assertFalse(LosEffects.calculateLos(getGame(), attackInfo()).canSee());
+        } finally {
+            hex.removeTerrain(Terrains.SCREEN);
+        }
+        assertTrue(LosEffects.calculateLos(getGame(), attackInfo()).canSee());
+    }
+
+    @Test
+    void testReplacedHexIsNoticed() {
+        Coords coords = new Coords(0, 2);
+        Hex original = getGame().getBoard().getHex(coords);
+        assertTrue(LosEffects.calculateLos(getGame(), attackInfo()).canSee());
+        try {
+            getGame().getBoard().setHex(coords, new Hex(0, "screen:1", ""));
+            assertFalse(LosEffects.calculateLos(getGame(), attackInfo()).canSee());
+        } finally {
+            getGame().getBoard().setHex(coords, original);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.Test;
+
+class HexTest {
+
+    @Test
+    void testTerrainsAreOrderedByType() {
+        Hex hex = new Hex(0, "water:2;woods:1;foliage_elev:2;road:1", "");
+        assertArrayEquals(new int[] { Terrains.WOODS, Terrains.WATER, Terrains.ROAD, Terrains.FOLIAGE_ELEV },
+              hex.getTerrainTypes());
+        assertEquals(4, hex.terrainsPresent());
+        assertEquals(2, hex.terrainLevel(Terrains.WATER));
+        assertEquals(Terrain.LEVEL_NONE, hex.terrainLevel(Terrains.ROUGH));
+    }
+
+    @Test
+    void testAddReplaceAndRemoveTerrain() {
+        Hex hex = new Hex();
+        Terrain woods = new Terrain(Terrains.WOODS, 1);
+        hex.addTerrain(woods);
+        hex.addTerrain(new Terrain(Terrains.WATER, 1));
+        assertSame(woods, hex.getTerrain(Terrains.WOODS));
+
+        Terrain heavyWoods = new Terrain(Terrains.WOODS, 2);
+        hex.addTerrain(heavyWoods);
+        assertSame(heavyWoods, hex.getTerrain(Terrains.WOODS));
+        assertEquals(2, hex.terrainsPresent());
+
+        hex.removeTerrain(Terrains.WOODS);
+        assertFalse(hex.containsTerrain(Terrains.WOODS));
+        assertNull(hex.getTerrain(Terrains.WOODS));
+        assertEquals(1, hex.terrainLevel(Terrains.WATER));
+
+        hex.removeTerrain(Terrains.ROUGH);
+        assertEquals(1, hex.terrainsPresent());
+
+        hex.removeAllTerrains();
+        assertEquals(0, hex.terrainsPresent());
+        assertFalse(hex.containsTerrain(Terrains.WATER));
+    }
+
+    @Test
+    void testInvalidTypesAreNotContained() {
+        Hex hex = new Hex(0, "woods:1", "");
+        assertFalse(hex.containsTerrain(-1));
+        assertFalse(hex.containsTerrain(1000));
+        assertNull(hex.getTerrain(1000));
+    }
+
+    @Test
+    void testDuplicateCopiesTerrains() {
+        Hex hex = new Hex(2, "woods:1;water:1", "grass");
+        Hex copy = hex.duplicate();
+        assertEquals(2, copy.getLevel());
+        assertArrayEquals(hex.getTerrainTypes(), copy.getTerrainTypes());
+        assertNotSame(hex.getTerrain(Terrains.WOODS), copy.getTerrain(Terrains.WOODS));
+        assertTrue(copy.containsAllTerrainsOf(Terrains.WOODS, Terrains.WATER));
+    }
+}
@@ -34,6 +34,9 @@
 package megamek.common;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
@@ -113,4 +116,30 @@ class MovePathTest {
         }
 
     }
+
+    @Test
+    void testCloneIsIndependentOfOriginal() {
+        Game mockGame = mock(Game.class);
+        GameOptions mockOptions = mock(GameOptions.class);
+        PlanetaryConditions mockPC = new PlanetaryConditions();
+        mockPC.setGravity(1.0f);
+
+        when(mockGame.getPlanetaryConditions()).thenReturn(mockPC);
+        when(mockGame.getOptions()).thenReturn(mockOptions);
+
+        Entity mockMek = mock(BipedMek.class);
+
+        MovePath original = new MovePath(mockGame, mockMek);
+        original.addStep(MoveStepType.TURN_LEFT);
+        MovePath copy = original.clone();
+        copy.addStep(MoveStepType.FORWARDS);
+
+        assertEquals(1, original.length());
+        assertEquals(2, copy.length());
+        assertSame(original.getStep(0), copy.getStep(0));
+        assertSame(original.getCachedEntityState(), copy.getCachedEntityState());
+        assertTrue(copy.contains(MoveStepType.FORWARDS));
+        assertFalse(original.contains(MoveStepType.FORWARDS));
+        assertTrue(copy.contains(MoveStepType.TURN_LEFT));
+    }
 }
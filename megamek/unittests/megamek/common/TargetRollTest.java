@@ -36,6 +36,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Random;
+
 import megamek.common.compute.Compute;
 import megamek.common.game.Game;
 import megamek.common.options.GameOptions;
@@ -191,6 +193,35 @@ class TargetRollTest {
         assertEquals("2", roll.getValueAsString());
     }
 
+    @Test
+    void addedModifiersGiveSameValueAsRecalculation() {
+        int[] values = { -2, -1, 0, 1, 2, 3, TargetRoll.IMPOSSIBLE, TargetRoll.AUTOMATIC_FAIL,
+                         TargetRoll.AUTOMATIC_SUCCESS, TargetRoll.CHECK_FALSE };
+        Random random = new Random(42);
+        for (int run = 0; run < 500; run++) {
+            TargetRoll roll = basicTargetRoll();
+            for (int i = 0; i < 20; i++) {
+                roll.addModifier(values[random.nextInt(values.length)], "mod");
+                assertEquals(recalculatedValue(roll), roll.getValue());
+            }
+            roll.removeAutos(random.nextBoolean());
+            assertEquals(recalculatedValue(roll), roll.getValue());
+        }
+    }
+
+    private static int recalculatedValue(TargetRoll roll) {
+        int total = 0;
+        for (TargetRollModifier modifier : roll.getModifiers()) {
+            int value = modifier.value();
+            if ((value == TargetRoll.IMPOSSIBLE) || (value == TargetRoll.AUTOMATIC_FAIL)
+                  || (value == TargetRoll.AUTOMATIC_SUCCESS) || (value == TargetRoll.CHECK_FALSE)) {
+                return value;
+            }
+            total += value;
+        }
+        return total;
+    }
+
     // Check to-hit roll mods for VTOL, WiGE, jumping Hovers, etc.
     private Game setupGame() {
         Game game = new Game();
@@ -0,0 +1,104 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.autoResolve;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import megamek.common.Player;
+import megamek.server.victory.VictoryResult;
+import org.junit.jupiter.api.Test;
+
+class SimulationStatisticsTest {
+
+    private static VictoryResult result(int winningTeam, int winningPlayer) {
+        VictoryResult victoryResult = mock(VictoryResult.class);
+        when(victoryResult.getWinningTeam()).thenReturn(winningTeam);
+        when(victoryResult.getWinningPlayer()).thenReturn(winningPlayer);
+        when(victoryResult.isDraw()).thenCallRealMethod();
+        return victoryResult;
+    }
+
+    @Test
+    void testCountsVictoriesLossesAndDraws() {
+        SimulationStatistics statistics = new SimulationStatistics(1);
+        statistics.addResult(result(1, 0));
+        statistics.addResult(result(1, 0));
+        statistics.addResult(result(2, 3));
+        statistics.addResult(result(Player.TEAM_NONE, Player.PLAYER_NONE));
+        statistics.addFailure();
+
+        assertEquals(2, statistics.getVictories());
+        assertEquals(1, statistics.getLosses());
+        assertEquals(1, statistics.getDraws());
+        assertEquals(1, statistics.getFailures());
+        assertEquals(4, statistics.getResults());
+        assertEquals(5, statistics.getRuns());
+        assertEquals(0.5, statistics.getWinProbability(), 1e-9);
+    }
+
+    @Test
+    void testWilsonConfidenceInterval() {
+        SimulationStatistics statistics = new SimulationStatistics(1);
+        for (int i = 0; i < 50; i++) {
+            statistics.addResult(result(1, 0));
+            statistics.addResult(result(2, 3));
+        }
+
+        assertEquals(0.4038, statistics.getWinProbabilityLowerBound(), 1e-3);
+        assertEquals(0.5962, statistics.getWinProbabilityUpperBound(), 1e-3);
+        assertEquals(0.0962, statistics.getConfidenceHalfWidth(), 1e-3);
+    }
+
+    @Test
+    void testIntervalStaysWithinBounds() {
+        SimulationStatistics statistics = new SimulationStatistics(1);
+        for (int i = 0; i < 10; i++) {
+            statistics.addResult(result(1, 0));
+        }
+
+        assertEquals(1.0, statistics.getWinProbabilityUpperBound(), 1e-9);
+        assertEquals(1.0, statistics.getWinProbability(), 1e-9);
+    }
+
+    @Test
+    void testNoResults() {
+        SimulationStatistics statistics = new SimulationStatistics(1);
+
+        assertEquals(0, statistics.getWinProbability(), 1e-9);
+        assertEquals(1, statistics.getConfidenceHalfWidth(), 1e-9);
+        assertEquals(0, statistics.getMeanCasualties(1), 1e-9);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.board;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import megamek.common.Hex;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BoardTerrainIndexTest {
+
+    private Board board;
+
+    @BeforeEach
+    void setUp() {
+        // A 2 x 3 board with fire in 0201 and 0203 and swamp in 0103
+        String[] terrains = { "", "fire:1", "", "", "swamp:2", "fire:1" };
+        Hex[] hexes = new Hex[terrains.length];
+        for (int i = 0; i < hexes.length; i++) {
+            hexes[i] = new Hex(0, terrains[i], "", new Coords(i % 2, i / 2));
+        }
+        board = new Board();
+        board.newData(2, 3, hexes, null);
+    }
+
+    @Test
+    void testHexesAreFoundInBoardOrder() {
+        assertEquals(List.of(new Coords(0, 2), new Coords(1, 0), new Coords(1, 2)),
+              board.getHexesWithTerrain(Terrains.FIRE, Terrains.SWAMP));
+        assertEquals(List.of(new Coords(1, 0), new Coords(1, 2)), board.getHexesWithTerrain(Terrains.FIRE));
+    }
+
+    @Test
+    void testTerrainChangedInPlaceIsNoticed() {
+        assertEquals(2, board.getHexesWithTerrain(Terrains.FIRE).size());
+
+        board.getHex(0, 0).addTerrain(new Terrain(Terrains.FIRE, 1));
+        board.getHex(1, 0).removeTerrain(Terrains.FIRE);
+
+        assertEquals(List.of(new Coords(0, 0), new Coords(1, 2)), board.getHexesWithTerrain(Terrains.FIRE));
+    }
+
+    @Test
+    void testReplacedHexIsNoticed() {
+        assertEquals(2, board.getHexesWithTerrain(Terrains.FIRE).size());
+        Hex oldHex = board.getHex(1, 2);
+
+        board.setHex(new Coords(1, 2), new Hex(0, "", "", new Coords(1, 2)));
+        assertEquals(List.of(new Coords(1, 0)), board.getHexesWithTerrain(Terrains.FIRE));
+
+        // The replaced hex is no longer part of the board
+        oldHex.addTerrain(new Terrain(Terrains.SCREEN, 1));
+        assertTrue(board.getHexesWithTerrain(Terrains.SCREEN).isEmpty());
+    }
+}
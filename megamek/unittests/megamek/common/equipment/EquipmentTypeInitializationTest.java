@@ -0,0 +1,93 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.equipment;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests that the equipment types can be looked up from several threads while they are being created.
+ */
+class EquipmentTypeInitializationTest {
+
+    @Test
+    void testConcurrentLookupsSeeAllTypes() throws Exception {
+        EquipmentType.initializeTypesInBackground();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Callable<EquipmentType>> lookups = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                lookups.add(() -> EquipmentType.get(EquipmentTypeLookup.JUMP_JET));
+            }
+            List<Future<EquipmentType>> results = executor.invokeAll(lookups);
+            EquipmentType jumpJet = results.get(0).get();
+            assertNotNull(jumpJet);
+            for (Future<EquipmentType> result : results) {
+                assertSame(jumpJet, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testLookupIgnoresCase() {
+        EquipmentType jumpJet = EquipmentType.get(EquipmentTypeLookup.JUMP_JET);
+        assertNotNull(jumpJet);
+        assertSame(jumpJet, EquipmentType.get(EquipmentTypeLookup.JUMP_JET.toUpperCase()));
+    }
+
+    @Test
+    void testBackgroundInitializationDoesNotWaitForTypeCreation() throws Exception {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Creating the types holds this monitor; starting the background creation must not wait for it
+            synchronized (EquipmentType.class) {
+                executor.submit(EquipmentType::initializeTypesInBackground).get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import megamek.common.board.Coords;
+import org.junit.jupiter.api.Test;
+
+class EntityPositionIndexTest {
+
+    private static final Coords CENTER = new Coords(5, 5);
+
+    @Test
+    void lookupByBoardOnlyFindsUnitsOnThatBoard() {
+        EntityPositionIndex index = new EntityPositionIndex();
+        index.update(1, 0, List.of(CENTER));
+        index.update(2, 1, List.of(CENTER));
+
+        assertEquals(List.of(1), index.entitiesAt(CENTER, 0));
+        assertEquals(List.of(2), index.entitiesAt(CENTER, 1));
+        assertEquals(Set.of(1, 2), Set.copyOf(index.entitiesAt(CENTER)));
+    }
+
+    @Test
+    void updateReplacesAllPreviousPositions() {
+        EntityPositionIndex index = new EntityPositionIndex();
+        List<Coords> largePositions = List.of(CENTER, CENTER.translated(0), CENTER.translated(3));
+        index.update(1, 0, largePositions);
+        assertEquals(Set.copyOf(largePositions), index.positionsOf(1));
+
+        Coords newPosition = new Coords(10, 10);
+        index.update(1, 0, List.of(newPosition));
+
+        assertEquals(Set.of(newPosition), index.positionsOf(1));
+        for (Coords coords : largePositions) {
+            assertTrue(index.entitiesAt(coords, 0).isEmpty());
+        }
+        assertEquals(List.of(1), index.entitiesAt(newPosition, 0));
+    }
+
+    @Test
+    void changingTheBoardMovesTheUnit() {
+        EntityPositionIndex index = new EntityPositionIndex();
+        index.update(1, 0, List.of(CENTER));
+        index.update(1, 2, List.of(CENTER));
+
+        assertTrue(index.entitiesAt(CENTER, 0).isEmpty());
+        assertEquals(List.of(1), index.entitiesAt(CENTER, 2));
+    }
+
+    @Test
+    void removeAndEmptyPositionsDropTheUnit() {
+        EntityPositionIndex index = new EntityPositionIndex();
+        index.update(1, 0, List.of(CENTER));
+        index.update(2, 0, List.of(CENTER));
+
+        index.remove(1);
+        index.update(2, 0, List.of());
+
+        assertTrue(index.entitiesAt(CENTER).isEmpty());
+        assertTrue(index.positionsOf(1).isEmpty());
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    void unitsWithoutBoardAreFoundByCoords() {
+        EntityPositionIndex index = new EntityPositionIndex();
+        index.update(1, -1, List.of(CENTER));
+
+        assertEquals(List.of(1), index.entitiesAt(CENTER));
+        assertEquals(Set.of(CENTER), index.positionsOf(1));
+    }
+}
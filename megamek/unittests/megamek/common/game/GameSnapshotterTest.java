@@ -0,0 +1,147 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.game;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.io.IOException;
+
+import megamek.common.Player;
+import megamek.common.equipment.EquipmentType;
+import megamek.common.equipment.EquipmentTypeLookup;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Crew;
+import megamek.common.units.CrewType;
+import megamek.common.units.Entity;
+import megamek.common.units.Infantry;
+import megamek.common.units.Mek;
+import megamek.common.util.SerializationHelper;
+import megamek.common.weapons.infantry.InfantryWeapon;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class GameSnapshotterTest {
+
+    private Game game;
+    private Entity first;
+    private Entity second;
+
+    @BeforeAll
+    static void initializeEquipment() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void setUp() {
+        game = new Game();
+        Player player = new Player(0, "Player");
+        game.addPlayer(0, player);
+        first = createMek(player, "First");
+        second = createMek(player, "Second");
+    }
+
+    @Test
+    void testSnapshotIsACopy() throws IOException {
+        GameSnapshot snapshot = new GameSnapshotter().takeSnapshot(game);
+        first.setFacing(3);
+
+        Game copy = snapshot.getGame();
+        assertNotSame(game, copy);
+        assertNotSame(first, copy.getEntity(first.getId()));
+        assertEquals(0, copy.getEntity(first.getId()).getFacing());
+        assertEquals("Second", copy.getEntity(second.getId()).getChassis());
+    }
+
+    @Test
+    void testCopiesAreNotShared() throws IOException {
+        GameSnapshotter snapshotter = new GameSnapshotter();
+        GameSnapshot firstSnapshot = snapshotter.takeSnapshot(game);
+        first.setFacing(3);
+        GameSnapshot secondSnapshot = snapshotter.takeSnapshot(game);
+
+        Game firstCopy = firstSnapshot.getGame();
+        Game secondCopy = secondSnapshot.getGame();
+        assertNotSame(firstCopy.getEntity(second.getId()), secondCopy.getEntity(second.getId()));
+        assertNotSame(firstCopy, firstSnapshot.getGame());
+        assertEquals(0, firstCopy.getEntity(first.getId()).getFacing());
+        assertEquals(3, secondCopy.getEntity(first.getId()).getFacing());
+    }
+
+    @Test
+    void testCopyRoundTripsThroughSaveGameXStream() throws IOException {
+        first.setFacing(3);
+        Game copy = new GameSnapshotter().takeSnapshot(game).getGame();
+
+        String xml = SerializationHelper.getSaveGameXStream().toXML(copy);
+        Game loaded = (Game) SerializationHelper.getLoadSaveGameXStream().fromXML(xml);
+
+        assertEquals(2, loaded.getEntitiesVector().size());
+        assertEquals("First", loaded.getEntity(first.getId()).getChassis());
+        assertEquals(3, loaded.getEntity(first.getId()).getFacing());
+        assertEquals("Second", loaded.getEntity(second.getId()).getChassis());
+        assertEquals(first.getInternal(Mek.LOC_CENTER_TORSO),
+              loaded.getEntity(first.getId()).getInternal(Mek.LOC_CENTER_TORSO));
+    }
+
+    @Test
+    void testCopiedEntitiesAreRestored() throws IOException {
+        Infantry infantry = new Infantry();
+        infantry.setId(game.getNextEntityId());
+        infantry.setChassis("Foot");
+        infantry.setPrimaryWeapon((InfantryWeapon) EquipmentType.get(EquipmentTypeLookup.INFANTRY_ASSAULT_RIFLE));
+        game.addEntity(infantry);
+
+        Game copy = new GameSnapshotter().takeSnapshot(game).getGame();
+
+        assertEquals(3, copy.getEntitiesVector().size());
+        assertSame(infantry.getPrimaryWeapon(), ((Infantry) copy.getEntity(infantry.getId())).getPrimaryWeapon());
+    }
+
+    private Entity createMek(Player player, String chassis) {
+        Mek mek = new BipedMek();
+        mek.setGame(game);
+        mek.setId(game.getNextEntityId());
+        mek.setChassis(chassis);
+        mek.setModel("Test");
+        mek.setWeight(50);
+        mek.setCrew(new Crew(CrewType.SINGLE));
+        mek.setOwner(player);
+        mek.autoSetInternal();
+        game.addEntity(mek);
+        return mek;
+    }
+}
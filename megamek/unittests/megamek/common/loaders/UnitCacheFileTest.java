@@ -0,0 +1,164 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.loaders;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.ObjectStreamClass;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class UnitCacheFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testRoundTripSkipsMissingSources() throws IOException {
+        File unitFile = Files.createFile(tempDir.resolve("Atlas AS7-D.mtf")).toFile();
+        File zipFile = Files.createFile(tempDir.resolve("units.zip")).toFile();
+        File missingFile = tempDir.resolve("Gone.mtf").toFile();
+        MekSummary atlas = summary("Atlas", "AS7-D", unitFile, null);
+        MekSummary locust = summary("Locust", "LCT-1V", zipFile, "mechs/Locust LCT-1V.mtf");
+        MekSummary gone = summary("Gone", "X", missingFile, null);
+        MekSummary wasp = summary("Wasp", "WSP-1A", zipFile, "mechs/Wasp WSP-1A.mtf");
+
+        File cacheFile = tempDir.resolve("units.cache").toFile();
+        UnitCacheFile.write(cacheFile, List.of(atlas, locust, gone, wasp));
+        UnitCacheFile.Contents contents = UnitCacheFile.read(cacheFile, () -> false);
+
+        assertEquals(List.of(atlas, locust, wasp), contents.units());
+        assertEquals(List.of(unitFile.toString(), "mechs/Locust LCT-1V.mtf", "mechs/Wasp WSP-1A.mtf"),
+              contents.knownFiles());
+        assertEquals("mechs/Wasp WSP-1A.mtf", contents.units().get(2).getEntryName());
+    }
+
+    @Test
+    void testIndexFindsSingleUnitByName() throws IOException {
+        File zipFile = Files.createFile(tempDir.resolve("units.zip")).toFile();
+        MekSummary locust = summary("Locust", "LCT-1V", zipFile, "mechs/Locust LCT-1V.mtf");
+        MekSummary wasp = summary("Wasp", "WSP-1A", zipFile, "mechs/Wasp WSP-1A.mtf");
+        MekSummary gone = summary("Gone", "X", tempDir.resolve("Gone.mtf").toFile(), null);
+
+        File cacheFile = tempDir.resolve("units.cache").toFile();
+        UnitCacheFile.write(cacheFile, List.of(locust, gone, wasp));
+        UnitCacheFile.Index index = UnitCacheFile.readIndex(cacheFile);
+
+        assertEquals(wasp, index.find("Wasp WSP-1A"));
+        assertEquals(locust, index.find("Locust LCT-1V"));
+        // The index does not check the source; that is up to the caller
+        assertEquals(gone, index.find("Gone X"));
+        assertNull(index.find("Atlas AS7-D"));
+        assertEquals(cacheFile.lastModified(), index.written());
+    }
+
+    @Test
+    void testReadCancelled() throws IOException {
+        File unitFile = Files.createFile(tempDir.resolve("Atlas AS7-D.mtf")).toFile();
+        File cacheFile = tempDir.resolve("units.cache").toFile();
+        UnitCacheFile.write(cacheFile, List.of(summary("Atlas", "AS7-D", unitFile, null)));
+
+        assertNull(UnitCacheFile.read(cacheFile, () -> true));
+    }
+
+    @Test
+    void testStopConditionIsOnlyCheckedOnTheCallingThread() throws IOException {
+        // The unit cache loader stops when called on any thread but its own, which must not skip units
+        File zipFile = Files.createFile(tempDir.resolve("units.zip")).toFile();
+        List<MekSummary> units = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            units.add(summary("Unit", Integer.toString(i), zipFile, "mechs/Unit " + i + ".mtf"));
+        }
+        File cacheFile = tempDir.resolve("units.cache").toFile();
+        UnitCacheFile.write(cacheFile, units);
+
+        Thread caller = Thread.currentThread();
+        UnitCacheFile.Contents contents = UnitCacheFile.read(cacheFile, () -> Thread.currentThread() != caller);
+        assertEquals(units, contents.units());
+    }
+
+    @Test
+    void testForeignFileIsRejected() throws IOException {
+        File cacheFile = Files.write(tempDir.resolve("units.cache"), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }).toFile();
+
+        assertThrows(StreamCorruptedException.class, () -> UnitCacheFile.read(cacheFile, () -> false));
+    }
+
+    @Test
+    void testChangedClassIsRejected() throws IOException {
+        File unitFile = Files.createFile(tempDir.resolve("Atlas AS7-D.mtf")).toFile();
+        File cacheFile = tempDir.resolve("units.cache").toFile();
+        UnitCacheFile.write(cacheFile, List.of(summary("Atlas", "AS7-D", unitFile, null)));
+
+        // The first class table entry is MekSummary; alter its structure hash
+        byte[] bytes = Files.readAllBytes(cacheFile.toPath());
+        int hashPosition = 4 + 4 + 8 + 4 + 2 + MekSummary.class.getName().length();
+        bytes[hashPosition] ^= 1;
+        Files.write(cacheFile.toPath(), bytes);
+
+        assertThrows(InvalidClassException.class, () -> UnitCacheFile.read(cacheFile, () -> false));
+    }
+
+    @Test
+    void testStructureHashDependsOnRuntimeClass() {
+        // MekSummary holds its movement in a Map field; the runtime class of the map is what gets hashed
+        assertNotEquals(UnitCacheFile.structureHash(ObjectStreamClass.lookup(HashMap.class)),
+              UnitCacheFile.structureHash(ObjectStreamClass.lookup(LinkedHashMap.class)));
+    }
+
+    private static MekSummary summary(String chassis, String model, File source, String entryName) {
+        MekSummary summary = new MekSummary();
+        summary.setName(chassis + " " + model);
+        summary.setChassis(chassis);
+        summary.setModel(model);
+        summary.setUnitType("Mek");
+        summary.setSourceFile(source);
+        summary.setEntryName(entryName);
+        return summary;
+    }
+}
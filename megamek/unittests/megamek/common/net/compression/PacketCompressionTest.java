@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.compression;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import megamek.common.net.enums.PacketCommand;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class PacketCompressionTest {
+
+    private static final byte[] DATA = "megamek.common.units.BipedMek megamek.common.equipment.WeaponMounted ".repeat(50)
+          .getBytes(StandardCharsets.UTF_8);
+
+    @AfterEach
+    void tearDown() {
+        CompressionPolicy.reset();
+    }
+
+    @Test
+    void testRoundTrip() throws IOException {
+        for (PacketCompression compression : PacketCompression.values()) {
+            byte[] compressed = compression.compress(DATA);
+            assertArrayEquals(DATA, compression.decompress(compressed), compression.name());
+            assertEquals(compression, PacketCompression.fromId(compression.getId()));
+        }
+        assertTrue(PacketCompression.DEFLATE_DICTIONARY.compress(DATA).length < DATA.length);
+    }
+
+    @Test
+    void testCorruptDataIsRejected() throws IOException {
+        byte[] compressed = PacketCompression.DEFLATE_DICTIONARY.compress(DATA);
+        byte[] truncated = new byte[compressed.length / 2];
+        System.arraycopy(compressed, 0, truncated, 0, truncated.length);
+
+        assertThrows(IOException.class, () -> PacketCompression.DEFLATE_DICTIONARY.decompress(truncated));
+        assertThrows(IOException.class, () -> PacketCompression.fromId(99));
+    }
+
+    @Test
+    void testNegotiate() {
+        int checksum = PacketCompression.getDictionaryChecksum();
+        List<Integer> offered = PacketCompression.getSupportedIds();
+        assertEquals(PacketCompression.DEFLATE_DICTIONARY, PacketCompression.negotiate(offered, checksum, true));
+        assertEquals(PacketCompression.GZIP, PacketCompression.negotiate(offered, checksum, false));
+        assertEquals(PacketCompression.GZIP, PacketCompression.negotiate(offered, checksum + 1, true));
+        assertEquals(PacketCompression.GZIP, PacketCompression.negotiate(null, 0, true));
+        assertEquals(PacketCompression.GZIP, PacketCompression.negotiate(List.of(1), checksum, true));
+    }
+
+    @Test
+    void testSmallPacketsAreNotCompressed() {
+        assertFalse(CompressionPolicy.shouldCompress(PacketCommand.CHAT, CompressionPolicy.MIN_SIZE - 1));
+        assertTrue(CompressionPolicy.shouldCompress(PacketCommand.CHAT, CompressionPolicy.MIN_SIZE));
+    }
+
+    @Test
+    void testIncompressiblePacketsAreProbedOnly() {
+        for (int i = 0; i < 20; i++) {
+            CompressionPolicy.record(PacketCommand.SENDING_BOARD, 1000, 1000);
+        }
+        int compressed = 0;
+        for (int i = 0; i < CompressionPolicy.PROBE_INTERVAL * 2; i++) {
+            if (CompressionPolicy.shouldCompress(PacketCommand.SENDING_BOARD, 1000)) {
+                compressed++;
+            }
+        }
+        assertEquals(2, compressed);
+        assertTrue(CompressionPolicy.shouldCompress(PacketCommand.SENDING_ENTITIES, 1000));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import megamek.common.net.compression.PacketCompression;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.events.DisconnectedEvent;
+import megamek.common.net.events.PacketReceivedEvent;
+import megamek.common.net.listeners.ConnectionListener;
+import megamek.common.net.marshalling.PacketMarshallerFactory;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class NioTransportTest {
+
+    private ServerSocketChannel serverChannel;
+    private NioTransport transport;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (transport != null) {
+            transport.shutdown();
+        }
+        serverChannel.close();
+    }
+
+    @Test
+    void testReceivesFromDataStreamClient() throws Exception {
+        transport = new NioTransport(1, 1024 * 1024);
+        DataStreamConnection client = new DataStreamConnection("localhost", serverChannel.socket().getLocalPort(), 1);
+        assertTrue(client.open());
+        NioConnection server = transport.createConnection(serverChannel.accept(), 1);
+        BlockingQueue<Packet> received = new ArrayBlockingQueue<>(10);
+        server.addConnectionListener(new ConnectionListener() {
+            @Override
+            public void packetReceived(PacketReceivedEvent event) {
+                received.add(event.getPacket());
+            }
+        });
+        transport.register(server);
+
+        client.send(new Packet(PacketCommand.CHAT, "first"));
+        client.send(new Packet(PacketCommand.CHAT, "second"));
+
+        Packet first = received.poll(5, TimeUnit.SECONDS);
+        Packet second = received.poll(5, TimeUnit.SECONDS);
+        assertEquals("first", first.data()[0]);
+        assertEquals("second", second.data()[0]);
+        client.close();
+    }
+
+    @Test
+    void testSendsDataStreamFraming() throws Exception {
+        transport = new NioTransport(1, 1024 * 1024);
+        try (Socket client = new Socket("localhost", serverChannel.socket().getLocalPort())) {
+            NioConnection server = transport.createConnection(serverChannel.accept(), 1);
+            transport.register(server);
+
+            server.send(new Packet(PacketCommand.CHAT, "hello"));
+
+            DataInputStream in = new DataInputStream(client.getInputStream());
+            PacketCompression compression = PacketCompression.fromId(in.readUnsignedByte());
+            int marshallingType = in.readInt();
+            byte[] data = new byte[in.readInt()];
+            in.readFully(data);
+            Packet packet = PacketMarshallerFactory.getInstance().getMarshaller(marshallingType)
+                  .unmarshall(compression.decompress(data));
+            assertEquals(PacketCommand.CHAT, packet.command());
+            assertEquals("hello", packet.data()[0]);
+        }
+    }
+
+    @Test
+    void testSlowClientIsDisconnected() throws Exception {
+        transport = new NioTransport(1, 16);
+        try (Socket ignored = new Socket("localhost", serverChannel.socket().getLocalPort())) {
+            NioConnection server = transport.createConnection(serverChannel.accept(), 1);
+            CountDownLatch disconnected = new CountDownLatch(1);
+            server.addConnectionListener(new ConnectionListener() {
+                @Override
+                public void disconnected(DisconnectedEvent event) {
+                    disconnected.countDown();
+                }
+            });
+            transport.register(server);
+
+            server.send(new Packet(PacketCommand.CHAT, "more than sixteen bytes once marshalled"));
+
+            assertTrue(disconnected.await(5, TimeUnit.SECONDS));
+            assertTrue(server.isClosed());
+
+            // Later, smaller packets must not be sent to the client as if nothing had been lost
+            server.send(new Packet(PacketCommand.CHAT, "x"));
+            assertFalse(server.hasQueuedBytes());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.net.connections;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import megamek.common.net.compression.PacketCompression;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.marshalling.PacketMarshaller;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class PacketBroadcasterTest {
+
+    /** A connection that records the data it is asked to send instead of writing to a socket */
+    private static class RecordingConnection extends AbstractConnection {
+        private final List<byte[]> sent = new ArrayList<>();
+
+        RecordingConnection(int id) {
+            super("localhost", 0, id);
+        }
+
+        @Override
+        protected INetworkPacket readNetworkPacket() {
+            return null;
+        }
+
+        @Override
+        protected void sendNetworkPacket(byte[] data, PacketCompression compression) {
+            sent.add(data);
+        }
+    }
+
+    @Test
+    void testSameSettingsShareOneEncoding() {
+        RecordingConnection first = new RecordingConnection(1);
+        RecordingConnection second = new RecordingConnection(2);
+        RecordingConnection third = new RecordingConnection(3);
+        PacketBroadcaster.Statistics before = PacketBroadcaster.getStatistics();
+
+        PacketBroadcaster.send(Arrays.asList(first, null, second, third),
+              new Packet(PacketCommand.SERVER_GREETING, "greeting"));
+
+        assertEquals(1, first.sent.size());
+        assertSame(first.sent.get(0), second.sent.get(0));
+        assertSame(first.sent.get(0), third.sent.get(0));
+        assertEquals(first.sent.get(0).length, first.getBytesSent());
+        assertEquals(first.sent.get(0).length, third.getBytesSent());
+
+        PacketBroadcaster.Statistics after = PacketBroadcaster.getStatistics();
+        assertEquals(1, after.encodings() - before.encodings());
+        assertEquals(2, after.reusedSends() - before.reusedSends());
+        assertEquals(2L * first.sent.get(0).length, after.bytesReused() - before.bytesReused());
+    }
+
+    @Test
+    void testDifferentMarshallingIsEncodedSeparately() {
+        RecordingConnection nativeConnection = new RecordingConnection(1);
+        RecordingConnection compactConnection = new RecordingConnection(2);
+        compactConnection.setMarshallingType(PacketMarshaller.COMPACT_BINARY_MARSHALING);
+        Packet packet = new Packet(PacketCommand.SERVER_GREETING, "greeting");
+
+        PacketBroadcaster.send(List.of(nativeConnection, compactConnection), packet);
+
+        assertNotSame(nativeConnection.sent.get(0), compactConnection.sent.get(0));
+        RecordingConnection separate = new RecordingConnection(3);
+        separate.setMarshallingType(PacketMarshaller.COMPACT_BINARY_MARSHALING);
+        separate.send(packet);
+        assertArrayEquals(separate.sent.get(0), compactConnection.sent.get(0));
+    }
+}
@@ -0,0 +1,219 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.common.net.marshalling;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+
+import megamek.common.Hex;
+import megamek.common.Report;
+import megamek.common.board.Board;
+import megamek.common.board.BoardLocation;
+import megamek.common.board.Coords;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.Test;
+
+class CompactBinaryMarshallerTest {
+
+    private final CompactBinaryMarshaller compact = new CompactBinaryMarshaller();
+    private final NativeSerializationMarshaller nativeMarshaller = new NativeSerializationMarshaller();
+
+    private static byte[] marshall(PacketMarshaller marshaller, Packet packet) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        marshaller.marshall(packet, bos);
+        return bos.toByteArray();
+    }
+
+    private Packet roundTrip(Packet packet) throws Exception {
+        return compact.unmarshall(new ByteArrayInputStream(marshall(compact, packet)));
+    }
+
+    @Test
+    void testScalarsRoundTrip() throws Exception {
+        Packet result = roundTrip(new Packet(PacketCommand.CHAT, "Hello", -5, 1234567890123L, 2.5, true, null));
+
+        assertEquals(PacketCommand.CHAT, result.command());
+        assertEquals("Hello", result.getStringValue(0));
+        assertEquals(-5, result.getIntValue(1));
+        assertEquals(1234567890123L, result.getObject(2));
+        assertEquals(2.5, result.getObject(3));
+        assertTrue(result.getBooleanValue(4));
+        assertNull(result.getObject(5));
+    }
+
+    @Test
+    void testBoardPositionsRoundTrip() throws Exception {
+        Coords coords = new Coords(12, -3);
+        BoardLocation location = BoardLocation.of(new Coords(4, 7), 2);
+        Packet result = roundTrip(new Packet(PacketCommand.CHANGE_HEX, coords, location, BoardLocation.NO_LOCATION));
+
+        assertEquals(coords, result.getObject(0));
+        assertEquals(location, result.getObject(1));
+        assertSame(BoardLocation.NO_LOCATION, result.getObject(2));
+    }
+
+    @Test
+    void testCollectionTypesArePreserved() throws Exception {
+        Vector<Integer> vector = new Vector<>(List.of(1, 2, 3));
+        ArrayList<String> list = new ArrayList<>(List.of("a", "b"));
+        HashSet<Coords> set = new HashSet<>(Set.of(new Coords(1, 1), new Coords(2, 2)));
+        HashMap<Integer, Integer> map = new HashMap<>(Map.of(1, 10, 2, 20));
+        Packet result = roundTrip(new Packet(PacketCommand.UPDATE_CUT_HEXES, vector, list, set, map,
+              new int[] { 4, 5 }));
+
+        assertInstanceOf(Vector.class, result.getObject(0));
+        assertEquals(vector, result.getObject(0));
+        assertInstanceOf(ArrayList.class, result.getObject(1));
+        assertEquals(list, result.getObject(1));
+        assertEquals(set, result.getObject(2));
+        assertEquals(map, result.getIntMapToInt(3));
+        assertArrayEquals(new int[] { 4, 5 }, (int[]) result.getObject(4));
+    }
+
+    @Test
+    void testFallbackObjectsKeepSharedReferences() throws Exception {
+        Report report = new Report(1000);
+        report.add("tag");
+        Vector<Report> reports = new Vector<>(List.of(report));
+        Packet result = roundTrip(new Packet(PacketCommand.SENDING_REPORTS, reports, report));
+
+        Vector<?> resultReports = (Vector<?>) result.getObject(0);
+        assertEquals(1, resultReports.size());
+        assertSame(resultReports.get(0), result.getObject(1));
+        assertEquals(1000, ((Report) result.getObject(1)).messageId);
+    }
+
+    @Test
+    void testBoardHexesRoundTrip() throws Exception {
+        Board board = createBoard();
+        Packet result = roundTrip(new Packet(PacketCommand.SENDING_BOARD, board));
+
+        Board resultBoard = (Board) result.getObject(0);
+        assertEquals(board.getWidth(), resultBoard.getWidth());
+        assertEquals(board.getHeight(), resultBoard.getHeight());
+        for (int x = 0; x < board.getWidth(); x++) {
+            for (int y = 0; y < board.getHeight(); y++) {
+                Hex hex = board.getHex(x, y);
+                Hex resultHex = resultBoard.getHex(x, y);
+                assertEquals(hex.getCoords(), resultHex.getCoords());
+                assertEquals(hex.getLevel(), resultHex.getLevel());
+                assertEquals(hex.getTheme(), resultHex.getTheme());
+                assertEquals(hex.getFireTurn(), resultHex.getFireTurn());
+                assertArrayEquals(hex.getTerrainTypes(), resultHex.getTerrainTypes());
+                for (int type : hex.getTerrainTypes()) {
+                    assertEquals(hex.getTerrain(type), resultHex.getTerrain(type));
+                    assertEquals(hex.getTerrain(type).getExits(), resultHex.getTerrain(type).getExits());
+                    assertEquals(hex.getTerrain(type).getTerrainFactor(),
+                          resultHex.getTerrain(type).getTerrainFactor());
+                }
+            }
+        }
+        resultBoard.getHex(0, 0).resetTheme();
+        assertEquals("grass", resultBoard.getHex(0, 0).getTheme());
+    }
+
+    @Test
+    void testSmallerThanNativeForBoards() throws Exception {
+        Packet packet = new Packet(PacketCommand.SENDING_BOARD, createBoard());
+
+        assertTrue(marshall(compact, packet).length < marshall(nativeMarshaller, packet).length);
+    }
+
+    private static Board createBoard() {
+        int width = 16;
+        int height = 17;
+        Hex[] hexes = new Hex[width * height];
+        for (int i = 0; i < hexes.length; i++) {
+            Terrain[] terrains = (i % 3 == 0)
+                  ? new Terrain[] { new Terrain(Terrains.WOODS, 2), new Terrain(Terrains.ROAD, 1, true, 9) }
+                  : new Terrain[] { new Terrain(Terrains.WATER, i % 4) };
+            hexes[i] = new Hex(i % 5 - 2, terrains, (i == 0) ? "grass" : null, new Coords(i % width, i / width));
+        }
+        hexes[0].setTheme("snow");
+        hexes[1].incrementFireTurn();
+        hexes[2].getTerrain(Terrains.WATER).setTerrainFactor(7);
+        Board board = new Board();
+        board.newData(width, height, hexes, null);
+        return board;
+    }
+
+    @Test
+    void testNestedPacketsRoundTrip() throws Exception {
+        List<Packet> packets = new ArrayList<>(List.of(new Packet(PacketCommand.PHASE_CHANGE, 3),
+              new Packet(PacketCommand.CLOSE_CONNECTION)));
+        Packet result = roundTrip(new Packet(PacketCommand.MULTI_PACKET, packets));
+
+        List<?> resultPackets = (List<?>) result.getObject(0);
+        assertEquals(2, resultPackets.size());
+        assertEquals(PacketCommand.PHASE_CHANGE, ((Packet) resultPackets.get(0)).command());
+        assertEquals(3, ((Packet) resultPackets.get(0)).getIntValue(0));
+        assertEquals(PacketCommand.CLOSE_CONNECTION, ((Packet) resultPackets.get(1)).command());
+    }
+
+    @Test
+    void testSmallerThanNativeForValuePackets() throws Exception {
+        Packet packet = new Packet(PacketCommand.PHASE_CHANGE, 5, new Coords(3, 4), "Some chat");
+
+        assertTrue(marshall(compact, packet).length < marshall(nativeMarshaller, packet).length);
+    }
+
+    @Test
+    void testNegotiation() {
+        PacketMarshallerFactory factory = PacketMarshallerFactory.getInstance();
+
+        assertEquals(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING, factory.negotiate(null, true));
+        assertEquals(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING,
+              factory.negotiate(List.of(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING), true));
+        assertEquals(PacketMarshaller.NATIVE_SERIALIZATION_MARSHALING,
+              factory.negotiate(factory.getSupportedMarshallingTypes(), false));
+        assertEquals(PacketMarshaller.COMPACT_BINARY_MARSHALING,
+              factory.negotiate(factory.getSupportedMarshallingTypes(), true));
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class BuildingBlockTest {
+
+    private static final String BLOCK_FILE = """
+          # A comment
+          <UnitType>
+          Tank
+          </UnitType>\r
+          \r
+          <Name>
+          Test Tank
+          </name>
+          <armor>\r
+          10\r
+          12
+          </Armor>
+          <Empty>
+          </Empty>
+          <Name>
+          Second Name
+          </Name>
+          """;
+
+    @Test
+    void testReadsLinesWithoutBlanksAndComments() {
+        BuildingBlock block = readBlockFile();
+
+        assertEquals(15, block.getVector().size());
+        assertEquals("<UnitType>", block.getVector().get(0));
+        assertEquals("</UnitType>", block.getVector().get(2));
+    }
+
+    @Test
+    void testLookupIgnoresCaseAndUsesFirstTag() {
+        BuildingBlock block = readBlockFile();
+
+        assertEquals("Tank", block.getDataAsString("unittype")[0]);
+        assertEquals("Test Tank", block.getDataAsString("Name")[0]);
+        assertArrayEquals(new int[] { 10, 12 }, block.getDataAsInt("ARMOR"));
+        assertEquals(4, block.findStartIndex("Name"));
+        assertEquals(5, block.findEndIndex("Name"));
+    }
+
+    @Test
+    void testMissingAndEmptyBlocks() {
+        BuildingBlock block = readBlockFile();
+
+        assertFalse(block.exists("Model"));
+        assertEquals(-1, block.findStartIndex("Model"));
+        assertEquals(-1, block.findEndIndex("Model"));
+        assertTrue(block.exists("Empty"));
+        assertFalse(block.containsData("Empty"));
+    }
+
+    @Test
+    void testLookupSeesWrittenBlocks() {
+        BuildingBlock block = new BuildingBlock();
+        block.createNewBlock();
+        assertFalse(block.exists("Model"));
+
+        block.writeBlockData("Model", "Prime");
+
+        assertTrue(block.exists("Model"));
+        assertEquals("Prime", block.getDataAsString("Model")[0]);
+    }
+
+    @Test
+    void testBytesAndStreamGiveTheSameLines() {
+        byte[] data = BLOCK_FILE.getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(readBlockFile().getVector(), new BuildingBlock(data).getVector());
+    }
+
+    @Test
+    void testReadsCarriageReturnLineEndsAndNonAsciiText() {
+        byte[] data = "<Name>\r  Šárka Ünit \r\r# Ω comment\r</Name>".getBytes(StandardCharsets.UTF_8);
+        BuildingBlock block = new BuildingBlock(data);
+
+        assertEquals(List.of("<Name>", "Šárka Ünit", "</Name>"), block.getVector());
+        assertEquals("Šárka Ünit", block.getDataAsString("Name")[0]);
+    }
+
+    @Test
+    void testLookupSeesChangesToTheVector() {
+        BuildingBlock block = new BuildingBlock(BLOCK_FILE.getBytes(StandardCharsets.UTF_8));
+        assertFalse(block.exists("Model"));
+
+        block.getVector().addAll(List.of("<Model>", "Prime", "</Model>"));
+
+        assertEquals("Prime", block.getDataAsString("Model")[0]);
+    }
+
+    private static BuildingBlock readBlockFile() {
+        return new BuildingBlock(new ByteArrayInputStream(BLOCK_FILE.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.common.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+class DaemonWorkerPoolTest {
+
+    @Test
+    void testWorkersAreNamedDaemonThreads() throws Exception {
+        DaemonWorkerPool pool = new DaemonWorkerPool("Test Worker");
+        Thread worker = pool.get(2).submit(Thread::currentThread).get();
+        assertTrue(worker.isDaemon());
+        assertTrue(worker.getName().startsWith("Test Worker "));
+        pool.shutdown();
+    }
+
+    @Test
+    void testPoolIsCreatedOnceAndResized() {
+        DaemonWorkerPool pool = new DaemonWorkerPool("Test Worker");
+        assertEquals(0, pool.size());
+        ExecutorService executor = pool.get(2);
+        assertEquals(2, pool.size());
+        assertSame(executor, pool.get(4));
+        assertEquals(4, pool.size());
+        assertSame(executor, pool.get(1));
+        assertEquals(1, pool.size());
+        pool.shutdown();
+    }
+
+    @Test
+    void testZeroThreadsMeansOnePerProcessor() {
+        DaemonWorkerPool pool = new DaemonWorkerPool("Test Worker");
+        pool.get(0);
+        assertEquals(Runtime.getRuntime().availableProcessors(), pool.size());
+        pool.shutdown();
+    }
+
+    @Test
+    void testShutdownStopsThePoolAndAllowsANewOne() {
+        DaemonWorkerPool pool = new DaemonWorkerPool("Test Worker");
+        ExecutorService executor = pool.get(1);
+        pool.shutdown();
+        assertEquals(0, pool.size());
+        assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {}));
+        assertNotSame(executor, pool.get(1));
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import megamek.common.equipment.EquipmentType;
+import megamek.common.force.Forces;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import megamek.common.units.AeroSpaceFighter;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Entity;
+import megamek.common.units.EntityStateChecksum;
+import megamek.common.units.Mek;
+import megamek.common.units.Tank;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class EntityDeltaTrackerTest {
+
+    private EntityDeltaTracker tracker;
+    private BipedMek mek1;
+    private BipedMek mek2;
+    private List<Entity> entities;
+
+    @BeforeAll
+    static void beforeAll() {
+        EquipmentType.initializeTypes();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        tracker = new EntityDeltaTracker();
+        mek1 = new BipedMek();
+        mek1.setId(1);
+        mek2 = new BipedMek();
+        mek2.setId(2);
+        entities = List.of(mek1, mek2);
+    }
+
+    private Packet createPacket(int playerId, List<Entity> entities) {
+        tracker.updateVersions(entities);
+        return tracker.createEntitiesPacket(playerId, entities, List.of(), new Forces(null));
+    }
+
+    @Test
+    void testFirstListIsFull() {
+        assertEquals(PacketCommand.SENDING_ENTITIES, createPacket(0, entities).command());
+    }
+
+    @Test
+    void testUnchangedEntitiesAreNotResent() throws Exception {
+        createPacket(0, entities);
+        Packet delta = createPacket(0, entities);
+
+        assertEquals(PacketCommand.SENDING_ENTITIES_DELTA, delta.command());
+        assertEquals(List.of(1, 2), delta.getIntList(0));
+        assertTrue(delta.getEntityList(1).isEmpty());
+        assertEquals(EntityStateChecksum.of(entities), delta.getIntValue(4));
+    }
+
+    @Test
+    void testDamagedEntityIsResent() throws Exception {
+        createPacket(0, entities);
+        mek2.setArmor(mek2.getArmor(Mek.LOC_CENTER_TORSO) + 5, Mek.LOC_CENTER_TORSO);
+        Packet delta = createPacket(0, entities);
+
+        assertEquals(List.of(mek2), delta.getEntityList(1));
+        assertEquals(EntityStateChecksum.of(entities), delta.getIntValue(4));
+    }
+
+    @Test
+    void testTankStunAndDigInAreResent() throws Exception {
+        Tank tank = new Tank();
+        tank.setId(3);
+        List<Entity> units = List.of(mek1, tank);
+        createPacket(0, units);
+
+        tank.setStunnedTurns(2);
+        assertEquals(List.of(tank), createPacket(0, units).getEntityList(1));
+        tank.setDugIn(Tank.DUG_IN_FORTIFYING1);
+        assertEquals(List.of(tank), createPacket(0, units).getEntityList(1));
+        assertTrue(createPacket(0, units).getEntityList(1).isEmpty());
+    }
+
+    @Test
+    void testAeroVelocityRecoveryAndControlAreResent() throws Exception {
+        AeroSpaceFighter fighter = new AeroSpaceFighter();
+        fighter.setId(3);
+        List<Entity> units = List.of(mek1, fighter);
+        createPacket(0, units);
+
+        fighter.setCurrentVelocity(4);
+        assertEquals(List.of(fighter), createPacket(0, units).getEntityList(1));
+        fighter.setNextVelocity(5);
+        assertEquals(List.of(fighter), createPacket(0, units).getEntityList(1));
+        fighter.setRecoveryTurn(2);
+        assertEquals(List.of(fighter), createPacket(0, units).getEntityList(1));
+        fighter.setOutControl(true);
+        assertEquals(List.of(fighter), createPacket(0, units).getEntityList(1));
+        assertTrue(createPacket(0, units).getEntityList(1).isEmpty());
+    }
+
+    @Test
+    void testHiddenAndDoneFlagsAreResent() throws Exception {
+        createPacket(0, entities);
+
+        mek1.setHidden(true);
+        assertEquals(List.of(mek1), createPacket(0, entities).getEntityList(1));
+        mek2.setDone(true);
+        assertEquals(List.of(mek2), createPacket(0, entities).getEntityList(1));
+        assertTrue(createPacket(0, entities).getEntityList(1).isEmpty());
+    }
+
+    @Test
+    void testBaselinesArePerPlayer() {
+        createPacket(0, entities);
+
+        assertEquals(PacketCommand.SENDING_ENTITIES, createPacket(1, entities).command());
+        assertEquals(PacketCommand.SENDING_ENTITIES_DELTA, createPacket(0, entities).command());
+    }
+
+    @Test
+    void testInvalidateForcesFullList() {
+        createPacket(0, entities);
+        tracker.invalidate(0);
+
+        assertEquals(PacketCommand.SENDING_ENTITIES, createPacket(0, entities).command());
+    }
+
+    @Test
+    void testVersionsAreSharedByAllPlayers() throws Exception {
+        createPacket(0, entities);
+        createPacket(1, entities);
+        mek1.setHidden(true);
+        tracker.updateVersions(entities);
+
+        Packet first = tracker.createEntitiesPacket(0, entities, List.of(), new Forces(null));
+        Packet second = tracker.createEntitiesPacket(1, List.of(mek1), List.of(), new Forces(null));
+
+        assertEquals(List.of(mek1), first.getEntityList(1));
+        assertEquals(List.of(mek1), second.getEntityList(1));
+    }
+
+    @Test
+    void testEntityUnknownToUpdateIsResent() throws Exception {
+        createPacket(0, entities);
+        BipedMek mek3 = new BipedMek();
+        mek3.setId(3);
+        List<Entity> units = List.of(mek1, mek2, mek3);
+        tracker.createEntitiesPacket(0, units, List.of(), new Forces(null));
+
+        assertEquals(List.of(mek3),
+              tracker.createEntitiesPacket(0, units, List.of(), new Forces(null)).getEntityList(1));
+    }
+
+    @Test
+    void testInvalidateAllForcesFullBroadcast() {
+        createPacket(EntityDeltaTracker.ALL_PLAYERS, entities);
+        tracker.invalidateAll();
+
+        assertEquals(PacketCommand.SENDING_ENTITIES,
+              createPacket(EntityDeltaTracker.ALL_PLAYERS, entities).command());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (C) 2024-2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import megamek.common.Player;
+import megamek.common.net.enums.PacketCommand;
+import megamek.common.net.packets.Packet;
+import org.junit.jupiter.api.Test;
+
+class PerPlayerPacketSenderTest {
+
+    private final List<Player> players = List.of(new Player(0, "A"), new Player(1, "B"), new Player(2, "C"),
+          new Player(3, "D"));
+
+    private Map<Integer, Packet> sendToEach(PerPlayerPacketSender sender) {
+        Map<Integer, Packet> sent = new ConcurrentHashMap<>();
+        sender.sendToEach(players, player -> new Packet(PacketCommand.SENDING_REPORTS, player.getName()), sent::put);
+        return sent;
+    }
+
+    @Test
+    void testSequentialSendsOnePacketPerPlayer() {
+        Map<Integer, Packet> sent = sendToEach(new PerPlayerPacketSender(() -> false, () -> 0));
+        assertEquals(players.size(), sent.size());
+        for (Player player : players) {
+            assertEquals(player.getName(), sent.get(player.getId()).data()[0]);
+        }
+    }
+
+    @Test
+    void testParallelSendsOnePacketPerPlayerBeforeReturning() {
+        Map<Integer, Packet> sent = sendToEach(new PerPlayerPacketSender(() -> true, () -> 2));
+        assertEquals(players.size(), sent.size());
+        for (Player player : players) {
+            assertEquals(player.getName(), sent.get(player.getId()).data()[0]);
+        }
+    }
+
+    @Test
+    void testSequentialPassesOnFailedPlayer() {
+        PerPlayerPacketSender sender = new PerPlayerPacketSender(() -> false, () -> 0);
+        assertThrows(IllegalStateException.class, () -> sendFailingForPlayer(sender, new ArrayList<>()));
+    }
+
+    @Test
+    void testParallelPassesOnFailedPlayerAfterServingTheOthers() {
+        List<Integer> sent = new ArrayList<>();
+        PerPlayerPacketSender sender = new PerPlayerPacketSender(() -> true, () -> 2);
+        IllegalStateException ex = assertThrows(IllegalStateException.class,
+              () -> sendFailingForPlayer(sender, sent));
+        assertEquals("Test", ex.getMessage());
+        assertEquals(players.size() - 1, sent.size());
+        assertFalse(sent.contains(1));
+    }
+
+    private void sendFailingForPlayer(PerPlayerPacketSender sender, List<Integer> sent) {
+        sender.sendToEach(players, player -> {
+            if (player.getId() == 1) {
+                throw new IllegalStateException("Test");
+            }
+            return new Packet(PacketCommand.SENDING_REPORTS, player.getName());
+        }, (id, packet) -> {
+            synchronized (sent) {
+                sent.add(id);
+            }
+        });
+    }
+}
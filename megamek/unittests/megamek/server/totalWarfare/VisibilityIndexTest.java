@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2025 The MegaMek Team. All Rights Reserved.
+ *
+ * This file is part of MegaMek.
+ *
+ * MegaMek is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU General Public License (GPL),
+ * version 3 or (at your option) any later version,
+ * as published by the Free Software Foundation.
+ *
+ * MegaMek is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.
+ * See the GNU General Public License for more details.
+ *
+ * A copy of the GPL should have been included with this project;
+ * if not, see <https://www.gnu.org/licenses/>.
+ *
+ * NOTICE: The MegaMek organization is a non-profit group of volunteers
+ * creating free software for the BattleTech community.
+ *
+ * MechWarrior, BattleMech, `Mech and AeroTech are registered trademarks
+ * of The Topps Company, Inc. All Rights Reserved.
+ *
+ * Catalyst Game Labs and the Catalyst Game Labs logo are trademarks of
+ * InMediaRes Productions, LLC.
+ *
+ * MechWarrior Copyright Microsoft Corporation. MegaMek was created under
+ * Microsoft's "Game Content Usage Rules"
+ * <https://www.xbox.com/en-US/developers/rules> and it is not endorsed by or
+ * affiliated with Microsoft.
+ */
+
+package megamek.server.totalWarfare;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import megamek.common.GameBoardTestCase;
+import megamek.common.Hex;
+import megamek.common.LosEffects;
+import megamek.common.board.Coords;
+import megamek.common.units.BipedMek;
+import megamek.common.units.Dropship;
+import megamek.common.units.Mek;
+import megamek.common.units.Terrain;
+import megamek.common.units.Terrains;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class VisibilityIndexTest extends GameBoardTestCase {
+
+    static {
+        initializeBoard("VISIBILITY_INDEX_01_BY_05", """
+              size 1 5
+              hex 0101 0 "" ""
+              hex 0102 0 "" ""
+              hex 0103 0 "" ""
+              hex 0104 0 "" ""
+              hex 0105 0 "" ""
+              end"""
+        );
+    }
+
+    private VisibilityIndex index;
+    private Mek spotter;
+    private Mek target;
+
+    @BeforeEach
+    void setUp() {
+        setBoard("VISIBILITY_INDEX_01_BY_05");
+        getGame().getBoard().getLosCache().clear();
+        index = new VisibilityIndex();
+        spotter = createMek(1, new Coords(0, 0));
+        target = createMek(2, new Coords(0, 4));
+    }
+
+    private Mek createMek(int id, Coords position) {
+        Mek mek = new BipedMek();
+        mek.setId(id);
+        mek.setWeight(50.0);
+        getGame().addEntity(mek);
+        mek.setPosition(position);
+        return mek;
+    }
+
+    @Test
+    void testUnchangedPairIsReused() {
+        LosEffects first = index.getLos(getGame(), spotter, target);
+        assertSame(first, index.getLos(getGame(), spotter, target));
+        assertTrue(first.canSee());
+    }
+
+    @Test
+    void testMovedTargetIsNoticed() {
+        LosEffects first = index.getLos(getGame(), spotter, target);
+        target.setPosition(new Coords(0, 3));
+        assertNotSame(first, index.getLos(getGame(), spotter, target));
+    }
+
+    @Test
+    void testHexChangedInPlaceIsNoticed() {
+        Hex hex = getGame().getBoard().getHex(new Coords(0, 2));
+        assertTrue(index.getLos(getGame(), spotter, target).canSee());
+        try {
+            hex.addTerrain(new Terrain(Terrains.SCREEN, 1));
+            assertFalse(index.getLos(getGame(), spotter, target).canSee());
+        } finally {
+            hex.removeTerrain(Terrains.SCREEN);
+        }
+        assertTrue(index.getLos(getGame(), spotter, target).canSee());
+    }
+
+    @Test
+    void testReplacedHexIsNoticed() {
+        Coords coords = new Coords(0, 2);
+        Hex original = getGame().getBoard().getHex(coords);
+        assertTrue(index.getLos(getGame(), spotter, target).canSee());
+        try {
+            getGame().getBoard().setHex(coords, new Hex(0, "screen:1", ""));
+            assertFalse(index.getLos(getGame(), spotter, target).canSee());
+        } finally {
+            getGame().getBoard().setHex(coords, original);
+        }
+    }
+
+    @Test
+    void testRemovedEntityIsDropped() {
+        LosEffects first = index.getLos(getGame(), spotter, target);
+        index.invalidateEntity(target.getId());
+        assertNotSame(first, index.getLos(getGame(), spotter, target));
+    }
+
+    @Test
+    void testStateChangesWithEqualHashesAreNoticed() {
+        LosEffects first = index.getLos(getGame(), spotter, target);
+        // These changes cancel out in a 31-based hash of elevation and altitude
+        target.setElevation(target.getElevation() + 1);
+        target.setAltitude(target.getAltitude() - 31);
+        assertNotSame(first, index.getLos(getGame(), spotter, target));
+    }
+
+    @Test
+    void testGroundedDropshipIsNoticed() {
+        assertTrue(index.getLos(getGame(), spotter, target).canSee());
+        Dropship dropship = new Dropship();
+        dropship.setId(3);
+        getGame().addEntity(dropship);
+        dropship.setAltitude(0);
+        dropship.setDeployed(true);
+        dropship.setPosition(new Coords(0, 2));
+        assertFalse(index.getLos(getGame(), spotter, target).canSee());
+    }
+}